@@ -22,9 +22,18 @@ repositories {
     mavenCentral()
 }
 
+// JMH benchmarks (src/jmh/java) - run with ./gradlew jmh
+sourceSets {
+    create("jmh") {
+        compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+        runtimeClasspath += output + compileClasspath
+    }
+}
+
 // Dependencies are managed with Gradle version catalog - read more: https://docs.gradle.org/current/userguide/platforms.html#sub:version-catalog
 dependencies {
 //    implementation(libs.annotations)
+    implementation(project(":core"))
     implementation(libs.hutool)
     implementation(libs.dataformat)
     implementation(libs.jsonpath)
@@ -32,6 +41,11 @@ dependencies {
     implementation(libs.toml4j)
     implementation(libs.tnjson)
     implementation(libs.jmespath)
+
+    testImplementation(libs.junit)
+
+    "jmhImplementation"(libs.jmh.core)
+    "jmhAnnotationProcessor"(libs.jmh.generator)
 }
 
 // Set the JVM language level used to build the project. Use Java 11 for 2020.3+, and Java 17 for 2022.2+.
@@ -90,6 +104,24 @@ tasks {
         options.encoding = "UTF-8"
     }
 
+    // Run benchmarks with the GC profiler, e.g. ./gradlew jmh -PjmhIncludes=JsonUtilBenchmark -PjmhArgs="-p size=200MB"
+    register<JavaExec>("jmh") {
+        group = "benchmark"
+        description = "Runs the JMH benchmarks and writes a JSON report to build/reports/jmh."
+        dependsOn("jmhClasses")
+
+        val reportFile = layout.buildDirectory.file("reports/jmh/results.json")
+        classpath = sourceSets["jmh"].runtimeClasspath
+        mainClass.set("org.openjdk.jmh.Main")
+        args(listOf("-prof", "gc", "-rf", "json", "-rff", reportFile.get().asFile.absolutePath))
+        properties("jmhArgs").orNull?.let { args(it.split(' ').filter(String::isNotEmpty)) }
+        properties("jmhIncludes").orNull?.let { args(it) }
+
+        doFirst {
+            reportFile.get().asFile.parentFile.mkdirs()
+        }
+    }
+
     patchPluginXml {
         version = properties("pluginVersion")
         sinceBuild = properties("pluginSinceBuild")
@@ -0,0 +1,37 @@
+// Batch CLI on top of the core engine - e.g. ./gradlew :cli:installDist, then
+// cli/build/install/json-assistant/bin/json-assistant beautify --jobs 8 fixtures/
+plugins {
+    application
+}
+
+group = providers.gradleProperty("pluginGroup").get()
+version = providers.gradleProperty("pluginVersion").get()
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    implementation(project(":core"))
+    implementation(libs.gson)
+    implementation(libs.snakeyaml)
+
+    compileOnly(libs.annotations)
+
+    testImplementation(libs.junit)
+}
+
+java {
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(11))
+    }
+}
+
+application {
+    applicationName = "json-assistant"
+    mainClass.set("cn.memoryzy.json.cli.JsonAssistantCli")
+}
+
+tasks.withType<JavaCompile> {
+    options.encoding = "UTF-8"
+}
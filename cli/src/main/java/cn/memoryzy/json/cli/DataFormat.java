@@ -0,0 +1,123 @@
+package cn.memoryzy.json.cli;
+
+import cn.memoryzy.json.util.*;
+
+import java.util.Locale;
+
+/**
+ * CLI 支持的数据格式，按扩展名识别
+ *
+ * @author Memory
+ * @since 2025/3/23
+ */
+public enum DataFormat {
+
+    JSON("json"),
+    JSON5("json5"),
+    XML("xml"),
+    YAML("yaml", "yml"),
+    TOML("toml"),
+    PROPERTIES("properties"),
+    URL_PARAM("txt");
+
+    private final String[] extensions;
+
+    DataFormat(String... extensions) {
+        this.extensions = extensions;
+    }
+
+    public String getExtension() {
+        return extensions[0];
+    }
+
+    /**
+     * 将该格式的文本转换为 Json
+     *
+     * @param text 文本
+     * @return Json 文本，无法转换时返回 null
+     */
+    public String toJson(String text) {
+        switch (this) {
+            case JSON:
+                return JsonUtil.formatJson(text);
+            case JSON5:
+                return Json5Util.convertJson5ToJson(text);
+            case XML:
+                return XmlUtil.toJson(text);
+            case YAML:
+                return YamlUtil.toJson(text);
+            case TOML:
+                return TomlUtil.toJson(text);
+            case PROPERTIES:
+                return DataConverter.propertiesToJson(text);
+            default:
+                return DataConverter.urlParamsToJson(text.trim());
+        }
+    }
+
+    /**
+     * 将 Json（或 Json5）文本转换为该格式
+     *
+     * @param json   Json 文本
+     * @param isJson 是否为 Json，否则为 Json5
+     * @return 转换结果
+     * @throws Exception 转换失败
+     */
+    public String fromJson(String json, boolean isJson) throws Exception {
+        switch (this) {
+            case JSON:
+                return isJson ? JsonUtil.formatJson(json) : Json5Util.convertJson5ToJson(json);
+            case JSON5:
+                return isJson ? Json5Util.convertJsonToJson5(json) : Json5Util.formatJson5(json);
+            case XML:
+                return XmlUtil.toXml(json, isJson);
+            case YAML:
+                return YamlUtil.toYaml(json, isJson);
+            case TOML:
+                return TomlUtil.toToml(json, isJson);
+            case PROPERTIES:
+                return DataConverter.jsonToProperties(json, isJson);
+            default:
+                return DataConverter.jsonToUrlParams(json, isJson);
+        }
+    }
+
+    public static DataFormat of(String name) {
+        String text = name.toLowerCase(Locale.ROOT).replace("-", "").replace("_", "");
+        for (DataFormat format : values()) {
+            if (format.name().toLowerCase(Locale.ROOT).replace("_", "").equals(text)) {
+                return format;
+            }
+        }
+
+        for (DataFormat format : values()) {
+            for (String extension : format.extensions) {
+                if (extension.equals(text)) {
+                    return format;
+                }
+            }
+        }
+
+        throw new IllegalArgumentException("Unknown format: " + name);
+    }
+
+    /**
+     * 根据文件名识别格式
+     *
+     * @param fileName 文件名
+     * @return 格式，无法识别时返回 null
+     */
+    public static DataFormat ofFileName(String fileName) {
+        String lowerName = fileName.toLowerCase(Locale.ROOT);
+        for (DataFormat format : values()) {
+            for (String extension : format.extensions) {
+                if (lowerName.endsWith("." + extension)) {
+                    return format;
+                }
+            }
+        }
+
+        return null;
+    }
+
+}
@@ -0,0 +1,329 @@
+package cn.memoryzy.json.cli;
+
+import cn.memoryzy.json.model.jsonpath.EvaluateResult;
+import cn.memoryzy.json.model.jsonpath.ResultString;
+import cn.memoryzy.json.util.JmesPathEvaluator;
+import cn.memoryzy.json.util.JsonPathEvaluator;
+import cn.memoryzy.json.util.JsonUtil;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 批处理命令行：使用与插件相同的核心引擎，对大量文件并行执行格式化、压缩、转换或查询
+ *
+ * @author Memory
+ * @since 2025/3/23
+ */
+public class JsonAssistantCli {
+
+    private static final String USAGE = String.join(System.lineSeparator(),
+            "Usage: json-assistant <beautify|minify|convert|query> [options] <file|dir>...",
+            "",
+            "Options:",
+            "  -j, --jobs <n>          worker threads (default: available processors)",
+            "  -o, --output <dir>      output directory, keeps paths relative to each input directory",
+            "                          (default: beautify/minify in place, convert next to the input, query to stdout)",
+            "  -t, --to <format>       convert target: json, json5, xml, yaml, toml, properties, urlparam",
+            "  -e, --expression <expr> query expression",
+            "  -s, --schema <schema>   query language: jsonpath (default) or jmespath",
+            "  -g, --glob <pattern>    file name filter when walking directories (default: *.json for",
+            "                          beautify/minify/query, *.{json,json5} or the non-JSON formats for convert)",
+            "  -h, --help              print this help");
+
+    private final Command command;
+    private final List<Path> inputs = new ArrayList<>();
+    private int jobs = Runtime.getRuntime().availableProcessors();
+    private Path output;
+    private DataFormat target;
+    private String expression;
+    private boolean jmesPath;
+    private String glob;
+
+    enum Command {
+        BEAUTIFY, MINIFY, CONVERT, QUERY
+    }
+
+    private JsonAssistantCli(Command command) {
+        this.command = command;
+    }
+
+    public static void main(String[] args) {
+        List<String> argList = Arrays.asList(args);
+        if (argList.isEmpty() || argList.contains("-h") || argList.contains("--help")) {
+            System.out.println(USAGE);
+            System.exit(argList.isEmpty() ? 2 : 0);
+        }
+
+        int exitCode;
+        try {
+            exitCode = parse(args).run(System.out, System.err);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            exitCode = 2;
+        }
+
+        System.exit(exitCode);
+    }
+
+    static JsonAssistantCli parse(String[] args) {
+        Command command;
+        try {
+            command = Command.valueOf(args[0].toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown command: " + args[0]);
+        }
+
+        JsonAssistantCli cli = new JsonAssistantCli(command);
+        for (int i = 1; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+                case "-j":
+                case "--jobs":
+                    cli.jobs = Integer.parseInt(value(args, ++i, arg));
+                    if (cli.jobs < 1) throw new IllegalArgumentException("--jobs must be at least 1");
+                    break;
+                case "-o":
+                case "--output":
+                    cli.output = Paths.get(value(args, ++i, arg));
+                    break;
+                case "-t":
+                case "--to":
+                    cli.target = DataFormat.of(value(args, ++i, arg));
+                    break;
+                case "-e":
+                case "--expression":
+                    cli.expression = value(args, ++i, arg);
+                    break;
+                case "-s":
+                case "--schema":
+                    String schema = value(args, ++i, arg);
+                    if (!"jsonpath".equalsIgnoreCase(schema) && !"jmespath".equalsIgnoreCase(schema)) {
+                        throw new IllegalArgumentException("Unknown schema: " + schema);
+                    }
+                    cli.jmesPath = "jmespath".equalsIgnoreCase(schema);
+                    break;
+                case "-g":
+                case "--glob":
+                    cli.glob = value(args, ++i, arg);
+                    break;
+                default:
+                    if (arg.startsWith("-")) throw new IllegalArgumentException("Unknown option: " + arg);
+                    cli.inputs.add(Paths.get(arg));
+                    break;
+            }
+        }
+
+        if (cli.inputs.isEmpty()) throw new IllegalArgumentException("No input files");
+        if (command == Command.CONVERT && cli.target == null) throw new IllegalArgumentException("convert requires --to");
+        if (command == Command.QUERY && cli.expression == null) throw new IllegalArgumentException("query requires --expression");
+        return cli;
+    }
+
+    private static String value(String[] args, int index, String option) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + option);
+        }
+        return args[index];
+    }
+
+    /**
+     * 并行处理所有文件，结果按输入顺序输出
+     *
+     * @return 退出码，全部成功为 0
+     */
+    int run(PrintStream out, PrintStream err) {
+        List<Path[]> files;
+        try {
+            files = collectFiles();
+        } catch (IOException e) {
+            err.println("Failed to list input files: " + e.getMessage());
+            return 1;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(jobs, Math.max(1, files.size())));
+        try {
+            List<Future<String>> futures = new ArrayList<>(files.size());
+            for (Path[] file : files) {
+                futures.add(executor.submit(() -> process(file[0], file[1])));
+            }
+
+            int failures = 0;
+            for (int i = 0; i < futures.size(); i++) {
+                Path file = files.get(i)[1];
+                try {
+                    String result = futures.get(i).get();
+                    if (result != null) {
+                        out.println("== " + file);
+                        out.println(result);
+                    }
+                } catch (Exception e) {
+                    failures++;
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    err.println(file + ": " + cause.getMessage());
+                }
+            }
+
+            err.printf("Processed %d file(s), %d failed%n", files.size(), failures);
+            return failures == 0 ? 0 : 1;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 展开输入目录
+     *
+     * @return [输入根目录, 文件] 列表
+     */
+    private List<Path[]> collectFiles() throws IOException {
+        PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + (glob != null ? glob : defaultGlob()));
+        List<Path[]> files = new ArrayList<>();
+        for (Path input : inputs) {
+            if (Files.isDirectory(input)) {
+                try (Stream<Path> stream = Files.walk(input)) {
+                    List<Path> matched = stream
+                            .filter(Files::isRegularFile)
+                            .filter(path -> matcher.matches(path.getFileName()))
+                            .sorted()
+                            .collect(Collectors.toList());
+                    for (Path path : matched) {
+                        files.add(new Path[]{input, path});
+                    }
+                }
+            } else if (Files.isRegularFile(input)) {
+                files.add(new Path[]{input.toAbsolutePath().getParent(), input});
+            } else {
+                throw new IOException("No such file or directory: " + input);
+            }
+        }
+
+        return files;
+    }
+
+    private String defaultGlob() {
+        if (command != Command.CONVERT) {
+            return "*.json";
+        }
+
+        return target == DataFormat.JSON
+                ? "*.{json5,xml,yaml,yml,toml,properties}"
+                : "*.{json,json5}";
+    }
+
+    /**
+     * 处理单个文件
+     *
+     * @return 需要打印到标准输出的内容，写入文件时返回 null
+     */
+    private String process(Path root, Path file) throws Exception {
+        switch (command) {
+            case BEAUTIFY:
+            case MINIFY:
+                transfer(root, file);
+                return null;
+            case CONVERT:
+                return convert(root, file);
+            default:
+                return query(root, file);
+        }
+    }
+
+    /**
+     * 格式化/压缩采用流式读写，不把整个文件读入内存
+     */
+    private void transfer(Path root, Path file) throws IOException {
+        Path destination = output != null ? resolveOutput(root, file, null) : file;
+        Path temp = Files.createTempFile(destination.toAbsolutePath().getParent(), ".json-assistant", ".tmp");
+        try {
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+                 Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                JsonUtil.transferJson(reader, writer, command == Command.BEAUTIFY);
+            }
+
+            Files.move(temp, destination, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private String convert(Path root, Path file) throws Exception {
+        DataFormat source = DataFormat.ofFileName(file.getFileName().toString());
+        if (source == null) {
+            throw new IllegalArgumentException("Unrecognized file type");
+        }
+
+        String text = Files.readString(file, StandardCharsets.UTF_8);
+        String result;
+        if (source == DataFormat.JSON || source == DataFormat.JSON5) {
+            result = target.fromJson(text, source == DataFormat.JSON);
+        } else if (target == DataFormat.JSON) {
+            result = source.toJson(text);
+        } else {
+            result = target.fromJson(source.toJson(text), true);
+        }
+
+        if (result == null) {
+            throw new IllegalArgumentException("Cannot convert " + source + " to " + target);
+        }
+
+        write(resolveOutput(root, file, target.getExtension()), result);
+        return null;
+    }
+
+    private String query(Path root, Path file) throws IOException {
+        String text = Files.readString(file, StandardCharsets.UTF_8);
+        EvaluateResult result = jmesPath
+                ? JmesPathEvaluator.evaluate(expression, text)
+                : JsonPathEvaluator.evaluate(expression, text);
+
+        if (!(result instanceof ResultString)) {
+            throw new IllegalArgumentException(result.getMessage());
+        }
+
+        if (output == null) {
+            return result.getMessage();
+        }
+
+        write(resolveOutput(root, file, "result.json"), result.getMessage());
+        return null;
+    }
+
+    /**
+     * 计算输出路径：有输出目录时保持相对路径，否则写在输入文件旁
+     *
+     * @param extension 新扩展名，为 null 时保留原文件名
+     */
+    private Path resolveOutput(Path root, Path file, String extension) throws IOException {
+        Path destination = output != null ? output.resolve(root.toAbsolutePath().relativize(file.toAbsolutePath())) : file;
+        if (extension != null) {
+            String name = destination.getFileName().toString();
+            int dot = name.lastIndexOf('.');
+            destination = destination.resolveSibling((dot > 0 ? name.substring(0, dot) : name) + "." + extension);
+        }
+
+        Path parent = destination.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        return destination;
+    }
+
+    private static void write(Path destination, String content) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(destination, StandardCharsets.UTF_8)) {
+            writer.write(content);
+        }
+    }
+
+}
@@ -0,0 +1,103 @@
+package cn.memoryzy.json.cli;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Memory
+ * @since 2025/4/14
+ */
+public class JsonAssistantCliTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void commandIsCaseInsensitive() {
+        assertNotNull(JsonAssistantCli.parse(new String[]{"BeAutify", "a.json"}));
+    }
+
+    @Test
+    public void rejectsUnknownCommandAndOption() {
+        assertMessage("Unknown command: format", "format", "a.json");
+        assertMessage("Unknown option: --pretty", "beautify", "--pretty", "a.json");
+    }
+
+    @Test
+    public void rejectsMissingOrInvalidValues() {
+        assertMessage("Missing value for --jobs", "minify", "a.json", "--jobs");
+        assertMessage("--jobs must be at least 1", "minify", "-j", "0", "a.json");
+        assertThrows(NumberFormatException.class, () -> JsonAssistantCli.parse(new String[]{"minify", "-j", "two", "a.json"}));
+        assertMessage("Unknown schema: xpath", "query", "-e", "$.a", "-s", "xpath", "a.json");
+        assertMessage("Unknown format: csv", "convert", "--to", "csv", "a.json");
+    }
+
+    @Test
+    public void rejectsIncompleteCommands() {
+        assertMessage("No input files", "beautify", "-j", "2");
+        assertMessage("convert requires --to", "convert", "a.json");
+        assertMessage("query requires --expression", "query", "--schema", "jmespath", "a.json");
+    }
+
+    @Test
+    public void acceptsShortAndLongOptions() {
+        assertNotNull(JsonAssistantCli.parse(new String[]{"convert", "-t", "yml", "-o", "out", "-g", "*.json", "a.json", "b.json"}));
+        assertNotNull(JsonAssistantCli.parse(new String[]{"query", "--expression", "a.b", "--schema", "JMESPath", "--jobs", "4", "dir"}));
+    }
+
+    @Test
+    public void minifiesDirectoryIntoOutputKeepingRelativePaths() throws IOException {
+        Path input = folder.newFolder("input").toPath();
+        Files.createDirectories(input.resolve("nested"));
+        Files.writeString(input.resolve("a.json"), "{ \"a\" : 1 }");
+        Files.writeString(input.resolve("nested/b.json"), "[ 1, 2 ]");
+        Files.writeString(input.resolve("c.txt"), "not json");
+        Path output = folder.getRoot().toPath().resolve("output");
+
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        int exitCode = JsonAssistantCli.parse(new String[]{"minify", "-j", "2", "-o", output.toString(), input.toString()})
+                .run(new PrintStream(new ByteArrayOutputStream()), new PrintStream(err, true, StandardCharsets.UTF_8));
+
+        assertEquals(0, exitCode);
+        assertEquals("{\"a\":1}", Files.readString(output.resolve("a.json")));
+        assertEquals("[1,2]", Files.readString(output.resolve("nested/b.json")));
+        assertFalse(Files.exists(output.resolve("c.txt")));
+        assertEquals("{ \"a\" : 1 }", Files.readString(input.resolve("a.json")));
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains("Processed 2 file(s), 0 failed"));
+    }
+
+    @Test
+    public void reportsFailedFilesAndKeepsThemUntouched() throws IOException {
+        Path input = folder.newFolder("broken").toPath();
+        Files.writeString(input.resolve("ok.json"), "[ 1 ]");
+        Files.writeString(input.resolve("bad.json"), "{ \"a\" : ");
+
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        int exitCode = JsonAssistantCli.parse(new String[]{"minify", input.toString()})
+                .run(new PrintStream(new ByteArrayOutputStream()), new PrintStream(err, true, StandardCharsets.UTF_8));
+
+        assertEquals(1, exitCode);
+        assertEquals("[1]", Files.readString(input.resolve("ok.json")));
+        assertEquals("{ \"a\" : ", Files.readString(input.resolve("bad.json")));
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains("Processed 2 file(s), 1 failed"));
+        try (Stream<Path> files = Files.list(input)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    private static void assertMessage(String message, String... args) {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> JsonAssistantCli.parse(args));
+        assertEquals(message, e.getMessage());
+    }
+}
@@ -0,0 +1,39 @@
+// Headless engine shared by the plugin and the batch CLI: converters, formatters and query evaluators.
+// Must not depend on IntelliJ Platform classes.
+plugins {
+    `java-library`
+}
+
+group = providers.gradleProperty("pluginGroup").get()
+version = providers.gradleProperty("pluginVersion").get()
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    api(libs.hutool)
+    api(libs.dataformat)
+    api(libs.jsonpath)
+    api(libs.commonlang)
+    api(libs.toml4j)
+    api(libs.tnjson)
+    api(libs.jmespath)
+
+    compileOnly(libs.annotations)
+    // Bundled with the IDE, so the plugin must not ship them; the CLI adds them to its own runtime
+    compileOnly(libs.gson)
+    compileOnly(libs.snakeyaml)
+
+    testImplementation(libs.junit)
+}
+
+java {
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(11))
+    }
+}
+
+tasks.withType<JavaCompile> {
+    options.encoding = "UTF-8"
+}
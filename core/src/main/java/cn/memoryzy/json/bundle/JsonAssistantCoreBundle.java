@@ -0,0 +1,45 @@
+package cn.memoryzy.json.bundle;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.PropertyKey;
+
+import java.text.MessageFormat;
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+/**
+ * 核心模块的文本资源（不依赖 IDE，默认基于当前系统语言进行本地化，插件内由 {@link #setLocale(Locale)} 指定为 IDE 语言）
+ *
+ * @author Memory
+ * @since 2025/3/23
+ */
+public class JsonAssistantCoreBundle {
+
+    private static final String BUNDLE = "messages.JsonAssistantCoreBundle";
+
+    private static final ResourceBundle.Control NO_FALLBACK_CONTROL = ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_PROPERTIES);
+
+    private static volatile ResourceBundle resourceBundle = ResourceBundle.getBundle(BUNDLE);
+
+    /**
+     * 指定本地化使用的语言（不回退到系统语言）
+     *
+     * @param locale 语言
+     */
+    public static void setLocale(@NotNull Locale locale) {
+        resourceBundle = ResourceBundle.getBundle(BUNDLE, locale, NO_FALLBACK_CONTROL);
+    }
+
+    /**
+     * 基于指定的语言（未指定时为当前系统语言）来进行本地化翻译
+     *
+     * @param key    键
+     * @param params 参数
+     * @return 翻译结果
+     */
+    @NotNull
+    public static String message(@NotNull @PropertyKey(resourceBundle = BUNDLE) String key, Object... params) {
+        return MessageFormat.format(resourceBundle.getString(key), params);
+    }
+
+}
@@ -0,0 +1,31 @@
+package cn.memoryzy.json.enums;
+
+/**
+ * Json 结构差异类型
+ *
+ * @author Memory
+ * @since 2025/4/8
+ */
+public enum JsonDiffType {
+
+    /**
+     * 仅右侧存在
+     */
+    ADDED,
+
+    /**
+     * 仅左侧存在
+     */
+    REMOVED,
+
+    /**
+     * 两侧都存在，但值不同
+     */
+    CHANGED,
+
+    /**
+     * 数组元素内容相同，但位置发生了变化
+     */
+    MOVED
+
+}
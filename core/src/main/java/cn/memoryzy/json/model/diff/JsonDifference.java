@@ -0,0 +1,85 @@
+package cn.memoryzy.json.model.diff;
+
+import cn.memoryzy.json.enums.JsonDiffType;
+
+import java.util.List;
+
+/**
+ * Json 结构差异
+ *
+ * @author Memory
+ * @since 2025/4/8
+ */
+public class JsonDifference {
+
+    private final JsonDiffType type;
+
+    /**
+     * 左侧路径，对象下为 key（String），数组下为下标（Integer）；仅右侧存在时为 null
+     */
+    private final List<Object> leftPath;
+
+    /**
+     * 右侧路径；仅左侧存在时为 null
+     */
+    private final List<Object> rightPath;
+
+    private final Object leftValue;
+    private final Object rightValue;
+
+    public JsonDifference(JsonDiffType type, List<Object> leftPath, List<Object> rightPath, Object leftValue, Object rightValue) {
+        this.type = type;
+        this.leftPath = leftPath;
+        this.rightPath = rightPath;
+        this.leftValue = leftValue;
+        this.rightValue = rightValue;
+    }
+
+    public JsonDiffType getType() {
+        return type;
+    }
+
+    public List<Object> getLeftPath() {
+        return leftPath;
+    }
+
+    public List<Object> getRightPath() {
+        return rightPath;
+    }
+
+    public Object getLeftValue() {
+        return leftValue;
+    }
+
+    public Object getRightValue() {
+        return rightValue;
+    }
+
+    /**
+     * 将路径格式化为 JsonPath 形式，如 $.a[1].b
+     *
+     * @param path 路径片段
+     * @return JsonPath 文本，路径为 null 时返回 null
+     */
+    public static String formatPath(List<Object> path) {
+        if (path == null) {
+            return null;
+        }
+
+        StringBuilder sb = new StringBuilder("$");
+        for (Object segment : path) {
+            if (segment instanceof Integer) {
+                sb.append('[').append(segment).append(']');
+            } else {
+                sb.append('.').append(segment);
+            }
+        }
+
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return type + " " + formatPath(leftPath != null ? leftPath : rightPath);
+    }
+}
@@ -0,0 +1,394 @@
+package cn.memoryzy.json.model.index;
+
+import cn.memoryzy.json.model.wrapper.ArrayWrapper;
+import cn.memoryzy.json.model.wrapper.JsonWrapper;
+import cn.memoryzy.json.model.wrapper.ObjectWrapper;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Json 倒排索引：对所有节点的 key 与基本类型值建立三元组（trigram）索引，用于检索整个 Json 中匹配的节点路径
+ * <p>节点编号按文档先序遍历分配，检索结果即为文档顺序；索引只读，构建后可在多个线程间共享</p>
+ *
+ * @author Memory
+ * @since 2025/4/5
+ */
+public class JsonWrapperIndex {
+
+    /**
+     * 检索范围
+     */
+    public enum Scope {
+
+        /**
+         * 只匹配 key
+         */
+        KEY,
+
+        /**
+         * 只匹配基本类型值
+         */
+        VALUE,
+
+        /**
+         * 匹配 key 或值
+         */
+        ALL
+    }
+
+    /**
+     * 超过该长度的值不建立三元组，检索时直接作为候选项
+     */
+    private static final int MAX_INDEXED_LENGTH = 1024;
+
+    private static final int[] EMPTY = new int[0];
+
+    /**
+     * 节点数
+     */
+    private int size;
+
+    /**
+     * 父节点编号，根节点的子节点为 -1
+     */
+    private int[] parents = new int[64];
+
+    /**
+     * 路径片段：对象下为 key（String），数组下为下标（Integer）
+     */
+    private Object[] segments = new Object[64];
+
+    /**
+     * 基本类型值的文本，对象与数组为 null
+     */
+    private String[] values = new String[64];
+
+    private final Map<Long, IntList> keyGrams = new HashMap<>();
+    private final Map<Long, IntList> valueGrams = new HashMap<>();
+    private final IntList longValueIds = new IntList();
+
+    private JsonWrapperIndex() {
+    }
+
+    /**
+     * 构建索引
+     *
+     * @param wrapper Json 对象
+     * @return 索引
+     */
+    public static JsonWrapperIndex build(JsonWrapper wrapper) {
+        JsonWrapperIndex index = new JsonWrapperIndex();
+        index.indexContainer(wrapper, -1);
+        return index;
+    }
+
+    private void indexContainer(Object container, int parent) {
+        if (container instanceof ObjectWrapper) {
+            for (Map.Entry<String, Object> entry : ((ObjectWrapper) container).entrySet()) {
+                indexNode(entry.getKey(), entry.getValue(), parent);
+            }
+        } else if (container instanceof ArrayWrapper) {
+            ArrayWrapper jsonArray = (ArrayWrapper) container;
+            for (int i = 0; i < jsonArray.size(); i++) {
+                indexNode(i, jsonArray.get(i), parent);
+            }
+        }
+    }
+
+    private void indexNode(Object segment, Object value, int parent) {
+        int id = size++;
+        ensureCapacity(size);
+        parents[id] = parent;
+        segments[id] = segment;
+
+        if (segment instanceof String) {
+            addGrams(keyGrams, (String) segment, id);
+        }
+
+        if (value instanceof JsonWrapper) {
+            indexContainer(value, id);
+        } else {
+            String text = String.valueOf(value);
+            values[id] = text;
+            if (text.length() > MAX_INDEXED_LENGTH) {
+                longValueIds.add(id);
+            } else {
+                addGrams(valueGrams, text, id);
+            }
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > parents.length) {
+            int newLength = Math.max(capacity, parents.length * 2);
+            parents = Arrays.copyOf(parents, newLength);
+            segments = Arrays.copyOf(segments, newLength);
+            values = Arrays.copyOf(values, newLength);
+        }
+    }
+
+    private static void addGrams(Map<Long, IntList> grams, String text, int id) {
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            grams.computeIfAbsent(gram(text, i), k -> new IntList()).add(id);
+        }
+    }
+
+    private static long gram(String text, int offset) {
+        return ((long) Character.toLowerCase(text.charAt(offset)) << 32)
+                | ((long) Character.toLowerCase(text.charAt(offset + 1)) << 16)
+                | Character.toLowerCase(text.charAt(offset + 2));
+    }
+
+    /**
+     * 检索包含指定文本的节点（忽略大小写）
+     *
+     * @param text  检索文本
+     * @param scope 检索范围
+     * @return 按文档顺序排列的节点编号
+     */
+    public int[] search(String text, Scope scope) {
+        if (StringUtils.isEmpty(text)) {
+            return EMPTY;
+        }
+
+        int[] keyIds = scope == Scope.VALUE ? EMPTY : verify(candidates(keyGrams, text, null), text, true);
+        int[] valueIds = scope == Scope.KEY ? EMPTY : verify(candidates(valueGrams, text, longValueIds), text, false);
+        return union(keyIds, valueIds);
+    }
+
+    /**
+     * 检索匹配正则表达式的节点（部分匹配即可）
+     *
+     * @param pattern 正则表达式
+     * @param scope   检索范围
+     * @return 按文档顺序排列的节点编号
+     */
+    public int[] search(Pattern pattern, Scope scope) {
+        return search(pattern, scope, () -> false);
+    }
+
+    /**
+     * 检索匹配正则表达式的节点（部分匹配即可），匹配过程中定期检查是否已取消，可中断回溯严重的正则表达式（如 {@code (a+)+$}）
+     *
+     * @param pattern  正则表达式
+     * @param scope    检索范围
+     * @param canceled 是否已取消
+     * @return 按文档顺序排列的节点编号
+     * @throws CancellationException 检索已取消
+     */
+    public int[] search(Pattern pattern, Scope scope, BooleanSupplier canceled) {
+        IntList result = new IntList();
+        Matcher matcher = pattern.matcher("");
+        for (int id = 0; id < size; id++) {
+            if (canceled.getAsBoolean()) {
+                throw new CancellationException();
+            }
+
+            boolean matched = (scope != Scope.VALUE && segments[id] instanceof String && find(matcher, (String) segments[id], canceled))
+                    || (scope != Scope.KEY && values[id] != null && find(matcher, values[id], canceled));
+
+            if (matched) {
+                result.add(id);
+            }
+        }
+
+        return result.toArray();
+    }
+
+    private static boolean find(Matcher matcher, String text, BooleanSupplier canceled) {
+        return matcher.reset(new CancellableCharSequence(text, canceled)).find();
+    }
+
+    /**
+     * 根据三元组求候选节点，检索文本不足三个字符时返回 null（表示需要全量校验）
+     */
+    private static int[] candidates(Map<Long, IntList> grams, String text, IntList extra) {
+        if (text.length() < 3) {
+            return null;
+        }
+
+        int[] result = null;
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            IntList postings = grams.get(gram(text, i));
+            if (postings == null) {
+                result = EMPTY;
+                break;
+            }
+
+            result = result == null ? postings.toArray() : intersect(result, postings);
+            if (result.length == 0) {
+                break;
+            }
+        }
+
+        return extra == null ? result : union(result, extra.toArray());
+    }
+
+    private int[] verify(int[] candidates, String text, boolean matchKey) {
+        IntList result = new IntList();
+        if (candidates == null) {
+            for (int id = 0; id < size; id++) {
+                if (matches(id, text, matchKey)) {
+                    result.add(id);
+                }
+            }
+        } else {
+            for (int id : candidates) {
+                if (matches(id, text, matchKey)) {
+                    result.add(id);
+                }
+            }
+        }
+
+        return result.toArray();
+    }
+
+    private boolean matches(int id, String text, boolean matchKey) {
+        if (matchKey) {
+            return segments[id] instanceof String && StringUtils.containsIgnoreCase((String) segments[id], text);
+        }
+
+        return values[id] != null && StringUtils.containsIgnoreCase(values[id], text);
+    }
+
+    private static int[] intersect(int[] sorted, IntList postings) {
+        int[] result = new int[Math.min(sorted.length, postings.size)];
+        int count = 0, i = 0, j = 0;
+        while (i < sorted.length && j < postings.size) {
+            int a = sorted[i], b = postings.data[j];
+            if (a == b) {
+                result[count++] = a;
+                i++;
+                j++;
+            } else if (a < b) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+
+        return Arrays.copyOf(result, count);
+    }
+
+    private static int[] union(int[] a, int[] b) {
+        if (a.length == 0) {
+            return b;
+        } else if (b.length == 0) {
+            return a;
+        }
+
+        int[] result = new int[a.length + b.length];
+        int count = 0, i = 0, j = 0;
+        while (i < a.length || j < b.length) {
+            if (j >= b.length || (i < a.length && a[i] < b[j])) {
+                result[count++] = a[i++];
+            } else if (i >= a.length || b[j] < a[i]) {
+                result[count++] = b[j++];
+            } else {
+                result[count++] = a[i++];
+                j++;
+            }
+        }
+
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * 获取节点路径
+     *
+     * @param id 节点编号
+     * @return 从根节点的子节点开始的路径片段，对象下为 key（String），数组下为下标（Integer）
+     */
+    public List<Object> getPath(int id) {
+        LinkedList<Object> path = new LinkedList<>();
+        for (int current = id; current >= 0; current = parents[current]) {
+            path.addFirst(segments[current]);
+        }
+
+        return path;
+    }
+
+    /**
+     * 节点数（不含根节点）
+     */
+    public int size() {
+        return size;
+    }
+
+
+    /**
+     * 只追加的 int 列表，用于保存按升序追加的节点编号
+     */
+    private static class IntList {
+
+        private int[] data = new int[4];
+        private int size;
+
+        void add(int value) {
+            // 同一文本中重复的三元组只记录一次
+            if (size > 0 && data[size - 1] == value) {
+                return;
+            }
+
+            if (size == data.length) {
+                data = Arrays.copyOf(data, size * 2);
+            }
+
+            data[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(data, size);
+        }
+    }
+
+
+    /**
+     * 读取字符时检查是否已取消的字符序列：正则匹配（包括回溯）需要不断读取字符，以此中断长时间的匹配
+     */
+    private static class CancellableCharSequence implements CharSequence {
+
+        /**
+         * 每读取该数量的字符检查一次
+         */
+        private static final int CHECK_INTERVAL = 4096;
+
+        private final CharSequence text;
+        private final BooleanSupplier canceled;
+        private int reads;
+
+        CancellableCharSequence(CharSequence text, BooleanSupplier canceled) {
+            this.text = text;
+            this.canceled = canceled;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (++reads % CHECK_INTERVAL == 0 && canceled.getAsBoolean()) {
+                throw new CancellationException();
+            }
+
+            return text.charAt(index);
+        }
+
+        @Override
+        public int length() {
+            return text.length();
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new CancellableCharSequence(text.subSequence(start, end), canceled);
+        }
+
+        @Override
+        public String toString() {
+            return text.toString();
+        }
+    }
+}
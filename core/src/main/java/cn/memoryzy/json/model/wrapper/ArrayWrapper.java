@@ -0,0 +1,187 @@
+package cn.memoryzy.json.model.wrapper;
+
+import cn.memoryzy.json.util.JsonFingerprint;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * @author Memory
+ * @since 2024/11/11
+ */
+public class ArrayWrapper extends ArrayList<Object> implements JsonWrapper {
+
+    /**
+     * 指纹缓存：{版本号, 无序指纹, 有序指纹}
+     */
+    private transient volatile long[] fingerprints;
+
+    @SuppressWarnings("unchecked")
+    public ArrayWrapper(Object source) {
+        super();
+        if (!(source instanceof Collection)) {
+            throw new IllegalArgumentException("source is not a Collection: " + source);
+        }
+
+        initCollection((Collection<Object>) source);
+    }
+
+    private void initCollection(Collection<Object> source) {
+        for (Object item : source) {
+            if (item instanceof Map) {
+                // 递归转换嵌套的 Map
+                super.add(new ObjectWrapper(item));
+            } else if (item instanceof Collection) {
+                // 转换嵌套的 List
+                super.add(new ArrayWrapper(item));
+            } else {
+                // 直接添加其他类型的值
+                super.add(item);
+            }
+        }
+    }
+
+    @Override
+    public boolean isObject() {
+        return false;
+    }
+
+    @Override
+    public boolean isArray() {
+        return true;
+    }
+
+    @Override
+    public boolean noItems() {
+        return isEmpty();
+    }
+
+    @Override
+    public long fingerprint() {
+        return getFingerprints()[1];
+    }
+
+    @Override
+    public long orderedFingerprint() {
+        return getFingerprints()[2];
+    }
+
+    private long[] getFingerprints() {
+        long[] cached = fingerprints;
+        if (!JsonFingerprint.isValid(cached)) {
+            cached = JsonFingerprint.compute(this);
+            fingerprints = cached;
+        }
+
+        return cached;
+    }
+
+    /**
+     * 修改前调用：已计算过指纹时使缓存失效
+     * <p>通过 subList() 视图修改时不会经过此方法，需自行调用 {@link JsonFingerprint#invalidate()}</p>
+     */
+    private void modified() {
+        if (fingerprints != null) {
+            fingerprints = null;
+            JsonFingerprint.invalidate();
+        }
+    }
+
+    @Override
+    public boolean add(Object o) {
+        modified();
+        return super.add(o);
+    }
+
+    @Override
+    public void add(int index, Object element) {
+        modified();
+        super.add(index, element);
+    }
+
+    @Override
+    public boolean addAll(Collection<?> c) {
+        modified();
+        return super.addAll(c);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<?> c) {
+        modified();
+        return super.addAll(index, c);
+    }
+
+    @Override
+    public Object set(int index, Object element) {
+        modified();
+        return super.set(index, element);
+    }
+
+    @Override
+    public Object remove(int index) {
+        modified();
+        return super.remove(index);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        modified();
+        return super.remove(o);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        modified();
+        return super.removeAll(c);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        modified();
+        return super.retainAll(c);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Object> filter) {
+        modified();
+        return super.removeIf(filter);
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        modified();
+        super.removeRange(fromIndex, toIndex);
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<Object> operator) {
+        modified();
+        super.replaceAll(operator);
+    }
+
+    @Override
+    public void sort(Comparator<? super Object> c) {
+        modified();
+        super.sort(c);
+    }
+
+    @Override
+    public void clear() {
+        modified();
+        super.clear();
+    }
+
+    @Override
+    public String toString() {
+        return toJsonString();
+    }
+
+    public static boolean isWrapper(Object object) {
+        return object instanceof ArrayWrapper;
+    }
+
+}
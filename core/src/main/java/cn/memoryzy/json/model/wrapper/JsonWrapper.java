@@ -0,0 +1,38 @@
+package cn.memoryzy.json.model.wrapper;
+
+import cn.memoryzy.json.util.JsonFingerprint;
+import cn.memoryzy.json.util.JsonUtil;
+
+/**
+ * @author Memory
+ * @since 2024/11/11
+ */
+public interface JsonWrapper {
+
+    boolean isObject();
+
+    boolean isArray();
+
+    boolean noItems();
+
+    /**
+     * 与对象键顺序无关的结构指纹，缓存在节点上，修改后失效
+     *
+     * @return 指纹
+     * @see JsonFingerprint
+     */
+    long fingerprint();
+
+    /**
+     * 与对象键顺序有关的结构指纹，缓存在节点上，修改后失效
+     *
+     * @return 指纹
+     * @see JsonFingerprint
+     */
+    long orderedFingerprint();
+
+    default String toJsonString() {
+        return JsonUtil.formatJson(this);
+    }
+
+}
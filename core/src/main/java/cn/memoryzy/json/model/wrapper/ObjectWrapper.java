@@ -0,0 +1,189 @@
+package cn.memoryzy.json.model.wrapper;
+
+import cn.memoryzy.json.util.JsonFingerprint;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 自定义Map，保持存入顺序
+ *
+ * @author Memory
+ * @since 2024/11/11
+ */
+public class ObjectWrapper extends LinkedHashMap<String, Object> implements JsonWrapper {
+
+    /**
+     * 指纹缓存：{版本号, 无序指纹, 有序指纹}
+     */
+    private transient volatile long[] fingerprints;
+
+    public ObjectWrapper() {
+        super();
+    }
+
+    @SuppressWarnings("unchecked")
+    public ObjectWrapper(Object source) {
+        super();
+        if (!(source instanceof Map)) {
+            throw new IllegalArgumentException("source is not a Map: " + source);
+        }
+
+        initMap((Map<String, Object>) source);
+    }
+
+    private void initMap(Map<String, Object> source) {
+        for (Map.Entry<String, Object> entry : source.entrySet()) {
+            String key = entry.getKey();
+            Object value = entry.getValue();
+
+            if (value instanceof Map) {
+                // 递归转换嵌套的 Map
+                super.put(key, new ObjectWrapper(value));
+            } else if (value instanceof Collection) {
+                // 转换嵌套的 List
+                super.put(key, new ArrayWrapper(value));
+            } else {
+                // 直接添加其他类型的值
+                super.put(key, value);
+            }
+        }
+    }
+
+    @Override
+    public boolean isObject() {
+        return true;
+    }
+
+    @Override
+    public boolean isArray() {
+        return false;
+    }
+
+    @Override
+    public boolean noItems() {
+        return isEmpty();
+    }
+
+    @Override
+    public long fingerprint() {
+        return getFingerprints()[1];
+    }
+
+    @Override
+    public long orderedFingerprint() {
+        return getFingerprints()[2];
+    }
+
+    private long[] getFingerprints() {
+        long[] cached = fingerprints;
+        if (!JsonFingerprint.isValid(cached)) {
+            cached = JsonFingerprint.compute(this);
+            fingerprints = cached;
+        }
+
+        return cached;
+    }
+
+    /**
+     * 修改前调用：已计算过指纹时使缓存失效
+     * <p>通过 entrySet() / keySet() / values() 视图修改时不会经过此方法，需自行调用 {@link JsonFingerprint#invalidate()}</p>
+     */
+    private void modified() {
+        if (fingerprints != null) {
+            fingerprints = null;
+            JsonFingerprint.invalidate();
+        }
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        modified();
+        return super.put(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> m) {
+        modified();
+        super.putAll(m);
+    }
+
+    @Override
+    public Object putIfAbsent(String key, Object value) {
+        modified();
+        return super.putIfAbsent(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        modified();
+        return super.remove(key);
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        modified();
+        return super.remove(key, value);
+    }
+
+    @Override
+    public Object replace(String key, Object value) {
+        modified();
+        return super.replace(key, value);
+    }
+
+    @Override
+    public boolean replace(String key, Object oldValue, Object newValue) {
+        modified();
+        return super.replace(key, oldValue, newValue);
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super String, ? super Object, ?> function) {
+        modified();
+        super.replaceAll(function);
+    }
+
+    @Override
+    public Object computeIfAbsent(String key, Function<? super String, ?> mappingFunction) {
+        modified();
+        return super.computeIfAbsent(key, mappingFunction);
+    }
+
+    @Override
+    public Object computeIfPresent(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+        modified();
+        return super.computeIfPresent(key, remappingFunction);
+    }
+
+    @Override
+    public Object compute(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+        modified();
+        return super.compute(key, remappingFunction);
+    }
+
+    @Override
+    public Object merge(String key, Object value, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+        modified();
+        return super.merge(key, value, remappingFunction);
+    }
+
+    @Override
+    public void clear() {
+        modified();
+        super.clear();
+    }
+
+    @Override
+    public String toString() {
+        return toJsonString();
+    }
+
+    public static boolean isWrapper(Object object) {
+        return object instanceof ObjectWrapper;
+    }
+
+}
@@ -3,11 +3,8 @@ package cn.memoryzy.json.util;
 import cn.hutool.core.map.MapUtil;
 import cn.hutool.core.util.StrUtil;
 import cn.hutool.core.util.URLUtil;
-import cn.memoryzy.json.model.strategy.GlobalJsonConverter;
-import cn.memoryzy.json.model.strategy.formats.context.GlobalTextConversionProcessorContext;
 import cn.memoryzy.json.model.wrapper.ObjectWrapper;
-import com.intellij.openapi.actionSystem.DataContext;
-import org.apache.commons.lang.StringUtils;
+import org.apache.commons.lang3.StringUtils;
 
 import java.io.StringReader;
 import java.net.URI;
@@ -21,6 +18,11 @@ import java.util.*;
  */
 public class DataConverter {
 
+    /**
+     * 仅有查询参数时，补全为完整URL所用的前缀
+     */
+    private static final String FRONT_URL = "http://0.0.0.0";
+
     /**
      * 判断给定的字符串是否可以转换为Properties对象。
      *
@@ -193,7 +195,7 @@ public class DataConverter {
                 urlStr = "?" + urlStr;
             }
 
-            urlStr = cn.memoryzy.json.constant.Urls.FRONT_URL + urlStr;
+            urlStr = FRONT_URL + urlStr;
 
             try {
                 return parseAndValidateUrl(urlStr);
@@ -235,18 +237,5 @@ public class DataConverter {
         return false;
     }
 
-    /**
-     * 获取当前Json，判断是否非Json数组
-     * <p style="color: blue;">Url Param、Toml、Properties 三种类型不支持Json数组的转换</p>
-     *
-     * @param dataContext 数据上下文
-     * @return 如果是Json对象，则为true；如果是数组，则为false
-     */
-    public static boolean isNotJsonArray(DataContext dataContext) {
-        GlobalTextConversionProcessorContext context = new GlobalTextConversionProcessorContext();
-        String json = GlobalJsonConverter.parseJson(context, PlatformUtil.getEditor(dataContext));
-        return JsonUtil.isNotJsonArray(json, GlobalJsonConverter.isValidJson(context.getProcessor()));
-    }
-
 
 }
@@ -0,0 +1,66 @@
+package cn.memoryzy.json.util;
+
+import cn.memoryzy.json.bundle.JsonAssistantCoreBundle;
+import cn.memoryzy.json.model.jsonpath.*;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.burt.jmespath.Expression;
+import io.burt.jmespath.JmesPath;
+import io.burt.jmespath.jackson.JacksonRuntime;
+import io.burt.jmespath.parser.ParseException;
+
+/**
+ * @author Memory
+ * @since 2025/1/16
+ */
+public class JmesPathEvaluator {
+
+    public static EvaluateResult evaluate(String expressionPath, String jsonDoc) {
+        JsonNode input;
+        try {
+            input = JsonUtil.MAPPER.readTree(jsonDoc);
+        } catch (JsonProcessingException e) {
+            return new IncorrectDocument(JsonAssistantCoreBundle.message("json.query.invalid.document"));
+        }
+
+        return evaluate(expressionPath, input);
+    }
+
+    /**
+     * 对已解析的文档计算表达式
+     *
+     * @param expressionPath 表达式
+     * @param input          已解析的文档
+     * @return 计算结果
+     */
+    public static EvaluateResult evaluate(String expressionPath, JsonNode input) {
+        JmesPath<JsonNode> jmespath = new JacksonRuntime();
+        Expression<JsonNode> expression;
+
+        try {
+            expression = jmespath.compile(expressionPath);
+        } catch (ParseException e) {
+            return new IncorrectExpression(JsonAssistantCoreBundle.message("json.query.invalid.jmespath.expression"));
+        }
+
+        // 计算结果（函数参数类型不符等运行时错误同样视为非法表达式）
+        JsonNode result;
+        try {
+            result = expression.search(input);
+        } catch (RuntimeException e) {
+            return new IncorrectExpression(e.getMessage());
+        }
+
+        String resultStr;
+
+        try {
+            // 直接输出格式化文本，结果编辑器无需再重新格式化
+            resultStr = JsonUtil.PRETTY_WRITER.writeValueAsString(result);
+        } catch (JsonProcessingException e) {
+            return new ResultNotFound(JsonAssistantCoreBundle.message("json.query.unable.process.result") + e.getMessage());
+        }
+
+        return new ResultString(resultStr);
+    }
+
+}
@@ -100,6 +100,45 @@ public class JsonAssistantUtil {
     }
 
 
+    /**
+     * 计算文本按 UTF-8 编码后的字节数（不实际编码）
+     *
+     * @param text 文本
+     * @return 字节数
+     */
+    public static long utf8Length(CharSequence text) {
+        return utf8Length(text, 0, text.length());
+    }
+
+
+    /**
+     * 计算文本指定区间按 UTF-8 编码后的字节数（不实际编码）
+     *
+     * @param text  文本
+     * @param start 起始位置（包含）
+     * @param end   结束位置（不包含）
+     * @return 字节数
+     */
+    public static long utf8Length(CharSequence text, int start, int end) {
+        long length = 0;
+        for (int i = start; i < end; i++) {
+            char ch = text.charAt(i);
+            if (ch < 0x80) {
+                length++;
+            } else if (ch < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(ch) && i + 1 < end && Character.isLowSurrogate(text.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+
+        return length;
+    }
+
+
     /**
      * 判断文本中是否存在多个中文字符
      */
@@ -0,0 +1,338 @@
+package cn.memoryzy.json.util;
+
+import cn.memoryzy.json.enums.JsonDiffType;
+import cn.memoryzy.json.model.diff.JsonDifference;
+import cn.memoryzy.json.model.wrapper.ArrayWrapper;
+import cn.memoryzy.json.model.wrapper.ObjectWrapper;
+
+import java.util.*;
+
+/**
+ * Json 结构比较
+ * <ul>
+ *     <li>对象成员按 key 对应，与成员顺序无关</li>
+ *     <li>数组元素优先按标识字段（如 id）对应；没有可用的标识字段时，先对齐相同的前缀与后缀，再按结构哈希对应剩余元素</li>
+ *     <li>对应上但相对顺序变化的元素标记为 MOVED（取最长递增子序列作为未移动的元素），其余未对应的元素按位置两两比较，多出的标记为 ADDED / REMOVED</li>
+ * </ul>
+ * <p>结构哈希取自 {@link JsonFingerprint}（缓存在节点上，每个容器只计算一次），哈希相同的子树直接跳过，整体耗时接近线性</p>
+ *
+ * @author Memory
+ * @since 2025/4/8
+ */
+public class JsonDiffer {
+
+    private final List<String> identityKeys;
+    private final List<JsonDifference> differences = new ArrayList<>();
+
+    private JsonDiffer(Collection<String> identityKeys) {
+        this.identityKeys = identityKeys == null ? Collections.emptyList() : new ArrayList<>(identityKeys);
+    }
+
+    /**
+     * 比较两个 Json
+     *
+     * @param left  左侧 Json（ObjectWrapper / ArrayWrapper / 基本类型）
+     * @param right 右侧 Json
+     * @return 差异列表
+     */
+    public static List<JsonDifference> diff(Object left, Object right) {
+        return diff(left, right, Collections.emptyList());
+    }
+
+    /**
+     * 比较两个 Json
+     *
+     * @param left         左侧 Json（ObjectWrapper / ArrayWrapper / 基本类型）
+     * @param right        右侧 Json
+     * @param identityKeys 数组元素的标识字段，按顺序取第一个在两侧所有元素中都存在的字段
+     * @return 差异列表
+     */
+    public static List<JsonDifference> diff(Object left, Object right, Collection<String> identityKeys) {
+        JsonDiffer differ = new JsonDiffer(identityKeys);
+        differ.compare(left, right, Path.ROOT, Path.ROOT);
+        return differ.differences;
+    }
+
+    private void compare(Object left, Object right, Path leftPath, Path rightPath) {
+        if (left instanceof ObjectWrapper && right instanceof ObjectWrapper) {
+            if (hash(left) != hash(right)) {
+                compareObjects((ObjectWrapper) left, (ObjectWrapper) right, leftPath, rightPath);
+            }
+        } else if (left instanceof ArrayWrapper && right instanceof ArrayWrapper) {
+            if (hash(left) != hash(right)) {
+                compareArrays((ArrayWrapper) left, (ArrayWrapper) right, leftPath, rightPath);
+            }
+        } else if (!scalarEquals(left, right)) {
+            add(JsonDiffType.CHANGED, leftPath, rightPath, left, right);
+        }
+    }
+
+    private void compareObjects(ObjectWrapper left, ObjectWrapper right, Path leftPath, Path rightPath) {
+        for (Map.Entry<String, Object> entry : left.entrySet()) {
+            String key = entry.getKey();
+            if (right.containsKey(key)) {
+                compare(entry.getValue(), right.get(key), new Path(leftPath, key), new Path(rightPath, key));
+            } else {
+                add(JsonDiffType.REMOVED, new Path(leftPath, key), null, entry.getValue(), null);
+            }
+        }
+
+        for (Map.Entry<String, Object> entry : right.entrySet()) {
+            if (!left.containsKey(entry.getKey())) {
+                add(JsonDiffType.ADDED, null, new Path(rightPath, entry.getKey()), null, entry.getValue());
+            }
+        }
+    }
+
+    private void compareArrays(ArrayWrapper left, ArrayWrapper right, Path leftPath, Path rightPath) {
+        int[] matches;
+        String identityKey = findIdentityKey(left, right);
+        if (identityKey != null) {
+            matches = new int[left.size()];
+            Arrays.fill(matches, -1);
+            matchByIdentity(left, right, identityKey, matches);
+        } else {
+            matches = matchByHash(left, right);
+        }
+
+        // 对应元素中，右侧下标的最长递增子序列视为未移动
+        boolean[] stable = longestIncreasingMatches(matches);
+        boolean[] rightMatched = new boolean[right.size()];
+        for (int i = 0; i < matches.length; i++) {
+            int j = matches[i];
+            if (j < 0) {
+                continue;
+            }
+
+            rightMatched[j] = true;
+            if (!stable[i]) {
+                add(JsonDiffType.MOVED, new Path(leftPath, i), new Path(rightPath, j), left.get(i), right.get(j));
+            }
+
+            // 按标识字段对应的元素，内容可能不同
+            if (identityKey != null) {
+                compare(left.get(i), right.get(j), new Path(leftPath, i), new Path(rightPath, j));
+            }
+        }
+
+        // 在相邻的未移动元素之间，按位置比较未对应的元素
+        int leftStart = 0, rightStart = 0;
+        for (int i = 0; i <= matches.length; i++) {
+            boolean anchor = i == matches.length || (matches[i] >= 0 && stable[i]);
+            if (!anchor) {
+                continue;
+            }
+
+            int leftEnd = i;
+            int rightEnd = i == matches.length ? right.size() : matches[i];
+            compareGap(left, right, leftPath, rightPath, matches, rightMatched, leftStart, leftEnd, rightStart, rightEnd);
+            leftStart = leftEnd + 1;
+            rightStart = rightEnd + 1;
+        }
+    }
+
+    private void compareGap(ArrayWrapper left, ArrayWrapper right, Path leftPath, Path rightPath, int[] matches,
+                            boolean[] rightMatched, int leftStart, int leftEnd, int rightStart, int rightEnd) {
+        int i = leftStart, j = rightStart;
+        while (true) {
+            while (i < leftEnd && matches[i] >= 0) {
+                i++;
+            }
+
+            while (j < rightEnd && rightMatched[j]) {
+                j++;
+            }
+
+            if (i < leftEnd && j < rightEnd) {
+                compare(left.get(i), right.get(j), new Path(leftPath, i), new Path(rightPath, j));
+            } else if (i < leftEnd) {
+                add(JsonDiffType.REMOVED, new Path(leftPath, i), null, left.get(i), null);
+            } else if (j < rightEnd) {
+                add(JsonDiffType.ADDED, null, new Path(rightPath, j), null, right.get(j));
+            } else {
+                return;
+            }
+
+            i++;
+            j++;
+        }
+    }
+
+    /**
+     * 查找两侧所有元素都具有的标识字段（值为基本类型）
+     */
+    private String findIdentityKey(ArrayWrapper left, ArrayWrapper right) {
+        if (left.isEmpty() || right.isEmpty()) {
+            return null;
+        }
+
+        for (String key : identityKeys) {
+            if (hasIdentityKey(left, key) && hasIdentityKey(right, key)) {
+                return key;
+            }
+        }
+
+        return null;
+    }
+
+    private static boolean hasIdentityKey(ArrayWrapper array, String key) {
+        for (Object element : array) {
+            if (!(element instanceof ObjectWrapper)) {
+                return false;
+            }
+
+            Object id = ((ObjectWrapper) element).get(key);
+            if (id == null || id instanceof ObjectWrapper || id instanceof ArrayWrapper) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static void matchByIdentity(ArrayWrapper left, ArrayWrapper right, String identityKey, int[] matches) {
+        Map<String, Deque<Integer>> rightIndex = new HashMap<>();
+        for (int j = 0; j < right.size(); j++) {
+            String id = String.valueOf(((ObjectWrapper) right.get(j)).get(identityKey));
+            rightIndex.computeIfAbsent(id, k -> new ArrayDeque<>()).add(j);
+        }
+
+        for (int i = 0; i < left.size(); i++) {
+            Deque<Integer> candidates = rightIndex.get(String.valueOf(((ObjectWrapper) left.get(i)).get(identityKey)));
+            if (candidates != null && !candidates.isEmpty()) {
+                matches[i] = candidates.poll();
+            }
+        }
+    }
+
+    /**
+     * 按结构哈希对应两个列表的元素：先对齐哈希相同的前缀与后缀，再按哈希对应剩余元素（哈希相同的多个元素按出现顺序对应）
+     *
+     * @param left  左侧元素
+     * @param right 右侧元素
+     * @return 左侧下标对应的右侧下标，-1 表示未对应
+     */
+    public static int[] matchByHash(List<?> left, List<?> right) {
+        int leftSize = left.size(), rightSize = right.size();
+        int[] matches = new int[leftSize];
+        Arrays.fill(matches, -1);
+
+        int prefix = 0;
+        while (prefix < leftSize && prefix < rightSize && hash(left.get(prefix)) == hash(right.get(prefix))) {
+            matches[prefix] = prefix;
+            prefix++;
+        }
+
+        int suffix = 0;
+        while (suffix < leftSize - prefix && suffix < rightSize - prefix
+                && hash(left.get(leftSize - 1 - suffix)) == hash(right.get(rightSize - 1 - suffix))) {
+            matches[leftSize - 1 - suffix] = rightSize - 1 - suffix;
+            suffix++;
+        }
+
+        Map<Long, Deque<Integer>> rightIndex = new HashMap<>();
+        for (int j = prefix; j < rightSize - suffix; j++) {
+            rightIndex.computeIfAbsent(hash(right.get(j)), k -> new ArrayDeque<>()).add(j);
+        }
+
+        for (int i = prefix; i < leftSize - suffix; i++) {
+            Deque<Integer> candidates = rightIndex.get(hash(left.get(i)));
+            if (candidates != null && !candidates.isEmpty()) {
+                matches[i] = candidates.poll();
+            }
+        }
+
+        return matches;
+    }
+
+    /**
+     * 求已对应元素中右侧下标的最长递增子序列（O(n log n)）
+     *
+     * @param matches 左侧下标对应的右侧下标，-1 表示未对应
+     * @return 左侧下标是否属于最长递增子序列
+     */
+    public static boolean[] longestIncreasingMatches(int[] matches) {
+        int n = matches.length;
+        int[] tails = new int[n];
+        int[] previous = new int[n];
+        int length = 0;
+
+        for (int i = 0; i < n; i++) {
+            if (matches[i] < 0) {
+                continue;
+            }
+
+            int low = 0, high = length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (matches[tails[mid]] < matches[i]) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+
+            previous[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            if (low == length) {
+                length++;
+            }
+        }
+
+        boolean[] stable = new boolean[n];
+        for (int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = previous[i]) {
+            stable[i] = true;
+        }
+
+        return stable;
+    }
+
+    private static long hash(Object value) {
+        return JsonFingerprint.of(value);
+    }
+
+    private static boolean scalarEquals(Object left, Object right) {
+        if (Objects.equals(left, right)) {
+            return true;
+        }
+
+        // 不同的数字类型（如 Integer 与 Long）按文本比较
+        return left instanceof Number && right instanceof Number && left.toString().equals(right.toString());
+    }
+
+    private void add(JsonDiffType type, Path leftPath, Path rightPath, Object leftValue, Object rightValue) {
+        differences.add(new JsonDifference(type, Path.toList(leftPath), Path.toList(rightPath), leftValue, rightValue));
+    }
+
+
+    /**
+     * 路径（链表形式，子路径共享父路径，只在生成差异时才转换为列表）；null 表示该侧不存在
+     */
+    private static class Path {
+
+        static final Path ROOT = new Path(null, null);
+
+        private final Path parent;
+        private final Object segment;
+        private final int depth;
+
+        Path(Path parent, Object segment) {
+            this.parent = parent;
+            this.segment = segment;
+            this.depth = parent == null ? 0 : parent.depth + 1;
+        }
+
+        static List<Object> toList(Path path) {
+            if (path == null) {
+                return null;
+            }
+
+            Object[] segments = new Object[path.depth];
+            for (Path current = path; current.depth > 0; current = current.parent) {
+                segments[current.depth - 1] = current.segment;
+            }
+
+            return Arrays.asList(segments);
+        }
+    }
+}
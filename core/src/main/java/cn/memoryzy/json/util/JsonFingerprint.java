@@ -0,0 +1,164 @@
+package cn.memoryzy.json.util;
+
+import cn.memoryzy.json.model.wrapper.ArrayWrapper;
+import cn.memoryzy.json.model.wrapper.JsonWrapper;
+import cn.memoryzy.json.model.wrapper.ObjectWrapper;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Json 结构指纹（64 位 Merkle 哈希）：由子节点指纹自底向上组合，数字按文本计算（1 与 1L 相同）
+ * <ul>
+ *     <li>{@link #of(Object)}：与对象键顺序无关（与 {@link ObjectWrapper#equals(Object)} 语义一致），数组与元素顺序有关</li>
+ *     <li>{@link #ordered(Object)}：对象键顺序也参与计算</li>
+ * </ul>
+ * <p>容器的指纹缓存在 {@link JsonWrapper} 上。任一已计算过指纹的容器被修改时，全局版本号递增，所有缓存随之失效（容器不持有父节点引用，无法只使祖先失效）；
+ * 未计算过指纹的容器（如刚解析出的 Json）被修改时不影响缓存</p>
+ *
+ * @author Memory
+ * @since 2025/4/9
+ */
+public class JsonFingerprint {
+
+    private static final long NULL_HASH = 0x6A09E667F3BCC909L;
+    private static final long TRUE_HASH = 0xBB67AE8584CAA73BL;
+    private static final long FALSE_HASH = 0x3C6EF372FE94F82BL;
+    private static final long OBJECT_SEED = 0xA54FF53A5F1D36F1L;
+    private static final long ORDERED_OBJECT_SEED = 0x1F83D9ABFB41BD6BL;
+    private static final long ARRAY_SEED = 0x510E527FADE682D1L;
+    private static final long NUMBER_SEED = 0x9B05688C2B3E6C1FL;
+    private static final long PRIME = 1099511628211L;
+
+    /**
+     * 指纹缓存的全局版本号
+     */
+    private static final AtomicLong VERSION = new AtomicLong();
+
+    private JsonFingerprint() {
+    }
+
+    /**
+     * 与对象键顺序无关的结构指纹
+     *
+     * @param value ObjectWrapper / ArrayWrapper / 基本类型
+     * @return 指纹
+     */
+    public static long of(Object value) {
+        return value instanceof JsonWrapper ? ((JsonWrapper) value).fingerprint() : scalarHash(value);
+    }
+
+    /**
+     * 与对象键顺序有关的结构指纹
+     *
+     * @param value ObjectWrapper / ArrayWrapper / 基本类型
+     * @return 指纹
+     */
+    public static long ordered(Object value) {
+        return value instanceof JsonWrapper ? ((JsonWrapper) value).orderedFingerprint() : scalarHash(value);
+    }
+
+    /**
+     * 按结构指纹判断两个 Json 是否相同（与对象键顺序无关）
+     *
+     * @param left  Json
+     * @param right Json
+     * @return 相同返回 true
+     */
+    public static boolean same(Object left, Object right) {
+        if (left == right) {
+            return true;
+        } else if (left == null || right == null) {
+            return false;
+        }
+
+        return of(left) == of(right);
+    }
+
+    /**
+     * 计算对象的指纹，子节点的指纹取自其缓存
+     *
+     * @param object 对象
+     * @return {版本号, 无序指纹, 有序指纹}
+     */
+    public static long[] compute(ObjectWrapper object) {
+        long version = VERSION.get();
+        long hash = OBJECT_SEED;
+        long orderedHash = ORDERED_OBJECT_SEED;
+        for (Map.Entry<String, Object> entry : object.entrySet()) {
+            long keyHash = stringHash(entry.getKey()) * 31;
+            hash += mix(keyHash + of(entry.getValue()));
+            orderedHash = orderedHash * PRIME + mix(keyHash + ordered(entry.getValue()));
+        }
+
+        return new long[]{version, mix(hash ^ object.size()), mix(orderedHash ^ object.size())};
+    }
+
+    /**
+     * 计算数组的指纹，子节点的指纹取自其缓存
+     *
+     * @param array 数组
+     * @return {版本号, 无序指纹, 有序指纹}
+     */
+    public static long[] compute(ArrayWrapper array) {
+        long version = VERSION.get();
+        long hash = ARRAY_SEED;
+        long orderedHash = ARRAY_SEED;
+        for (Object element : array) {
+            hash = hash * PRIME + of(element);
+            orderedHash = orderedHash * PRIME + ordered(element);
+        }
+
+        return new long[]{version, mix(hash), mix(orderedHash)};
+    }
+
+    /**
+     * 判断缓存的指纹是否仍然有效
+     *
+     * @param fingerprints {@link #compute} 的结果
+     * @return 有效返回 true
+     */
+    public static boolean isValid(long[] fingerprints) {
+        return fingerprints != null && fingerprints[0] == VERSION.get();
+    }
+
+    /**
+     * 已计算过指纹的容器被修改，使所有缓存失效
+     */
+    public static void invalidate() {
+        VERSION.incrementAndGet();
+    }
+
+    /**
+     * 基本类型的指纹
+     *
+     * @param value 基本类型值
+     * @return 指纹
+     */
+    public static long scalarHash(Object value) {
+        if (value == null) {
+            return NULL_HASH;
+        } else if (value instanceof Boolean) {
+            return (Boolean) value ? TRUE_HASH : FALSE_HASH;
+        } else if (value instanceof Number) {
+            return mix(NUMBER_SEED ^ stringHash(value.toString()));
+        }
+
+        return mix(stringHash(value.toString()));
+    }
+
+    private static long stringHash(String str) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < str.length(); i++) {
+            hash = (hash ^ str.charAt(i)) * 0x100000001B3L;
+        }
+
+        return hash;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -1,11 +1,14 @@
 package cn.memoryzy.json.util;
 
 import cn.hutool.core.util.StrUtil;
-import cn.memoryzy.json.bundle.JsonAssistantBundle;
+import cn.memoryzy.json.bundle.JsonAssistantCoreBundle;
 import cn.memoryzy.json.model.jsonpath.*;
-import com.intellij.openapi.util.text.StringUtil;
-import com.intellij.serialization.ClassUtil;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.jayway.jsonpath.*;
+import com.jayway.jsonpath.spi.json.JacksonJsonNodeJsonProvider;
+import com.jayway.jsonpath.spi.mapper.JacksonMappingProvider;
+import org.apache.commons.lang3.ClassUtils;
 
 import java.util.Collection;
 import java.util.Map;
@@ -19,6 +22,14 @@ import java.util.stream.Collectors;
  */
 public class JsonPathEvaluator {
 
+    /**
+     * 直接基于 Jackson 树计算（文档只需解析一次，可供多个表达式并发读取）
+     */
+    private static final Configuration JSON_NODE_CONFIGURATION = Configuration.builder()
+            .jsonProvider(new JacksonJsonNodeJsonProvider(JsonUtil.MAPPER))
+            .mappingProvider(new JacksonMappingProvider(JsonUtil.MAPPER))
+            .build();
+
     public static EvaluateResult evaluate(String expression, String jsonDoc) {
         Object readResult;
         try {
@@ -35,15 +46,47 @@ public class JsonPathEvaluator {
 
         String jsonResult;
         if (readResult instanceof Map || readResult instanceof Iterable) {
-            jsonResult = JsonUtil.formatJson(readResult);
+            // 流式序列化直接输出格式化文本（换行符已固定为 \n），结果编辑器无需再重新格式化
+            jsonResult = JsonUtil.prettyJson(readResult);
         } else if (readResult instanceof String) {
             jsonResult = "\"" + readResult + "\"";
         } else {
             jsonResult = Objects.toString(readResult);
         }
 
-        // 去除\r
-        jsonResult = JsonAssistantUtil.normalizeLineEndings(jsonResult);
+        return new ResultString(jsonResult);
+    }
+
+
+    /**
+     * 对已解析的文档计算表达式
+     *
+     * @param expression 表达式
+     * @param document   已解析的文档
+     * @return 计算结果
+     */
+    public static EvaluateResult evaluate(String expression, JsonNode document) {
+        Object readResult;
+        try {
+            readResult = JsonPath.using(JSON_NODE_CONFIGURATION).parse(document).read(expression);
+        } catch (PathNotFoundException e) {
+            return new ResultNotFound(e.getMessage());
+        } catch (Exception e) {
+            return new IncorrectExpression(e.getMessage());
+        }
+
+        if (readResult == null) {
+            return new ResultString("null");
+        }
+
+        String jsonResult;
+        if (readResult instanceof JsonNode || readResult instanceof Map || readResult instanceof Iterable) {
+            jsonResult = JsonUtil.prettyJson(readResult);
+        } else if (readResult instanceof String) {
+            jsonResult = "\"" + readResult + "\"";
+        } else {
+            jsonResult = Objects.toString(readResult);
+        }
 
         return new ResultString(jsonResult);
     }
@@ -62,7 +105,7 @@ public class JsonPathEvaluator {
         }
 
         if (StrUtil.isBlank(jsonDoc)) {
-            return new IncorrectDocument(JsonAssistantBundle.messageOnSystem("json.query.evaluate.doc.blank"));
+            return new IncorrectDocument(JsonAssistantCoreBundle.message("json.query.evaluate.doc.blank"));
         }
 
         Configuration configuration = new Configuration.ConfigurationBuilder()
@@ -101,10 +144,11 @@ public class JsonPathEvaluator {
         if (result == null) return "null";
 
         if (result instanceof String) {
-            return "\"" + StringUtil.escapeStringCharacters((String) result) + "\"";
+            // 只转义引号、反斜杠与控制字符，中文等非 ASCII 字符保持原样
+            return "\"" + new String(JsonStringEncoder.getInstance().quoteAsString((String) result)) + "\"";
         }
 
-        if (ClassUtil.isPrimitive(result.getClass())) {
+        if (ClassUtils.isPrimitiveOrWrapper(result.getClass())) {
             return result.toString();
         }
 
@@ -6,24 +6,29 @@ import cn.memoryzy.json.model.wrapper.ArrayWrapper;
 import cn.memoryzy.json.model.wrapper.JsonWrapper;
 import cn.memoryzy.json.model.wrapper.ObjectWrapper;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.json.JsonReadFeature;
 import com.fasterxml.jackson.core.json.JsonWriteFeature;
 import com.fasterxml.jackson.core.util.DefaultIndenter;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.gson.GsonBuilder;
-import com.intellij.openapi.diagnostic.Logger;
 import org.apache.commons.lang3.StringEscapeUtils;
 
 import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.regex.Matcher;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import java.util.regex.Pattern;
 
 /**
@@ -32,7 +37,7 @@ import java.util.regex.Pattern;
  */
 public class JsonUtil {
 
-    private static final Logger LOG = Logger.getInstance(JsonUtil.class);
+    private static final Logger LOG = Logger.getLogger(JsonUtil.class.getName());
 
     /**
      * 构建 JsonMapper（支持解析 '非数字NaN' 标识）
@@ -44,6 +49,11 @@ public class JsonUtil {
             .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
             .build();
 
+    /**
+     * 流式格式化输出（Key 与冒号间无空格，换行符固定为 \n）
+     */
+    public static final ObjectWriter PRETTY_WRITER = MAPPER.writer(new NoSpaceAndLFPrettyPrinter());
+
     /**
      * 检查字符串是否为JSON格式。
      *
@@ -137,7 +147,7 @@ public class JsonUtil {
         try {
             return formatJson(MAPPER.readValue(jsonStr, Object.class));
         } catch (Exception e) {
-            LOG.error("Formatting failure", e);
+            LOG.log(Level.SEVERE, "Formatting failure", e);
             return null;
         }
     }
@@ -152,7 +162,7 @@ public class JsonUtil {
     public static String formatJson(Object data) {
         try {
             if (data instanceof JsonNode) {
-                return MAPPER.writer(new NoSpaceAndLFPrettyPrinter()).writeValueAsString(data);
+                return PRETTY_WRITER.writeValueAsString(data);
             }
 
             return new GsonBuilder()
@@ -163,7 +173,23 @@ public class JsonUtil {
                     .create()
                     .toJson(data);
         } catch (Exception e) {
-            LOG.error("Formatting failure", e);
+            LOG.log(Level.SEVERE, "Formatting failure", e);
+            return null;
+        }
+    }
+
+
+    /**
+     * 使用 Jackson 流式序列化直接输出格式化后的 Json（无需再经过 PSI 重新格式化）
+     *
+     * @param data 对象（Map、List、JsonNode 等）
+     * @return 格式化后的json字符串，失败返回 null
+     */
+    public static String prettyJson(Object data) {
+        try {
+            return PRETTY_WRITER.writeValueAsString(data);
+        } catch (Exception e) {
+            LOG.log(Level.SEVERE, "Formatting failure", e);
             return null;
         }
     }
@@ -179,7 +205,7 @@ public class JsonUtil {
         try {
             return compressJson(MAPPER.readTree(jsonStr));
         } catch (Exception e) {
-            LOG.error("Compression failure", e);
+            LOG.log(Level.SEVERE, "Compression failure", e);
             return null;
         }
     }
@@ -195,12 +221,106 @@ public class JsonUtil {
         try {
             return MAPPER.writeValueAsString(data);
         } catch (Exception e) {
-            LOG.error("Compression failure", e);
+            LOG.log(Level.SEVERE, "Compression failure", e);
             return null;
         }
     }
 
 
+    /**
+     * 将Json压缩成一行，只生成前 limit 个字符（用于预览，不序列化整个对象）
+     * <p>输出经生成器的缓冲区写出，实际序列化的字符数最多再多出一个缓冲区大小</p>
+     *
+     * @param data  对象
+     * @param limit 最多返回的字符数
+     * @return 压缩json的前 limit 个字符
+     */
+    public static String compressJson(Object data, int limit) {
+        BoundedWriter writer = new BoundedWriter(limit);
+        try {
+            MAPPER.writeValue(writer, data);
+        } catch (Exception e) {
+            if (!writer.isFull()) {
+                LOG.log(Level.SEVERE, "Compression failure", e);
+                return null;
+            }
+        }
+
+        return writer.toString();
+    }
+
+
+    /**
+     * 流式格式化或压缩 Json（逐个 token 复制，不构建对象树，适合大文件）
+     *
+     * @param reader 输入
+     * @param writer 输出
+     * @param pretty 格式化为 true，压缩为 false
+     * @throws IOException 读写失败或 Json 非法
+     */
+    public static void transferJson(Reader reader, Writer writer, boolean pretty) throws IOException {
+        try (JsonParser parser = MAPPER.createParser(reader);
+             JsonGenerator generator = MAPPER.createGenerator(writer)) {
+            if (pretty) {
+                generator.setPrettyPrinter(new NoSpaceAndLFPrettyPrinter());
+            }
+
+            while (parser.nextToken() != null) {
+                generator.copyCurrentEvent(parser);
+            }
+        }
+    }
+
+
+    /**
+     * 写满指定字符数后中止写入的 Writer
+     */
+    private static class BoundedWriter extends Writer {
+        private final StringBuilder builder = new StringBuilder();
+        private final int limit;
+
+        BoundedWriter(int limit) {
+            this.limit = limit;
+        }
+
+        boolean isFull() {
+            return builder.length() >= limit;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            int count = Math.min(len, limit - builder.length());
+            builder.append(cbuf, off, count);
+            if (isFull()) {
+                // 中止序列化
+                throw new IOException("Limit reached");
+            }
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            int count = Math.min(len, limit - builder.length());
+            builder.append(str, off, off + count);
+            if (isFull()) {
+                throw new IOException("Limit reached");
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String toString() {
+            return builder.toString();
+        }
+    }
+
+
     /**
      * 将对象转换为JSON字符串
      *
@@ -395,13 +515,15 @@ public class JsonUtil {
     /**
      * 使用默认的PrettyPrinter时，Key的后面总是会带一个空格，然后才是冒号，通过继承这个类做处理
      * <p>并且在Jackson生成的Json中换行符为系统默认的 \r\n 换行符，利用此类将其固定为 \n  <br/>
-     * （{@link com.intellij.openapi.editor.Document} 类不允许编辑器内出现\r）</p>
+     * （IDE 的 Document 类不允许编辑器内出现\r）</p>
+     * <p>数组元素同样逐行缩进，使输出无需再经过 IDE 格式化即可直接展示</p>
      */
     private static class NoSpaceAndLFPrettyPrinter extends DefaultPrettyPrinter {
 
         public NoSpaceAndLFPrettyPrinter() {
             super();
             super._objectIndenter = new DefaultIndenter("  ", "\n");
+            super._arrayIndenter = new DefaultIndenter("  ", "\n");
         }
 
         @Override
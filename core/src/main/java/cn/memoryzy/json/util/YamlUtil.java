@@ -1,6 +1,5 @@
 package cn.memoryzy.json.util;
 
-import com.google.common.collect.Lists;
 import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.Yaml;
 
@@ -56,7 +55,9 @@ public class YamlUtil {
     }
 
     public static List<Object> loadAll(String yamlStr) {
-        return Lists.newArrayList(yaml().loadAll(yamlStr));
+        List<Object> documents = new ArrayList<>();
+        yaml().loadAll(yamlStr).forEach(documents::add);
+        return documents;
     }
 
     public static String toJson(String yamlStr) {
@@ -0,0 +1,100 @@
+package cn.memoryzy.json.model.index;
+
+import cn.memoryzy.json.model.wrapper.ArrayWrapper;
+import cn.memoryzy.json.model.wrapper.ObjectWrapper;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Memory
+ * @since 2025/4/14
+ */
+public class JsonWrapperIndexTest {
+
+    /**
+     * 节点编号（先序）：0 name、1 tags、2 tags[0]、3 tags[1]、4 profile、5 profile.nickname、6 profile.age
+     */
+    private final JsonWrapperIndex index = JsonWrapperIndex.build(object(
+            "name", "Alice",
+            "tags", array("admin", "dev"),
+            "profile", object("nickname", "ali", "age", 30)));
+
+    @Test
+    public void nodesAreNumberedInDocumentOrder() {
+        assertEquals(7, index.size());
+        assertEquals(Collections.singletonList("name"), index.getPath(0));
+        assertEquals(Arrays.asList("tags", 1), index.getPath(3));
+        assertEquals(Arrays.asList("profile", "age"), index.getPath(6));
+    }
+
+    @Test
+    public void textSearchIgnoresCaseAndRespectsScope() {
+        assertArrayEquals(new int[]{0, 5}, index.search("ALI", JsonWrapperIndex.Scope.VALUE));
+        assertArrayEquals(new int[]{0, 5}, index.search("name", JsonWrapperIndex.Scope.KEY));
+        assertArrayEquals(new int[]{0, 5}, index.search("name", JsonWrapperIndex.Scope.ALL));
+        assertArrayEquals(new int[0], index.search("name", JsonWrapperIndex.Scope.VALUE));
+        assertArrayEquals(new int[]{6}, index.search("30", JsonWrapperIndex.Scope.VALUE));
+    }
+
+    @Test
+    public void shortTextIsVerifiedAgainstAllNodes() {
+        assertArrayEquals(new int[]{2}, index.search("ad", JsonWrapperIndex.Scope.VALUE));
+        assertArrayEquals(new int[]{0, 1, 5, 6}, index.search("a", JsonWrapperIndex.Scope.KEY));
+        assertArrayEquals(new int[0], index.search("", JsonWrapperIndex.Scope.ALL));
+    }
+
+    @Test
+    public void trigramCandidatesAreVerified() {
+        // 三元组 "lic"、"ice" 均出现，但不连续
+        ObjectWrapper json = object("a", "slice", "b", "lic-ice");
+        assertArrayEquals(new int[]{0}, JsonWrapperIndex.build(json).search("lice", JsonWrapperIndex.Scope.VALUE));
+    }
+
+    @Test
+    public void longValuesAreSearchedWithoutTrigrams() {
+        String longValue = StringUtils.repeat('x', 2000) + "needle";
+        JsonWrapperIndex longIndex = JsonWrapperIndex.build(object("short", "hay", "long", longValue));
+
+        assertArrayEquals(new int[]{1}, longIndex.search("NEEDLE", JsonWrapperIndex.Scope.VALUE));
+    }
+
+    @Test
+    public void regexSearchMatchesPartially() {
+        assertArrayEquals(new int[]{2, 5, 6}, index.search(Pattern.compile("^a"), JsonWrapperIndex.Scope.ALL));
+        assertArrayEquals(new int[]{6}, index.search(Pattern.compile("^a"), JsonWrapperIndex.Scope.KEY));
+        assertArrayEquals(new int[]{6}, index.search(Pattern.compile("\\d+"), JsonWrapperIndex.Scope.VALUE));
+    }
+
+    @Test(timeout = 10000)
+    public void regexSearchStopsWhenCanceled() {
+        // a+b 在每个起点都要读到末尾，匹配时间与长度的平方成正比
+        JsonWrapperIndex slowIndex = JsonWrapperIndex.build(object("value", StringUtils.repeat('a', 100_000)));
+        // 第一次检查在遍历节点时，之后的检查发生在匹配过程中
+        AtomicInteger checks = new AtomicInteger();
+
+        assertThrows(CancellationException.class,
+                () -> slowIndex.search(Pattern.compile("a+b"), JsonWrapperIndex.Scope.VALUE, () -> checks.incrementAndGet() > 2));
+        assertEquals(3, checks.get());
+    }
+
+    private static ObjectWrapper object(Object... keyValues) {
+        ObjectWrapper object = new ObjectWrapper();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            object.put((String) keyValues[i], keyValues[i + 1]);
+        }
+
+        return object;
+    }
+
+    private static ArrayWrapper array(Object... elements) {
+        return new ArrayWrapper(Arrays.asList(elements));
+    }
+}
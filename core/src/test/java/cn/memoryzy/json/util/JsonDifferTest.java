@@ -0,0 +1,130 @@
+package cn.memoryzy.json.util;
+
+import cn.memoryzy.json.enums.JsonDiffType;
+import cn.memoryzy.json.model.diff.JsonDifference;
+import cn.memoryzy.json.model.wrapper.ArrayWrapper;
+import cn.memoryzy.json.model.wrapper.ObjectWrapper;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static cn.memoryzy.json.util.JsonFingerprintTest.array;
+import static cn.memoryzy.json.util.JsonFingerprintTest.object;
+import static org.junit.Assert.*;
+
+/**
+ * @author Memory
+ * @since 2025/4/14
+ */
+public class JsonDifferTest {
+
+    @Test
+    public void longestIncreasingMatchesSkipsUnmatched() {
+        // 右侧下标：3 0 -1 1 2 → 0 1 2 为最长递增子序列
+        boolean[] stable = JsonDiffer.longestIncreasingMatches(new int[]{3, 0, -1, 1, 2});
+        assertArrayEquals(new boolean[]{false, true, false, true, true}, stable);
+    }
+
+    @Test
+    public void longestIncreasingMatchesHandlesEmptyAndUnmatched() {
+        assertArrayEquals(new boolean[0], JsonDiffer.longestIncreasingMatches(new int[0]));
+        assertArrayEquals(new boolean[]{false, false}, JsonDiffer.longestIncreasingMatches(new int[]{-1, -1}));
+    }
+
+    @Test
+    public void matchByHashAlignsPrefixSuffixAndDuplicatesInOrder() {
+        List<Object> left = Arrays.asList("a", "x", "y", "x", "z");
+        List<Object> right = Arrays.asList("a", "y", "x", "x", "q", "z");
+
+        assertArrayEquals(new int[]{0, 2, 1, 3, 5}, JsonDiffer.matchByHash(left, right));
+    }
+
+    @Test
+    public void matchByHashLeavesUnknownElementsUnmatched() {
+        assertArrayEquals(new int[]{-1, 1}, JsonDiffer.matchByHash(Arrays.asList("a", "b"), Arrays.asList("c", "b")));
+    }
+
+    @Test
+    public void identicalTreesHaveNoDifferences() {
+        ObjectWrapper left = object("a", 1, "list", array(1, 2, object("b", true)));
+        ObjectWrapper right = object("list", array(1, 2, object("b", true)), "a", 1L);
+
+        assertTrue(JsonDiffer.diff(left, right).isEmpty());
+    }
+
+    @Test
+    public void objectMembersAreMatchedByKey() {
+        List<JsonDifference> differences = JsonDiffer.diff(object("a", 1, "b", 2), object("b", 3, "c", 4));
+
+        assertEquals(3, differences.size());
+        assertDifference(differences.get(0), JsonDiffType.REMOVED, Collections.singletonList("a"), null);
+        assertDifference(differences.get(1), JsonDiffType.CHANGED, Collections.singletonList("b"), Collections.singletonList("b"));
+        assertDifference(differences.get(2), JsonDiffType.ADDED, null, Collections.singletonList("c"));
+    }
+
+    @Test
+    public void movedElementIsReportedOnce() {
+        List<JsonDifference> differences = JsonDiffer.diff(array("a", "b", "c", "d"), array("b", "c", "d", "a"));
+
+        assertEquals(1, differences.size());
+        assertDifference(differences.get(0), JsonDiffType.MOVED, Collections.singletonList(0), Collections.singletonList(3));
+    }
+
+    @Test
+    public void unmatchedElementsArePairedByPositionWithinGaps() {
+        // b → x 与 d → y 分别位于 a、c、e 之间的空隙，按位置比较；多出的 z 为新增
+        List<JsonDifference> differences = JsonDiffer.diff(array("a", "b", "c", "d", "e"), array("a", "x", "c", "y", "z", "e"));
+
+        assertEquals(3, differences.size());
+        assertDifference(differences.get(0), JsonDiffType.CHANGED, Collections.singletonList(1), Collections.singletonList(1));
+        assertDifference(differences.get(1), JsonDiffType.CHANGED, Collections.singletonList(3), Collections.singletonList(3));
+        assertDifference(differences.get(2), JsonDiffType.ADDED, null, Collections.singletonList(4));
+        assertEquals("b", differences.get(0).getLeftValue());
+        assertEquals("x", differences.get(0).getRightValue());
+    }
+
+    @Test
+    public void elementsAreMatchedByIdentityKey() {
+        ArrayWrapper left = array(object("id", 1, "name", "a"), object("id", 2, "name", "b"));
+        ArrayWrapper right = array(object("id", 2, "name", "b"), object("id", 1, "name", "changed"));
+
+        List<JsonDifference> differences = JsonDiffer.diff(left, right, Collections.singletonList("id"));
+
+        assertEquals(2, differences.size());
+        assertDifference(differences.get(0), JsonDiffType.MOVED, Collections.singletonList(0), Collections.singletonList(1));
+        assertDifference(differences.get(1), JsonDiffType.CHANGED, Arrays.asList(0, "name"), Arrays.asList(1, "name"));
+    }
+
+    @Test
+    public void identityKeyMissingOnOneSideFallsBackToHash() {
+        ArrayWrapper left = array(object("id", 1), object("key", 2));
+        ArrayWrapper right = array(object("key", 2), object("id", 1));
+
+        List<JsonDifference> differences = JsonDiffer.diff(left, right, Collections.singletonList("id"));
+
+        assertEquals(1, differences.size());
+        assertEquals(JsonDiffType.MOVED, differences.get(0).getType());
+    }
+
+    @Test
+    public void firstIdentityKeyPresentOnBothSidesWins() {
+        ArrayWrapper left = array(object("code", "a", "id", 1), object("code", "b", "id", 2));
+        ArrayWrapper right = array(object("code", "b", "id", 1), object("code", "a", "id", 2));
+
+        // 按 code 对应时两个元素交换了位置，且 id 均发生变化
+        List<JsonDifference> differences = JsonDiffer.diff(left, right, Arrays.asList("name", "code", "id"));
+
+        assertEquals(3, differences.size());
+        assertEquals(JsonDiffType.MOVED, differences.get(0).getType());
+        assertDifference(differences.get(1), JsonDiffType.CHANGED, Arrays.asList(0, "id"), Arrays.asList(1, "id"));
+        assertDifference(differences.get(2), JsonDiffType.CHANGED, Arrays.asList(1, "id"), Arrays.asList(0, "id"));
+    }
+
+    private static void assertDifference(JsonDifference difference, JsonDiffType type, List<Object> leftPath, List<Object> rightPath) {
+        assertEquals(type, difference.getType());
+        assertEquals(leftPath, difference.getLeftPath());
+        assertEquals(rightPath, difference.getRightPath());
+    }
+}
@@ -0,0 +1,102 @@
+package cn.memoryzy.json.util;
+
+import cn.memoryzy.json.model.wrapper.ArrayWrapper;
+import cn.memoryzy.json.model.wrapper.ObjectWrapper;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Memory
+ * @since 2025/4/14
+ */
+public class JsonFingerprintTest {
+
+    @Test
+    public void objectKeyOrderIsIgnoredByDefault() {
+        ObjectWrapper left = object("a", 1, "b", "x");
+        ObjectWrapper right = object("b", "x", "a", 1);
+
+        assertEquals(left.fingerprint(), right.fingerprint());
+        assertNotEquals(left.orderedFingerprint(), right.orderedFingerprint());
+        assertTrue(JsonFingerprint.same(left, right));
+    }
+
+    @Test
+    public void arrayOrderMatters() {
+        ArrayWrapper left = array(1, 2, 3);
+        ArrayWrapper right = array(3, 2, 1);
+
+        assertNotEquals(left.fingerprint(), right.fingerprint());
+        assertEquals(left.fingerprint(), array(1, 2, 3).fingerprint());
+    }
+
+    @Test
+    public void numbersAreHashedByText() {
+        assertEquals(JsonFingerprint.of(1), JsonFingerprint.of(1L));
+        assertNotEquals(JsonFingerprint.of(1), JsonFingerprint.of("1"));
+        assertNotEquals(JsonFingerprint.of(true), JsonFingerprint.of("true"));
+        assertNotEquals(JsonFingerprint.of(null), JsonFingerprint.of("null"));
+    }
+
+    @Test
+    public void containersOfDifferentKindDiffer() {
+        assertNotEquals(new ObjectWrapper().fingerprint(), array().fingerprint());
+        assertNotEquals(object("a", array()).fingerprint(), object("a", new ObjectWrapper()).fingerprint());
+    }
+
+    @Test
+    public void nestedChangeInvalidatesCachedFingerprint() {
+        ObjectWrapper child = object("id", 1);
+        ObjectWrapper root = object("child", child, "list", array(1, 2));
+        long before = root.fingerprint();
+
+        child.put("id", 2);
+        long changed = root.fingerprint();
+        assertNotEquals(before, changed);
+
+        ((ArrayWrapper) root.get("list")).add(3);
+        assertNotEquals(changed, root.fingerprint());
+
+        child.put("id", 1);
+        ((ArrayWrapper) root.get("list")).remove(2);
+        assertEquals(before, root.fingerprint());
+    }
+
+    @Test
+    public void cacheIsValidUntilInvalidated() {
+        long[] fingerprints = JsonFingerprint.compute(object("a", 1));
+        assertTrue(JsonFingerprint.isValid(fingerprints));
+
+        JsonFingerprint.invalidate();
+        assertFalse(JsonFingerprint.isValid(fingerprints));
+        assertFalse(JsonFingerprint.isValid(null));
+    }
+
+    @Test
+    public void wrappersBuiltFromParsedValuesMatchHandBuiltOnes() {
+        Map<String, Object> source = new LinkedHashMap<>();
+        source.put("name", "json");
+        source.put("tags", Arrays.asList("a", "b"));
+
+        ObjectWrapper expected = object("name", "json", "tags", array("a", "b"));
+        assertEquals(expected.fingerprint(), new ObjectWrapper(source).fingerprint());
+    }
+
+    static ObjectWrapper object(Object... keyValues) {
+        ObjectWrapper object = new ObjectWrapper();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            object.put((String) keyValues[i], keyValues[i + 1]);
+        }
+
+        return object;
+    }
+
+    static ArrayWrapper array(Object... elements) {
+        return new ArrayWrapper(Arrays.asList(elements));
+    }
+}
@@ -1 +1,3 @@
 rootProject.name = "Json Assistant"
+
+include("core", "cli")
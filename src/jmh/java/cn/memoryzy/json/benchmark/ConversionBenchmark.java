@@ -0,0 +1,83 @@
+package cn.memoryzy.json.benchmark;
+
+import cn.memoryzy.json.util.DataConverter;
+import cn.memoryzy.json.util.TomlUtil;
+import cn.memoryzy.json.util.XmlUtil;
+import cn.memoryzy.json.util.YamlUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Json 与 XML、YAML、TOML、Properties、URL 参数之间的互转
+ *
+ * @author Memory
+ * @since 2025/3/22
+ */
+public class ConversionBenchmark extends CorpusBenchmark {
+
+    private String xml;
+    private String yaml;
+    private String toml;
+    private String properties;
+    private String urlParams;
+
+    @Override
+    protected void prepare() throws Exception {
+        xml = XmlUtil.toXml(json, true);
+        yaml = YamlUtil.toYaml(json, true);
+        toml = TomlUtil.toToml(json, true);
+        // Properties 与 URL 参数只保留顶层基本类型字段
+        properties = DataConverter.jsonToProperties(json, true);
+        urlParams = DataConverter.jsonToUrlParams(json, true);
+    }
+
+    @Benchmark
+    public String jsonToXml() throws Exception {
+        return XmlUtil.toXml(json, true);
+    }
+
+    @Benchmark
+    public String xmlToJson() {
+        return XmlUtil.toJson(xml);
+    }
+
+    @Benchmark
+    public String jsonToYaml() {
+        return YamlUtil.toYaml(json, true);
+    }
+
+    @Benchmark
+    public String yamlToJson() {
+        return YamlUtil.toJson(yaml);
+    }
+
+    @Benchmark
+    public String jsonToToml() {
+        return TomlUtil.toToml(json, true);
+    }
+
+    @Benchmark
+    public String tomlToJson() {
+        return TomlUtil.toJson(toml);
+    }
+
+    @Benchmark
+    public String jsonToProperties() {
+        return DataConverter.jsonToProperties(json, true);
+    }
+
+    @Benchmark
+    public String propertiesToJson() {
+        return DataConverter.propertiesToJson(properties);
+    }
+
+    @Benchmark
+    public String jsonToUrlParams() {
+        return DataConverter.jsonToUrlParams(json, true);
+    }
+
+    @Benchmark
+    public String urlParamsToJson() {
+        return DataConverter.urlParamsToJson(urlParams);
+    }
+
+}
@@ -0,0 +1,47 @@
+package cn.memoryzy.json.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基准测试公共参数：语料结构、大小与种子（大语料可通过 -p size=200MB 指定）
+ *
+ * @author Memory
+ * @since 2025/3/22
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx4g"})
+public abstract class CorpusBenchmark {
+
+    @Param({"FLAT", "DEEP", "WIDE"})
+    public JsonCorpus.Shape shape;
+
+    @Param({"16KB", "1MB"})
+    public String size;
+
+    @Param({"20250322"})
+    public long seed;
+
+    /**
+     * 压缩形式的 Json 文本
+     */
+    protected String json;
+
+    @Setup(Level.Trial)
+    public void setUpCorpus() throws Exception {
+        json = JsonCorpus.generate(shape, JsonCorpus.parseSize(size), seed);
+        prepare();
+    }
+
+    /**
+     * 基于语料准备各基准所需的输入
+     */
+    protected void prepare() throws Exception {
+    }
+
+}
@@ -0,0 +1,66 @@
+package cn.memoryzy.json.benchmark;
+
+import cn.memoryzy.json.model.HistoryLimitedList;
+import cn.memoryzy.json.model.JsonEntry;
+import cn.memoryzy.json.model.wrapper.JsonWrapper;
+import cn.memoryzy.json.service.persistent.JsonHistoryPersistentState;
+import cn.memoryzy.json.util.JsonUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 历史记录添加：已满的记录中交替添加新记录与已存在记录
+ *
+ * @author Memory
+ * @since 2025/3/22
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx4g"})
+public class HistoryBenchmark {
+
+    @Param({"FLAT", "DEEP", "WIDE"})
+    public JsonCorpus.Shape shape;
+
+    /**
+     * 单条记录大小
+     */
+    @Param({"1KB", "64KB"})
+    public String entrySize;
+
+    @Param({"20250322"})
+    public long seed;
+
+    private final List<JsonWrapper> pool = new ArrayList<>();
+    private HistoryLimitedList history;
+    private int cursor;
+    private int id;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 记录池为容量的两倍，轮流添加时既有命中也有未命中
+        long bytes = JsonCorpus.parseSize(entrySize);
+        for (int i = 0; i < JsonHistoryPersistentState.LIMIT * 2; i++) {
+            pool.add(JsonUtil.parse(JsonCorpus.generate(shape, bytes, seed + i)));
+        }
+
+        history = new HistoryLimitedList(JsonHistoryPersistentState.LIMIT);
+        for (int i = 0; i < JsonHistoryPersistentState.LIMIT; i++) {
+            history.addEntry(id++, pool.get(i));
+        }
+    }
+
+    @Benchmark
+    public JsonEntry add() {
+        JsonWrapper wrapper = pool.get(cursor);
+        cursor = (cursor + 3) % pool.size();
+        return history.addEntry(id++, wrapper);
+    }
+
+}
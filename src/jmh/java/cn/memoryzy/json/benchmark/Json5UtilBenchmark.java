@@ -0,0 +1,40 @@
+package cn.memoryzy.json.benchmark;
+
+import cn.memoryzy.json.model.wrapper.JsonWrapper;
+import cn.memoryzy.json.util.Json5Util;
+import cn.memoryzy.json.util.JsonUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Json5Util 解析与格式化
+ *
+ * @author Memory
+ * @since 2025/3/22
+ */
+public class Json5UtilBenchmark extends CorpusBenchmark {
+
+    private String json5;
+    private JsonWrapper wrapper;
+
+    @Override
+    protected void prepare() {
+        wrapper = JsonUtil.parse(json);
+        json5 = Json5Util.convertJsonToJson5(json);
+    }
+
+    @Benchmark
+    public Object resolveJson5() {
+        return Json5Util.resolveJson5(json5);
+    }
+
+    @Benchmark
+    public String formatJson5Text() {
+        return Json5Util.formatJson5(json5);
+    }
+
+    @Benchmark
+    public String formatJson5Wrapper() {
+        return Json5Util.formatJson5(wrapper);
+    }
+
+}
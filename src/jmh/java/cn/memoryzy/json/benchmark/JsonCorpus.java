@@ -0,0 +1,208 @@
+package cn.memoryzy.json.benchmark;
+
+import cn.memoryzy.json.model.wrapper.ArrayWrapper;
+import cn.memoryzy.json.model.wrapper.ObjectWrapper;
+
+import java.util.*;
+
+/**
+ * 基准测试用的合成 Json 语料生成器（固定种子，结果可复现）
+ *
+ * @author Memory
+ * @since 2025/3/22
+ */
+public final class JsonCorpus {
+
+    /**
+     * DEEP 结构中单个节点链的嵌套层数
+     */
+    public static final int DEPTH = 48;
+
+    private static final String[] WORDS = {
+            "alpha", "bravo", "charlie", "delta", "echo", "foxtrot", "golf", "hotel",
+            "india", "juliet", "kilo", "lima", "mike", "november", "oscar", "papa"
+    };
+
+    public enum Shape {
+        /**
+         * 少量头部字段 + 大数组（数组元素为仅含基本类型的对象）
+         */
+        FLAT,
+
+        /**
+         * 节点链深度嵌套，对象与数组交替
+         */
+        DEEP,
+
+        /**
+         * 单个对象，大量同级键
+         */
+        WIDE
+    }
+
+    private JsonCorpus() {
+    }
+
+    /**
+     * 生成压缩形式的 Json 文本，长度约等于目标大小
+     *
+     * @param shape       结构
+     * @param targetBytes 目标大小（字节）
+     * @param seed        随机种子
+     * @return Json 文本
+     */
+    public static String generate(Shape shape, long targetBytes, long seed) {
+        Random random = new Random(seed);
+        StringBuilder sb = new StringBuilder((int) Math.min(targetBytes + 4096, Integer.MAX_VALUE - 8));
+        switch (shape) {
+            case FLAT:
+                generateFlat(sb, random, targetBytes);
+                break;
+            case DEEP:
+                generateDeep(sb, random, targetBytes);
+                break;
+            case WIDE:
+                generateWide(sb, random, targetBytes);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown shape: " + shape);
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * 解析大小描述，如 16KB、1MB、200MB
+     *
+     * @param size 大小描述
+     * @return 字节数
+     */
+    public static long parseSize(String size) {
+        String text = size.trim().toUpperCase(Locale.ROOT);
+        if (text.endsWith("MB")) {
+            return Long.parseLong(text.substring(0, text.length() - 2).trim()) * 1024 * 1024;
+        } else if (text.endsWith("KB")) {
+            return Long.parseLong(text.substring(0, text.length() - 2).trim()) * 1024;
+        } else if (text.endsWith("B")) {
+            return Long.parseLong(text.substring(0, text.length() - 1).trim());
+        }
+
+        return Long.parseLong(text);
+    }
+
+    /**
+     * 生成打乱顺序的副本：对象键逆序、数组元素按种子洗牌，用于排序与比较类基准
+     *
+     * @param data   ObjectWrapper、ArrayWrapper 或基本类型
+     * @param random 随机数
+     * @return 副本
+     */
+    public static Object shuffledCopy(Object data, Random random) {
+        if (data instanceof ObjectWrapper) {
+            ObjectWrapper source = (ObjectWrapper) data;
+            List<String> keys = new ArrayList<>(source.keySet());
+            Collections.reverse(keys);
+
+            ObjectWrapper copy = new ObjectWrapper();
+            for (String key : keys) {
+                copy.put(key, shuffledCopy(source.get(key), random));
+            }
+            return copy;
+        } else if (data instanceof ArrayWrapper) {
+            ArrayWrapper copy = new ArrayWrapper();
+            for (Object el : (ArrayWrapper) data) {
+                copy.add(shuffledCopy(el, random));
+            }
+            Collections.shuffle(copy, random);
+            return copy;
+        }
+
+        return data;
+    }
+
+    private static void generateFlat(StringBuilder sb, Random random, long targetBytes) {
+        sb.append("{\"page\":1,\"source\":\"").append(word(random)).append("\",\"records\":[");
+        int index = 0;
+        while (sb.length() < targetBytes) {
+            if (index > 0) sb.append(',');
+            appendRecord(sb, random, index++);
+        }
+        sb.append("]}");
+    }
+
+    private static void generateDeep(StringBuilder sb, Random random, long targetBytes) {
+        sb.append("{\"nodes\":[");
+        int index = 0;
+        while (sb.length() < targetBytes) {
+            if (index++ > 0) sb.append(',');
+            // 奇数层的 child 为数组，偶数层为对象
+            for (int level = 0; level < DEPTH; level++) {
+                sb.append("{\"level\":").append(level)
+                        .append(",\"name\":\"").append(word(random))
+                        .append("\",\"value\":").append(random.nextInt(100000))
+                        .append(",\"child\":");
+                if (level % 2 == 1) sb.append('[');
+            }
+
+            sb.append("\"leaf\"");
+
+            for (int level = DEPTH - 1; level >= 0; level--) {
+                if (level % 2 == 1) sb.append(']');
+                sb.append('}');
+            }
+        }
+        sb.append("]}");
+    }
+
+    private static void generateWide(StringBuilder sb, Random random, long targetBytes) {
+        sb.append('{');
+        int index = 0;
+        while (sb.length() < targetBytes) {
+            if (index > 0) sb.append(',');
+            sb.append("\"key_").append(index).append("\":");
+            appendScalar(sb, random, index++);
+        }
+        sb.append('}');
+    }
+
+    private static void appendRecord(StringBuilder sb, Random random, int index) {
+        sb.append("{\"id\":").append(index)
+                .append(",\"name\":\"").append(word(random)).append(' ').append(word(random))
+                .append("\",\"active\":").append(random.nextBoolean())
+                .append(",\"price\":").append(price(random))
+                .append(",\"count\":").append(random.nextInt(10000))
+                .append(",\"category\":\"").append(word(random))
+                .append("\",\"createdAt\":\"").append(date(random))
+                .append("\"}");
+    }
+
+    private static void appendScalar(StringBuilder sb, Random random, int index) {
+        switch (index % 4) {
+            case 0:
+                sb.append('"').append(word(random)).append('"');
+                break;
+            case 1:
+                sb.append(random.nextInt(1000000));
+                break;
+            case 2:
+                sb.append(price(random));
+                break;
+            default:
+                sb.append(random.nextBoolean());
+                break;
+        }
+    }
+
+    private static String word(Random random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    private static double price(Random random) {
+        return random.nextInt(100000) / 100.0;
+    }
+
+    private static String date(Random random) {
+        return String.format("2024-%02d-%02d", random.nextInt(12) + 1, random.nextInt(28) + 1);
+    }
+
+}
@@ -0,0 +1,54 @@
+package cn.memoryzy.json.benchmark;
+
+import cn.memoryzy.json.model.wrapper.JsonWrapper;
+import cn.memoryzy.json.util.JsonUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * JsonUtil 识别、解析、格式化与压缩
+ *
+ * @author Memory
+ * @since 2025/3/22
+ */
+public class JsonUtilBenchmark extends CorpusBenchmark {
+
+    private String formattedJson;
+    private JsonWrapper wrapper;
+
+    @Override
+    protected void prepare() {
+        wrapper = JsonUtil.parse(json);
+        formattedJson = JsonUtil.formatJson(json);
+    }
+
+    @Benchmark
+    public boolean isJson() {
+        return JsonUtil.isJson(json);
+    }
+
+    @Benchmark
+    public JsonWrapper parse() {
+        return JsonUtil.parse(json);
+    }
+
+    @Benchmark
+    public String formatJsonText() {
+        return JsonUtil.formatJson(json);
+    }
+
+    @Benchmark
+    public String formatJsonWrapper() {
+        return JsonUtil.formatJson(wrapper);
+    }
+
+    @Benchmark
+    public String compressJsonText() {
+        return JsonUtil.compressJson(formattedJson);
+    }
+
+    @Benchmark
+    public String compressJsonWrapper() {
+        return JsonUtil.compressJson(wrapper);
+    }
+
+}
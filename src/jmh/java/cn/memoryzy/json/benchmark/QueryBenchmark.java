@@ -0,0 +1,61 @@
+package cn.memoryzy.json.benchmark;
+
+import cn.memoryzy.json.model.jsonpath.EvaluateResult;
+import cn.memoryzy.json.util.JmesPathEvaluator;
+import cn.memoryzy.json.util.JsonPathEvaluator;
+import cn.memoryzy.json.util.JsonUtil;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * JsonPath 与 JMESPath 查询（从文本计算，以及基于已解析文档计算）
+ *
+ * @author Memory
+ * @since 2025/3/22
+ */
+public class QueryBenchmark extends CorpusBenchmark {
+
+    private String jsonPath;
+    private String jmesPath;
+    private JsonNode document;
+
+    @Override
+    protected void prepare() throws Exception {
+        document = JsonUtil.MAPPER.readTree(json);
+        switch (shape) {
+            case FLAT:
+                jsonPath = "$.records[?(@.price > 500)].name";
+                jmesPath = "records[?price > `500`].name";
+                break;
+            case DEEP:
+                jsonPath = "$..level";
+                jmesPath = "nodes[*].child.child[0].child.level";
+                break;
+            default:
+                jsonPath = "$.key_42";
+                jmesPath = "key_42";
+                break;
+        }
+    }
+
+    @Benchmark
+    public EvaluateResult jsonPathFromText() {
+        return JsonPathEvaluator.evaluate(jsonPath, json);
+    }
+
+    @Benchmark
+    public EvaluateResult jsonPathFromNode() {
+        return JsonPathEvaluator.evaluate(jsonPath, document);
+    }
+
+    @Benchmark
+    public EvaluateResult jmesPathFromText() {
+        return JmesPathEvaluator.evaluate(jmesPath, json);
+    }
+
+    @Benchmark
+    public EvaluateResult jmesPathFromNode() {
+        return JmesPathEvaluator.evaluate(jmesPath, document);
+    }
+
+}
@@ -0,0 +1,40 @@
+package cn.memoryzy.json.benchmark;
+
+import cn.memoryzy.json.action.structure.OptimizeSortAction;
+import cn.memoryzy.json.model.diff.JsonDifference;
+import cn.memoryzy.json.model.wrapper.JsonWrapper;
+import cn.memoryzy.json.util.JsonDiffer;
+import cn.memoryzy.json.util.JsonUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 结构比较：结构差异与按左侧顺序排序
+ *
+ * @author Memory
+ * @since 2025/3/22
+ */
+public class StructureBenchmark extends CorpusBenchmark {
+
+    private JsonWrapper left;
+    private Object right;
+
+    @Override
+    protected void prepare() {
+        left = JsonUtil.parse(json);
+        right = JsonCorpus.shuffledCopy(left, new Random(seed));
+    }
+
+    @Benchmark
+    public List<JsonDifference> diff() {
+        return JsonDiffer.diff(left, right);
+    }
+
+    @Benchmark
+    public Object optimizeSort() {
+        return OptimizeSortAction.sortRightAccordingToLeft(left, right);
+    }
+
+}
@@ -0,0 +1,43 @@
+package cn.memoryzy.json.action.query;
+
+import cn.memoryzy.json.bundle.JsonAssistantBundle;
+import cn.memoryzy.json.service.persistent.state.QueryState;
+import cn.memoryzy.json.ui.JsonQueryComponentProvider;
+import com.intellij.icons.AllIcons;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.Presentation;
+import com.intellij.openapi.project.DumbAwareToggleAction;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * @author Memory
+ * @since 2025/3/20
+ */
+public class ShowWatchListAction extends DumbAwareToggleAction {
+
+    private final QueryState queryState;
+    private final JsonQueryComponentProvider queryComponentProvider;
+
+    public ShowWatchListAction(QueryState queryState, JsonQueryComponentProvider queryComponentProvider) {
+        super();
+        this.queryState = queryState;
+        this.queryComponentProvider = queryComponentProvider;
+        setEnabledInModalContext(true);
+        Presentation presentation = getTemplatePresentation();
+        presentation.setText(JsonAssistantBundle.messageOnSystem("action.show.watch.list.text"));
+        presentation.setDescription(JsonAssistantBundle.messageOnSystem("action.show.watch.list.description"));
+        presentation.setIcon(AllIcons.Debugger.Watch);
+    }
+
+
+    @Override
+    public boolean isSelected(@NotNull AnActionEvent e) {
+        return queryState.showWatchList;
+    }
+
+    @Override
+    public void setSelected(@NotNull AnActionEvent e, boolean state) {
+        queryState.showWatchList = state;
+        queryComponentProvider.toggleWatchListVisibility(state);
+    }
+}
@@ -34,8 +34,9 @@ public class CopyKeyAction extends DumbAwareAction {
             List<String> keyList = new ArrayList<>();
             for (TreePath path : paths) {
                 JsonTreeNode node = (JsonTreeNode) path.getLastPathComponent();
-                // 有key
-                if (!JsonTreeNodeType.JSONArrayElement.equals(node.getNodeType())) {
+                // 有key（分组节点没有key）
+                if (!JsonTreeNodeType.JSONArrayElement.equals(node.getNodeType())
+                        && !JsonTreeNodeType.JSONArrayRange.equals(node.getNodeType())) {
                     // key
                     keyList.add(node.getUserObject().toString());
                 }
@@ -57,7 +58,8 @@ public class CopyKeyAction extends DumbAwareAction {
             TreePath path = paths[0];
             JsonTreeNode node = (JsonTreeNode) path.getLastPathComponent();
             JsonTreeNodeType nodeType = node.getNodeType();
-            return !Objects.equals(JsonTreeNodeType.JSONArrayElement, nodeType);
+            return !Objects.equals(JsonTreeNodeType.JSONArrayElement, nodeType)
+                    && !Objects.equals(JsonTreeNodeType.JSONArrayRange, nodeType);
         }
 
         return true;
@@ -4,6 +4,7 @@ import cn.hutool.core.util.StrUtil;
 import cn.memoryzy.json.bundle.JsonAssistantBundle;
 import cn.memoryzy.json.enums.JsonTreeNodeType;
 import cn.memoryzy.json.model.wrapper.JsonWrapper;
+import cn.memoryzy.json.ui.node.JsonArrayRangeNode;
 import cn.memoryzy.json.ui.node.JsonTreeNode;
 import cn.memoryzy.json.util.JsonUtil;
 import cn.memoryzy.json.util.PlatformUtil;
@@ -46,6 +47,8 @@ public class CopyKeyValueAction extends DumbAwareAction {
                     valueList.add(userObject);
                 } else if (Objects.equals(JsonTreeNodeType.JSONObjectProperty, nodeType)) {
                     valueList.add(userObject + ": " + (Objects.nonNull(value) ? value.toString() : "null"));
+                } else if (node instanceof JsonArrayRangeNode) {
+                    valueList.add(userObject + ": " + JsonUtil.formatJson(((JsonArrayRangeNode) node).getRangeValue()));
                 } else {
                     JsonWrapper json = (JsonWrapper) value;
                     String item = Objects.nonNull(json) ? JsonUtil.formatJson(json) : "null";
@@ -43,6 +43,10 @@ public class CopyNodePathAction extends DumbAwareAction {
                 for (Object pathElement : pathElements) {
                     JsonTreeNode node = (JsonTreeNode) pathElement;
                     JsonTreeNodeType nodeType = node.getNodeType();
+                    // 分组节点不属于路径
+                    if (JsonTreeNodeType.JSONArrayRange == nodeType) {
+                        continue;
+                    }
 
                     if (JsonTreeNodeType.JSONArrayElement == nodeType) {
                         JsonStructureComponentProvider.appendArrayElementPath(node, pathString);
@@ -4,6 +4,7 @@ import cn.hutool.core.util.StrUtil;
 import cn.memoryzy.json.bundle.JsonAssistantBundle;
 import cn.memoryzy.json.enums.JsonTreeNodeType;
 import cn.memoryzy.json.model.wrapper.JsonWrapper;
+import cn.memoryzy.json.ui.node.JsonArrayRangeNode;
 import cn.memoryzy.json.ui.node.JsonTreeNode;
 import cn.memoryzy.json.util.JsonUtil;
 import cn.memoryzy.json.util.PlatformUtil;
@@ -42,6 +43,9 @@ public class CopyValueAction extends DumbAwareAction {
                 if (Objects.equals(JsonTreeNodeType.JSONArrayElement, nodeType)
                         || Objects.equals(JsonTreeNodeType.JSONObjectProperty, nodeType)) {
                     valueList.add(Objects.nonNull(value) ? value.toString() : "null");
+                } else if (node instanceof JsonArrayRangeNode) {
+                    // 分组节点只复制区间内的元素
+                    valueList.add(JsonUtil.formatJson(((JsonArrayRangeNode) node).getRangeValue()));
                 } else {
                     JsonWrapper json = (JsonWrapper) value;
                     String item = Objects.nonNull(json) ? JsonUtil.formatJson(json) : "null";
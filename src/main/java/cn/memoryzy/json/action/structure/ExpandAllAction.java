@@ -1,7 +1,7 @@
 package cn.memoryzy.json.action.structure;
 
 import cn.memoryzy.json.bundle.JsonAssistantBundle;
-import cn.memoryzy.json.util.UIManager;
+import cn.memoryzy.json.ui.TreeExpandTask;
 import com.intellij.openapi.actionSystem.AnActionEvent;
 import com.intellij.openapi.actionSystem.CustomShortcutSet;
 import com.intellij.ui.DumbAwareActionButton;
@@ -12,6 +12,8 @@ import org.jetbrains.annotations.NotNull;
 import javax.swing.*;
 import javax.swing.tree.TreeNode;
 import javax.swing.tree.TreePath;
+import java.util.ArrayList;
+import java.util.List;
 
 public class ExpandAllAction extends DumbAwareActionButton {
 
@@ -40,10 +42,18 @@ public class ExpandAllAction extends DumbAwareActionButton {
     @Override
     public void actionPerformed(@NotNull AnActionEvent event) {
         TreeNode root = (TreeNode) tree.getModel().getRoot();
+        TreePath rootPath = new TreePath(root);
+        List<TreePath> paths = new ArrayList<>();
         if (includeRoot) {
-            UIManager.expandAll(tree, new TreePath(root));
+            paths.add(rootPath);
         } else {
-            UIManager.expandSecondaryNode(tree, root);
+            // 根节点隐藏时，从二级节点开始展开
+            for (int i = 0; i < root.getChildCount(); i++) {
+                paths.add(rootPath.pathByAddingChild(root.getChildAt(i)));
+            }
         }
+
+        // 后台分批展开，超出行数预算后停止
+        TreeExpandTask.expandAll(event.getProject(), tree, paths);
     }
 }
\ No newline at end of file
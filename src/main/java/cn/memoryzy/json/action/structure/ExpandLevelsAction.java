@@ -0,0 +1,42 @@
+package cn.memoryzy.json.action.structure;
+
+import cn.memoryzy.json.bundle.JsonAssistantBundle;
+import cn.memoryzy.json.ui.TreeExpandTask;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.project.DumbAwareAction;
+import com.intellij.ui.treeStructure.Tree;
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.tree.TreePath;
+import java.util.Arrays;
+
+/**
+ * 从所选节点已展开部分的边缘继续展开若干层
+ *
+ * @author Memory
+ * @since 2025/4/6
+ */
+public class ExpandLevelsAction extends DumbAwareAction {
+
+    private final Tree tree;
+
+    public ExpandLevelsAction(Tree tree) {
+        super(JsonAssistantBundle.message("action.structure.expand.levels.text"),
+                JsonAssistantBundle.messageOnSystem("action.structure.expand.levels.description"),
+                null);
+        this.tree = tree;
+    }
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent event) {
+        TreePath[] paths = tree.getSelectionPaths();
+        if (paths != null) {
+            TreeExpandTask.expandMoreLevels(event.getProject(), tree, Arrays.asList(paths));
+        }
+    }
+
+    @Override
+    public void update(@NotNull AnActionEvent event) {
+        event.getPresentation().setEnabledAndVisible(ExpandMultiAction.isEnabled(tree));
+    }
+}
@@ -3,14 +3,15 @@ package cn.memoryzy.json.action.structure;
 import cn.hutool.core.util.ArrayUtil;
 import cn.memoryzy.json.bundle.JsonAssistantBundle;
 import cn.memoryzy.json.enums.JsonTreeNodeType;
+import cn.memoryzy.json.ui.TreeExpandTask;
 import cn.memoryzy.json.ui.node.JsonTreeNode;
-import cn.memoryzy.json.util.UIManager;
 import com.intellij.openapi.actionSystem.AnActionEvent;
 import com.intellij.openapi.project.DumbAwareAction;
 import com.intellij.ui.treeStructure.Tree;
 import org.jetbrains.annotations.NotNull;
 
 import javax.swing.tree.TreePath;
+import java.util.Arrays;
 import java.util.Objects;
 
 public class ExpandMultiAction extends DumbAwareAction {
@@ -28,9 +29,7 @@ public class ExpandMultiAction extends DumbAwareAction {
     public void actionPerformed(@NotNull AnActionEvent event) {
         TreePath[] paths = tree.getSelectionPaths();
         if (paths != null) {
-            for (TreePath path : paths) {
-                UIManager.expandAll(tree, path);
-            }
+            TreeExpandTask.expandAll(event.getProject(), tree, Arrays.asList(paths));
         }
     }
 
@@ -49,7 +48,8 @@ public class ExpandMultiAction extends DumbAwareAction {
                 JsonTreeNodeType nodeType = node.getNodeType();
                 if (Objects.equals(nodeType, JsonTreeNodeType.JSONObject)
                         || Objects.equals(nodeType, JsonTreeNodeType.JSONArray)
-                        || Objects.equals(nodeType, JsonTreeNodeType.JSONObjectElement))
+                        || Objects.equals(nodeType, JsonTreeNodeType.JSONObjectElement)
+                        || Objects.equals(nodeType, JsonTreeNodeType.JSONArrayRange))
                     return true;
             }
         }
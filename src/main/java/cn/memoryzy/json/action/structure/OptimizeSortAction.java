@@ -1,13 +1,14 @@
 package cn.memoryzy.json.action.structure;
 
 import cn.hutool.core.collection.CollUtil;
-import cn.hutool.core.util.StrUtil;
 import cn.memoryzy.json.action.JsonTextDiffAction;
 import cn.memoryzy.json.bundle.JsonAssistantBundle;
+import cn.memoryzy.json.constant.JsonAssistantPlugin;
 import cn.memoryzy.json.model.wrapper.ArrayWrapper;
 import cn.memoryzy.json.model.wrapper.JsonWrapper;
 import cn.memoryzy.json.model.wrapper.ObjectWrapper;
-import cn.memoryzy.json.util.Json5Util;
+import cn.memoryzy.json.ui.JsonEditorComponentProvider;
+import cn.memoryzy.json.util.JsonFingerprint;
 import cn.memoryzy.json.util.JsonUtil;
 import com.intellij.diff.contents.DocumentContent;
 import com.intellij.icons.AllIcons;
@@ -17,8 +18,10 @@ import com.intellij.openapi.actionSystem.Presentation;
 import com.intellij.openapi.application.WriteAction;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.project.DumbAwareAction;
-import org.apache.commons.lang3.tuple.ImmutablePair;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.Pair;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.VisibleForTesting;
 
 import java.util.*;
 
@@ -28,6 +31,11 @@ import java.util.*;
  */
 public class OptimizeSortAction extends DumbAwareAction {
 
+    /**
+     * 文档解析结果缓存：修改戳 -> Json（无法解析时为 null）
+     */
+    private static final Key<Pair<Long, JsonWrapper>> PARSED_KEY = Key.create(JsonAssistantPlugin.PLUGIN_ID_NAME + ".OptimizeSort.Parsed");
+
     public OptimizeSortAction() {
         super();
         setEnabledInModalContext(true);
@@ -40,9 +48,15 @@ public class OptimizeSortAction extends DumbAwareAction {
     @Override
     public void actionPerformed(@NotNull AnActionEvent e) {
         List<DocumentContent> contentList = JsonTextDiffAction.getDiffContent(e.getDataContext());
-        ImmutablePair<String, String> pair = JsonTextDiffAction.getContent(contentList);
-        JsonWrapper leftObj = StructureComparisonAction.parseJson(pair.getLeft());
-        JsonWrapper rightObj = StructureComparisonAction.parseJson(pair.getRight());
+        if (CollUtil.isEmpty(contentList)) {
+            return;
+        }
+
+        JsonWrapper leftObj = getParsed(contentList.get(0).getDocument());
+        JsonWrapper rightObj = getParsed(contentList.get(1).getDocument());
+        if (leftObj == null || rightObj == null) {
+            return;
+        }
 
         Object rightObject = sortRightAccordingToLeft(leftObj, rightObj);
         DocumentContent documentContent = contentList.get(1);
@@ -58,7 +72,8 @@ public class OptimizeSortAction extends DumbAwareAction {
         e.getPresentation().setEnabledAndVisible(isValid(e.getDataContext()));
     }
 
-    private Object sortRightAccordingToLeft(Object leftObj, Object rightObj) {
+    @VisibleForTesting
+    public static Object sortRightAccordingToLeft(Object leftObj, Object rightObj) {
         if (ObjectWrapper.isWrapper(leftObj) && ObjectWrapper.isWrapper(rightObj)) {
             // 处理JSON对象，按照左边的键顺序排序
             return sortMap((ObjectWrapper) leftObj, (ObjectWrapper) rightObj);
@@ -73,7 +88,7 @@ public class OptimizeSortAction extends DumbAwareAction {
         }
     }
 
-    private ObjectWrapper sortMap(ObjectWrapper leftObj, ObjectWrapper rightObj) {
+    private static ObjectWrapper sortMap(ObjectWrapper leftObj, ObjectWrapper rightObj) {
         ObjectWrapper sortedMap = new ObjectWrapper();
         // 首先按照json1的键顺序添加存在的键
         for (String key : leftObj.keySet()) {
@@ -94,28 +109,34 @@ public class OptimizeSortAction extends DumbAwareAction {
         return sortedMap;
     }
 
-    private List<Object> sortList(ArrayWrapper leftList, ArrayWrapper rightList) {
-        List<Object> newList = new ArrayList<>();
-        List<Object> remainingElements = new ArrayList<>(rightList);
+    private static List<Object> sortList(ArrayWrapper leftList, ArrayWrapper rightList) {
+        // 右侧元素按结构指纹建立索引，指纹相同的元素按出现顺序排队
+        Map<Long, Deque<Integer>> rightIndex = new HashMap<>(rightList.size() * 2);
+        for (int j = 0; j < rightList.size(); j++) {
+            rightIndex.computeIfAbsent(JsonFingerprint.of(rightList.get(j)), k -> new ArrayDeque<>()).add(j);
+        }
 
         // 按照左边的顺序收集共同元素
+        List<Object> newList = new ArrayList<>(rightList.size());
+        boolean[] used = new boolean[rightList.size()];
         for (Object leftElement : leftList) {
-            Iterator<Object> iterator = remainingElements.iterator();
-            while (iterator.hasNext()) {
-                Object rightElement = iterator.next();
-                if (deepEquals(leftElement, rightElement)) {
-                    newList.add(rightElement);
-                    iterator.remove();
-                    break;
-                }
+            Deque<Integer> candidates = rightIndex.get(JsonFingerprint.of(leftElement));
+            if (candidates != null && !candidates.isEmpty()) {
+                int j = candidates.poll();
+                used[j] = true;
+                newList.add(rightList.get(j));
             }
         }
 
         // 添加剩余元素
-        newList.addAll(remainingElements);
+        for (int j = 0; j < rightList.size(); j++) {
+            if (!used[j]) {
+                newList.add(rightList.get(j));
+            }
+        }
 
         // 递归处理每个元素，确保子结构也被处理
-        List<Object> processedList = new ArrayList<>();
+        List<Object> processedList = new ArrayList<>(newList.size());
         for (int i = 0; i < newList.size(); i++) {
             Object rightElement = newList.get(i);
             Object leftElement = (i < leftList.size()) ? leftList.get(i) : null;
@@ -129,57 +150,32 @@ public class OptimizeSortAction extends DumbAwareAction {
         return processedList;
     }
 
-    private boolean deepEquals(Object a, Object b) {
-        if (a == b) return true;
-        if (a == null || b == null) return false;
-        if (a instanceof Map && b instanceof Map) {
-            Map<?, ?> mapA = (Map<?, ?>) a;
-            Map<?, ?> mapB = (Map<?, ?>) b;
-            if (mapA.size() != mapB.size()) return false;
-            for (Map.Entry<?, ?> entry : mapA.entrySet()) {
-                Object key = entry.getKey();
-                if (!mapB.containsKey(key) || !deepEquals(entry.getValue(), mapB.get(key))) {
-                    return false;
-                }
-            }
-            return true;
-        } else if (a instanceof List && b instanceof List) {
-            List<?> listA = (List<?>) a;
-            List<?> listB = (List<?>) b;
-            if (listA.size() != listB.size()) return false;
-            // 对于List，递归比较每个元素
-            for (int i = 0; i < listA.size(); i++) {
-                if (!deepEquals(listA.get(i), listB.get(i))) {
-                    return false;
-                }
-            }
-            return true;
-        } else {
-            return a.equals(b);
+    /**
+     * 获取文档的解析结果，按文档修改戳缓存，文档未修改时不重复解析
+     *
+     * @param document 文档
+     * @return Json，无法解析时返回 null
+     */
+    private static JsonWrapper getParsed(Document document) {
+        long stamp = document.getModificationStamp();
+        Pair<Long, JsonWrapper> cached = document.getUserData(PARSED_KEY);
+        if (cached != null && cached.first == stamp) {
+            return cached.second;
         }
-    }
 
+        JsonWrapper wrapper = JsonEditorComponentProvider.parse(document.getText());
+        document.putUserData(PARSED_KEY, Pair.create(stamp, wrapper));
+        return wrapper;
+    }
 
-    @SuppressWarnings("DuplicatedCode")
     private boolean isValid(DataContext dataContext) {
         List<DocumentContent> contentList = JsonTextDiffAction.getDiffContent(dataContext);
         if (CollUtil.isEmpty(contentList)) {
             return false;
         }
 
-        ImmutablePair<String, String> immutablePair = JsonTextDiffAction.getContent(contentList);
-        String leftText = immutablePair.getLeft();
-        String rightText = immutablePair.getRight();
-
-        if (StrUtil.isBlank(leftText) || StrUtil.isBlank(rightText)) {
-            return false;
-        }
-
-        if (!JsonUtil.isJson(leftText) && !Json5Util.isJson5(leftText)) {
-            return false;
-        }
-
-        return JsonUtil.isJson(rightText) || Json5Util.isJson5(rightText);
+        return getParsed(contentList.get(0).getDocument()) != null
+                && getParsed(contentList.get(1).getDocument()) != null;
     }
 
 
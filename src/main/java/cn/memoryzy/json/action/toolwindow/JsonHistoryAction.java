@@ -199,7 +199,7 @@ public class JsonHistoryAction extends DumbAwareAction implements CustomComponen
     private static void importRecords(Project project, List<JsonWrapper> oldHistory, HistoryLimitedList newHistory,
                                       Path path, Element rootElement, Element historyElement) {
         for (JsonWrapper wrapper : oldHistory) {
-            newHistory.add(project, wrapper);
+            newHistory.add(wrapper);
         }
 
         removeOldRecord(path, rootElement, historyElement);
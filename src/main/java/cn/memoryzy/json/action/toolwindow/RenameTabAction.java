@@ -164,10 +164,9 @@ public class RenameTabAction extends DumbAwareAction implements UpdateInBackgrou
             }
 
             HistoryLimitedList history = JsonHistoryPersistentState.getInstance(project).getHistory();
-            for (JsonEntry entry : history) {
-                if (Objects.equals(jsonWrapper, entry.getJsonWrapper())) {
-                    entry.setName(name);
-                }
+            JsonEntry entry = history.find(jsonWrapper);
+            if (entry != null) {
+                entry.setName(name);
             }
         });
     }
@@ -41,6 +41,6 @@ public class ToPropertiesAction extends DumbAwareAction implements UpdateInBackg
 
     @Override
     public void update(@NotNull AnActionEvent event) {
-        event.getPresentation().setEnabled(DataConverter.isNotJsonArray(event.getDataContext()));
+        event.getPresentation().setEnabled(GlobalJsonConverter.isNotJsonArray(event.getDataContext()));
     }
 }
@@ -4,7 +4,6 @@ import cn.memoryzy.json.bundle.JsonAssistantBundle;
 import cn.memoryzy.json.constant.FileTypeHolder;
 import cn.memoryzy.json.model.strategy.GlobalJsonConverter;
 import cn.memoryzy.json.model.strategy.formats.context.GlobalTextConversionProcessorContext;
-import cn.memoryzy.json.util.DataConverter;
 import cn.memoryzy.json.util.PlatformUtil;
 import cn.memoryzy.json.util.TextTransformUtil;
 import cn.memoryzy.json.util.TomlUtil;
@@ -58,7 +57,7 @@ public class ToTomlAction extends DumbAwareAction implements UpdateInBackground
 
     @Override
     public void update(@NotNull AnActionEvent event) {
-        event.getPresentation().setEnabled(DataConverter.isNotJsonArray(event.getDataContext()));
+        event.getPresentation().setEnabled(GlobalJsonConverter.isNotJsonArray(event.getDataContext()));
     }
 
 }
@@ -41,6 +41,6 @@ public class ToUrlParamAction extends DumbAwareAction implements UpdateInBackgro
 
     @Override
     public void update(@NotNull AnActionEvent event) {
-        event.getPresentation().setEnabled(DataConverter.isNotJsonArray(event.getDataContext()));
+        event.getPresentation().setEnabled(GlobalJsonConverter.isNotJsonArray(event.getDataContext()));
     }
 }
@@ -31,6 +31,11 @@ public class JsonAssistantBundle extends AbstractBundle {
 
     private static final JsonAssistantBundle INSTANCE = new JsonAssistantBundle(BUNDLE);
 
+    static {
+        // 核心模块的文本与插件使用相同的语言
+        JsonAssistantCoreBundle.setLocale(RESOURCE_BUNDLE.getLocale());
+    }
+
     private JsonAssistantBundle(@NonNls @NotNull String pathToBundle) {
         super(pathToBundle);
         this.pathToBundle = pathToBundle;
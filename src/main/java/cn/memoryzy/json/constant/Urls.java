@@ -32,8 +32,6 @@ public class Urls {
     public static final String JMESPATH_EXPRESS_DESCRIPTION = "https://jmespath.org/";
     public static final String JSON5_SITE_LINK = "https://json5.org/";
 
-    public static final String FRONT_URL = "http://0.0.0.0";
-
     public static void verifyReachable() {
         new Thread(() -> reachableAtomic.getAndSet(isReachable(OVERVIEW))).start();
     }
@@ -29,6 +29,11 @@ public enum JsonTreeNodeType {
     /**
      * 普通对象下的普通类型
      */
-    JSONObjectProperty
+    JSONObjectProperty,
+
+    /**
+     * 大数组下的虚拟分组节点（如 [0...99]），不对应实际的 Json 元素
+     */
+    JSONArrayRange
 
 }
@@ -2,6 +2,8 @@ package cn.memoryzy.json.extension.editor;
 
 import cn.memoryzy.json.ui.JsonEditorComponentProvider;
 import cn.memoryzy.json.util.PlatformUtil;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ModalityState;
 import com.intellij.openapi.fileEditor.FileEditor;
 import com.intellij.openapi.fileEditor.FileEditorLocation;
 import com.intellij.openapi.fileEditor.FileEditorState;
@@ -9,14 +11,20 @@ import com.intellij.openapi.fileEditor.FileEditorStateLevel;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.UserDataHolderBase;
 import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.ui.components.JBLoadingPanel;
+import com.intellij.util.concurrency.AppExecutorUtil;
 import org.jetbrains.annotations.Nls;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import javax.swing.*;
+import java.awt.*;
 import java.beans.PropertyChangeListener;
+import java.util.concurrent.CompletableFuture;
 
 /**
+ * 文件的结构树视图：文件在后台读取与解析，解析期间显示加载状态；文件修改戳未变化时直接复用已有的树
+ *
  * @author Memory
  * @since 2024/12/16
  */
@@ -24,15 +32,56 @@ public class JsonFileEditor extends UserDataHolderBase implements FileEditor {
 
     private final VirtualFile file;
     private final JsonEditorComponentProvider provider;
+    private final JBLoadingPanel loadingPanel;
+
+    /**
+     * 树对应的文件修改戳
+     */
+    private long loadedStamp = -1;
+
+    /**
+     * 正在解析的文件修改戳
+     */
+    private long loadingStamp = -1;
+
+    private volatile boolean disposed;
 
     public JsonFileEditor(Project project, VirtualFile file) {
         this.file = file;
-        this.provider = new JsonEditorComponentProvider(project, PlatformUtil.getFileContent(file));
+        this.provider = new JsonEditorComponentProvider(project, null);
+        this.loadingPanel = new JBLoadingPanel(new BorderLayout(), this);
+        this.loadingPanel.add(provider.getComponent(), BorderLayout.CENTER);
+        reload();
+    }
+
+    /**
+     * 文件修改戳变化时，在后台重新读取并解析文件，完成后增量更新树
+     */
+    private void reload() {
+        long stamp = file.getModificationStamp();
+        if (stamp == loadedStamp || stamp == loadingStamp) {
+            return;
+        }
+
+        loadingStamp = stamp;
+        loadingPanel.startLoading();
+        CompletableFuture.supplyAsync(() -> JsonEditorComponentProvider.parse(PlatformUtil.getFileContent(file)), AppExecutorUtil.getAppExecutorService())
+                .whenComplete((wrapper, throwable) -> ApplicationManager.getApplication().invokeLater(() -> {
+                    // 已有更新的解析任务
+                    if (loadingStamp != stamp) {
+                        return;
+                    }
+
+                    loadingStamp = -1;
+                    loadedStamp = stamp;
+                    provider.refresh(wrapper);
+                    loadingPanel.stopLoading();
+                }, ModalityState.any(), o -> disposed));
     }
 
     @Override
     public @NotNull JComponent getComponent() {
-        return provider.getComponent();
+        return loadingPanel;
     }
 
     @Override
@@ -82,9 +131,12 @@ public class JsonFileEditor extends UserDataHolderBase implements FileEditor {
 
     @Override
     public void selectNotify() {
-        // 确保应用程序中的文件状态与物理文件系统的状态同步
-        file.refresh(true, true, null);
-        provider.selectNotify(PlatformUtil.getFileContent(file));
+        // 确保应用程序中的文件状态与物理文件系统的状态同步，同步完成后再按修改戳判断是否需要重新解析
+        file.refresh(true, false, () -> {
+            if (!disposed) {
+                reload();
+            }
+        });
     }
 
     @Override
@@ -94,6 +146,6 @@ public class JsonFileEditor extends UserDataHolderBase implements FileEditor {
 
     @Override
     public void dispose() {
-
+        disposed = true;
     }
 }
@@ -10,6 +10,8 @@ import com.intellij.openapi.fileEditor.FileEditorProvider;
 import com.intellij.openapi.fileEditor.FileEditorState;
 import com.intellij.openapi.project.DumbAware;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.Pair;
 import com.intellij.openapi.vfs.VirtualFile;
 import org.jdom.Element;
 import org.jetbrains.annotations.NonNls;
@@ -21,9 +23,38 @@ import org.jetbrains.annotations.NotNull;
  */
 public class JsonFileEditorProvider implements FileEditorProvider, DumbAware {
 
+    /**
+     * 不超过该大小的文件才读取内容判断是否为空白，更大的文件直接视为非空
+     */
+    private static final long BLANK_CHECK_MAX_LENGTH = 64 * 1024;
+
+    /**
+     * 空白判断结果，按文件修改戳缓存
+     */
+    private static final Key<Pair<Long, Boolean>> NOT_BLANK_KEY = Key.create(JsonAssistantPlugin.PLUGIN_ID_NAME + ".FileEditor.NotBlank");
+
     @Override
     public boolean accept(@NotNull Project project, @NotNull VirtualFile file) {
-        return PlatformUtil.isJsonFileType(file.getFileType()) && StrUtil.isNotBlank(PlatformUtil.getFileContent(file));
+        if (!PlatformUtil.isJsonFileType(file.getFileType())) {
+            return false;
+        }
+
+        long length = file.getLength();
+        if (length <= 0) {
+            return false;
+        } else if (length > BLANK_CHECK_MAX_LENGTH) {
+            return true;
+        }
+
+        long stamp = file.getModificationStamp();
+        Pair<Long, Boolean> cached = file.getUserData(NOT_BLANK_KEY);
+        if (cached != null && cached.first == stamp) {
+            return cached.second;
+        }
+
+        boolean notBlank = StrUtil.isNotBlank(PlatformUtil.getFileContent(file));
+        file.putUserData(NOT_BLANK_KEY, Pair.create(stamp, notBlank));
+        return notBlank;
     }
 
     @Override
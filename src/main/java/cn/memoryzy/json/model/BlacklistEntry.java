@@ -6,17 +6,23 @@ import cn.hutool.core.date.LocalDateTimeUtil;
 import cn.memoryzy.json.constant.DataTypeConstant;
 import cn.memoryzy.json.model.serializer.LocalDateTimeTypeHandler;
 import cn.memoryzy.json.model.wrapper.JsonWrapper;
+import cn.memoryzy.json.service.JsonBlobStore;
 import cn.memoryzy.json.util.Json5Util;
 import cn.memoryzy.json.util.JsonAssistantUtil;
+import cn.memoryzy.json.util.JsonFingerprint;
 import cn.memoryzy.json.util.JsonUtil;
 import com.intellij.openapi.editor.actions.ContentChooser;
 import com.intellij.openapi.util.text.StringUtil;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 
 /**
+ * 剪贴板数据黑名单记录
+ * <p>比对只使用内容指纹（{@link JsonWrapper#fingerprint()}），原文存入 {@link JsonBlobStore} 后从内存中释放，仅在展示时读取</p>
+ *
  * @author Memory
  * @since 2025/3/4
  */
@@ -40,19 +46,24 @@ public class BlacklistEntry {
     private String shortText;
 
     /**
-     * 记录原文
+     * 记录原文，存入共享存储后为 null（先设置 blobKey 再置空，后台存储时读取方不会两者都读到 null）
      */
-    private String originalText;
+    private volatile String originalText;
 
     /**
-     * 原文类型
+     * 原文在共享存储中的键，未存储时为 null
      */
-    private String originalDataType;
+    private volatile String blobKey;
+
+    /**
+     * 内容指纹（{@link JsonWrapper#fingerprint()}）
+     */
+    private Long fingerprint;
 
     /**
-     * 记录解析后的 JSON 对象
+     * 原文类型
      */
-    private JsonWrapper jsonWrapper;
+    private String originalDataType;
 
     /**
      * 历史记录插入时间
@@ -67,7 +78,7 @@ public class BlacklistEntry {
         this.originalText = originalText;
         this.originalDataType = originalDataType;
         this.shortText = getShortText(originalText, originalDataType, jsonWrapper);
-        this.jsonWrapper = jsonWrapper;
+        this.fingerprint = jsonWrapper.fingerprint();
         this.insertTime = LocalDateTime.now();
     }
 
@@ -95,8 +106,18 @@ public class BlacklistEntry {
         this.shortText = shortText;
     }
 
+    /**
+     * 获取原文，不在内存中时从共享存储读取（不缓存）
+     *
+     * @return 原文，读取失败时返回 null
+     */
     public String getOriginalText() {
-        return originalText;
+        String loaded = originalText;
+        if (loaded == null && blobKey != null) {
+            loaded = JsonBlobStore.getInstance().get(blobKey);
+        }
+
+        return loaded;
     }
 
     public void setOriginalText(String originalText) {
@@ -111,12 +132,41 @@ public class BlacklistEntry {
         this.originalDataType = originalDataType;
     }
 
-    public JsonWrapper getJsonWrapper() {
-        return jsonWrapper;
+    public String getBlobKey() {
+        return blobKey;
     }
 
-    public void setJsonWrapper(JsonWrapper jsonWrapper) {
-        this.jsonWrapper = jsonWrapper;
+    public void setBlobKey(String blobKey) {
+        this.blobKey = blobKey;
+    }
+
+    /**
+     * 获取内容指纹，没有指纹时由原文解析计算
+     *
+     * @return 指纹，原文无法解析时返回 null
+     */
+    public Long getFingerprint() {
+        if (fingerprint == null) {
+            String text = getOriginalText();
+            JsonWrapper wrapper = null;
+            if (text == null) {
+                return null;
+            } else if (JsonUtil.isJson(text)) {
+                wrapper = JsonUtil.parse(text);
+            } else if (Json5Util.isJson5(text)) {
+                wrapper = Json5Util.parse(text);
+            }
+
+            if (wrapper != null) {
+                fingerprint = wrapper.fingerprint();
+            }
+        }
+
+        return fingerprint;
+    }
+
+    public void setFingerprint(Long fingerprint) {
+        this.fingerprint = fingerprint;
     }
 
     public LocalDateTime getInsertTime() {
@@ -133,7 +183,21 @@ public class BlacklistEntry {
      * @return Json5
      */
     public String toJson() {
-        Map<String, Object> map = BeanUtil.beanToMap(this);
+        // 原文已存入共享存储时只保存键；先读原文再读键（与存储时的写入顺序相反），只使用内存中的字段
+        String text = originalText;
+        String key = blobKey;
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("id", id);
+        map.put("name", name);
+        map.put("shortText", shortText);
+        map.put("originalDataType", originalDataType);
+        map.put(insertTimeConstant, insertTime);
+        map.put("fingerprint", fingerprint != null ? String.valueOf(fingerprint) : null);
+        map.put("blobKey", key);
+        if (key == null) {
+            map.put("originalText", text);
+        }
+
         return Json5Util.toJson5Str(map, Json5Util.COMPACT_JSON5.handleType(new LocalDateTimeTypeHandler()));
     }
 
@@ -141,9 +205,32 @@ public class BlacklistEntry {
         // 替换时间类型（加快转换速度）
         String insertTime = (String) map.get(insertTimeConstant);
         map.put(insertTimeConstant, LocalDateTimeUtil.parse(insertTime, DatePattern.NORM_DATETIME_PATTERN));
+        // 旧版本保存的是解析结果，只用于计算指纹
+        Object legacyWrapper = map.remove("jsonWrapper");
+        if (map.get("fingerprint") == null && legacyWrapper != null) {
+            map.put("fingerprint", String.valueOf(JsonFingerprint.of(legacyWrapper)));
+        }
+
         return BeanUtil.toBean(map, BlacklistEntry.class);
     }
 
+    /**
+     * 将原文存入共享存储，并释放内存中的原文
+     *
+     * @param blobStore 共享存储
+     * @param owner     引用方标识
+     */
+    public void store(JsonBlobStore blobStore, String owner) {
+        String text = originalText;
+        if (blobKey == null && text != null) {
+            String key = blobStore.put(owner, text);
+            if (key != null) {
+                blobKey = key;
+                originalText = null;
+            }
+        }
+    }
+
     private static String getShortText(String originalText, String originalDataType, JsonWrapper jsonWrapper) {
         String text;
         if (DataTypeConstant.JSON.equals(originalDataType)) {
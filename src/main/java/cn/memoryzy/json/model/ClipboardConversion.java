@@ -0,0 +1,77 @@
+package cn.memoryzy.json.model;
+
+import cn.memoryzy.json.service.persistent.ClipboardDataBlacklistPersistentState;
+
+/**
+ * 剪贴板文本的转换结果（由 {@link cn.memoryzy.json.service.ClipboardConversionService} 缓存）
+ * <p>只保留判断是否忽略所需的指纹与是否为空，不持有解析后的 Json 对象</p>
+ *
+ * @author Memory
+ * @since 2025/4/13
+ */
+public class ClipboardConversion {
+
+    /**
+     * 剪贴板原文
+     */
+    private final String clipboard;
+
+    /**
+     * 解析类型（转换策略的类型），无法转换时为 null
+     */
+    private final String parseType;
+
+    /**
+     * 转换后的 Json 对象的指纹，无法解析为对象或数组时为 null
+     */
+    private final Long fingerprint;
+
+    /**
+     * 转换后的 Json 对象是否无属性
+     */
+    private final boolean noItems;
+
+    /**
+     * 格式化后的 Json 文本，无法转换时为 null
+     */
+    private final String formattedText;
+
+    public ClipboardConversion(String clipboard, String parseType, Long fingerprint, boolean noItems, String formattedText) {
+        this.clipboard = clipboard;
+        this.parseType = parseType;
+        this.fingerprint = fingerprint;
+        this.noItems = noItems;
+        this.formattedText = formattedText;
+    }
+
+    public String getClipboard() {
+        return clipboard;
+    }
+
+    public String getParseType() {
+        return parseType;
+    }
+
+    public Long getFingerprint() {
+        return fingerprint;
+    }
+
+    public String getFormattedText() {
+        return formattedText;
+    }
+
+    /**
+     * 是否转换成功
+     */
+    public boolean isConverted() {
+        return formattedText != null && !formattedText.isBlank();
+    }
+
+    /**
+     * 是否应忽略（无属性或在黑名单中）
+     * <p>黑名单判断使用转换时计算的指纹，黑名单变化后结果随之变化</p>
+     */
+    public boolean isExcluded() {
+        return noItems || ClipboardDataBlacklistPersistentState.getInstance().contains(fingerprint);
+    }
+}
@@ -1,89 +1,468 @@
 package cn.memoryzy.json.model;
 
 import cn.memoryzy.json.model.wrapper.JsonWrapper;
+import cn.memoryzy.json.service.JsonHistoryBodyStore;
 import cn.memoryzy.json.service.persistent.JsonHistoryPersistentState;
 import com.intellij.openapi.project.Project;
-import org.apache.commons.lang3.ArrayUtils;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import org.jetbrains.annotations.VisibleForTesting;
 
-import java.util.LinkedList;
-import java.util.Objects;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
 
 /**
+ * 容量受限的历史记录，按 新 -> 旧 排列
+ * <p>内部为双向链表 + 按内容指纹（{@link JsonWrapper#fingerprint()}）与 id 建立的哈希索引，去重、移动至首位、按 id 删除均为 O(1)；
+ * 指纹相同时再比较内容（{@link JsonWrapper#equals}）确认重复，指纹碰撞的不同内容各自保留</p>
+ * <p>线程安全：修改在锁内进行，每次修改后发布一份不可变快照；读取（遍历、stream、size）只读快照，不加锁，也不会抛出 ConcurrentModificationException。
+ * 记录的生成（格式化、截取短文本、计算指纹）在锁外完成，锁内只做链表与索引操作</p>
+ * <p>关联 {@link JsonHistoryBodyStore} 后，每次修改后在后台延迟同步（{@link #sync()}）：新记录的原文写入磁盘并从内存中释放、登记仍在使用的原文、保存检索索引；
+ * 同步之前原文保留在内存中，此时保存的状态中包含原文</p>
+ * <p>插入与删除时同步维护检索索引（{@link JsonHistoryIndex}）</p>
+ * <p>淘汰策略：条数上限、原文总字节数上限、单条字节数上限与保留时长，总字节数在插入/删除时增量统计；超出时从最老的记录开始淘汰（至少保留最新一条）</p>
+ *
  * @author Memory
  * @since 2024/11/25
  */
-public class HistoryLimitedList extends LinkedList<JsonEntry> {
-    private final int limit;
+public class HistoryLimitedList extends AbstractCollection<JsonEntry> {
+
+    /**
+     * 修改后延迟同步的时长，连续修改只同步一次
+     */
+    private static final long SYNC_DELAY_MILLIS = 1000;
+
+    private int maxEntries;
+    private long maxTotalBytes;
+    private long maxEntryBytes;
+    private long maxAgeMillis;
+
+    private final Object lock = new Object();
+    private final Map<Long, Node> contentIndex = new HashMap<>();
+    private final Map<Integer, Node> idIndex = new HashMap<>();
+    private final JsonHistoryIndex searchIndex = new JsonHistoryIndex();
+
+    /**
+     * 首位（最新）与末位（最老）节点
+     */
+    private Node head;
+    private Node tail;
+    private int size;
+
+    /**
+     * 当前记录的原文总字节数
+     */
+    private long totalBytes;
+
+    /**
+     * 下一个可用的 id，只增不减
+     */
+    private int nextId;
+
+    /**
+     * 最近一次修改后的快照（新 -> 旧）
+     */
+    private volatile List<JsonEntry> snapshot = Collections.emptyList();
+
+    /**
+     * 原文的磁盘存储，未关联时原文保留在内存中
+     */
+    private volatile JsonHistoryBodyStore store;
+
+    /**
+     * 是否已安排同步
+     */
+    private final AtomicBoolean syncScheduled = new AtomicBoolean();
+    private final Object syncLock = new Object();
 
     public HistoryLimitedList(int limit) {
+        this(limit, 0, 0, 0);
+    }
+
+    /**
+     * @param maxEntries    最大条数
+     * @param maxTotalBytes 原文总字节数上限，0 表示不限制
+     * @param maxEntryBytes 单条原文字节数上限，0 表示不限制
+     * @param maxAgeMillis  保留时长（毫秒），0 表示不过期
+     */
+    public HistoryLimitedList(int maxEntries, long maxTotalBytes, long maxEntryBytes, long maxAgeMillis) {
         super();
-        this.limit = limit;
+        this.maxEntries = maxEntries;
+        this.maxTotalBytes = maxTotalBytes;
+        this.maxEntryBytes = maxEntryBytes;
+        this.maxAgeMillis = maxAgeMillis;
     }
 
-    public JsonEntry add(Project project, JsonWrapper jsonWrapper) {
-        JsonEntry historyEntry = new JsonEntry(calculateId(project), jsonWrapper);
-        // 判断 Json 记录是否已经存在于记录内
-        if (!exists(jsonWrapper)) {
-            // 不存在，则将其添加到首位（add方法会判断容量是否超出而去除最老节点）
-            add(0, historyEntry);
-        } else {
-            // 存在，则判断是否需要移动位置
-            JsonEntry first = getFirst();
-            // 判断其是否为第0位的元素，如果是，则不管，否则将其移动至首位
-            if (!Objects.equals(first.getJsonWrapper(), jsonWrapper)) {
-                // 移除该元素
-                removeIf(el -> Objects.equals(el.getJsonWrapper(), jsonWrapper));
-                // 再添加到首位
-                add(0, historyEntry);
+    /**
+     * 修改淘汰策略，并立即按新策略淘汰
+     *
+     * @param maxEntries    最大条数
+     * @param maxTotalBytes 原文总字节数上限，0 表示不限制
+     * @param maxEntryBytes 单条原文字节数上限，0 表示不限制
+     * @param maxAgeMillis  保留时长（毫秒），0 表示不过期
+     */
+    public void setPolicy(int maxEntries, long maxTotalBytes, long maxEntryBytes, long maxAgeMillis) {
+        synchronized (lock) {
+            this.maxEntries = maxEntries;
+            this.maxTotalBytes = maxTotalBytes;
+            this.maxEntryBytes = maxEntryBytes;
+            this.maxAgeMillis = maxAgeMillis;
+            if (!trimToLimit()) {
+                return;
             }
+
+            publish();
         }
 
+        scheduleSync();
+    }
+
+    /**
+     * 添加记录，id 在插入时分配，已存在则移动至首位
+     *
+     * @param jsonWrapper Json 对象
+     * @return 添加的记录，超出单条大小上限时返回 null
+     */
+    public JsonEntry add(JsonWrapper jsonWrapper) {
+        return insert(null, jsonWrapper);
+    }
+
+    /**
+     * 以指定 id 添加记录，已存在则移动至首位（仅供基准测试构造数据，插件内使用 {@link #add}）
+     *
+     * @param id          记录 id
+     * @param jsonWrapper Json 对象
+     * @return 添加的记录，超出单条大小上限时返回 null
+     */
+    @VisibleForTesting
+    public JsonEntry addEntry(int id, JsonWrapper jsonWrapper) {
+        return insert(id, jsonWrapper);
+    }
+
+    /**
+     * 插入记录（含去重与淘汰），id 为 null 时在锁内分配
+     */
+    private JsonEntry insert(Integer id, JsonWrapper jsonWrapper) {
+        // 锁外计算指纹、确认内容与生成记录
+        long fingerprint = jsonWrapper.fingerprint();
+        Node duplicate;
+        synchronized (lock) {
+            duplicate = contentIndex.get(fingerprint);
+        }
+
+        if (duplicate != null && !sameContent(duplicate.entry, jsonWrapper)) {
+            // 指纹碰撞，内容不同
+            duplicate = null;
+        }
+
+        if (duplicate != null) {
+            synchronized (lock) {
+                // 已存在且位于首位，则不管
+                if (duplicate == head) {
+                    return duplicate.entry;
+                }
+            }
+        }
+
+        JsonEntry historyEntry = new JsonEntry(id, jsonWrapper);
+        String[] terms = JsonHistoryIndex.extractTerms(jsonWrapper);
+        synchronized (lock) {
+            if (maxEntryBytes > 0 && historyEntry.getSize() > maxEntryBytes) {
+                return null;
+            }
+
+            // 确认后仍在列表中才视为重复
+            if (duplicate != null && contentIndex.get(fingerprint) == duplicate) {
+                if (duplicate == head) {
+                    return duplicate.entry;
+                }
+
+                // 否则将其移除后以新记录添加至首位
+                unlink(duplicate);
+            }
+
+            if (id == null) {
+                historyEntry.setId(nextId);
+            }
+
+            // 添加到首位并去除超出容量的最老记录
+            linkFirst(historyEntry, fingerprint);
+            searchIndex.put(historyEntry.getId(), terms);
+            trimToLimit();
+            publish();
+        }
+
+        scheduleSync();
         return historyEntry;
     }
 
+    /**
+     * 关联磁盘存储
+     *
+     * @param store 磁盘存储
+     */
+    public void attach(JsonHistoryBodyStore store) {
+        this.store = store;
+        for (JsonEntry entry : snapshot) {
+            entry.setStore(store);
+        }
+
+        // 读取保存的检索索引，只保留仍存在的记录
+        store.loadIndex(searchIndex);
+        synchronized (lock) {
+            searchIndex.retainAll(idIndex.keySet());
+        }
+
+        // 迁移旧版本内联保存的原文
+        scheduleSync();
+    }
+
+    /**
+     * 与磁盘存储同步：将尚未存入共享存储的记录（新记录、旧版本内联保存的记录）写入磁盘并释放内存中的原文，
+     * 补全检索索引，登记仍在使用的原文（不再使用的原文被删除），保存检索索引
+     */
+    public void sync() {
+        syncScheduled.set(false);
+        JsonHistoryBodyStore current = store;
+        if (current == null) {
+            return;
+        }
+
+        synchronized (syncLock) {
+            indexMissing();
+            for (JsonEntry entry : snapshot) {
+                if (entry.getBlobKey() == null) {
+                    persist(current, entry);
+                }
+            }
+
+            current.retain(snapshot);
+            current.saveIndex(searchIndex);
+        }
+    }
+
+    /**
+     * 安排一次后台同步（已安排时跳过），未关联磁盘存储时不同步
+     */
+    private void scheduleSync() {
+        if (store != null && syncScheduled.compareAndSet(false, true)) {
+            AppExecutorUtil.getAppScheduledExecutorService().schedule(this::sync, SYNC_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 按内容检索记录（只读取索引，不读取原文）
+     *
+     * @param query 检索内容，如 {@code orderId:12345}、{@code user.name=tom}、{@code error timeout}
+     * @return 匹配的记录，按相关度排序
+     */
+    public List<JsonEntry> search(String query) {
+        indexMissing();
+        List<Integer> ids = searchIndex.search(query);
+        List<JsonEntry> result = new ArrayList<>(ids.size());
+        synchronized (lock) {
+            for (Integer id : ids) {
+                Node node = idIndex.get(id);
+                if (node != null) {
+                    result.add(node.entry);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * 为没有索引的记录（旧版本保存的记录）建立索引，需读取其原文
+     */
+    private void indexMissing() {
+        for (JsonEntry entry : snapshot) {
+            Integer id = entry.getId();
+            if (id == null || searchIndex.contains(id)) {
+                continue;
+            }
+
+            JsonWrapper jsonWrapper = entry.getJsonWrapper();
+            if (jsonWrapper == null) {
+                continue;
+            }
+
+            String[] terms = JsonHistoryIndex.extractTerms(jsonWrapper);
+            synchronized (lock) {
+                if (idIndex.containsKey(id)) {
+                    searchIndex.put(id, terms);
+                }
+            }
+        }
+    }
+
+    private static void persist(JsonHistoryBodyStore current, JsonEntry entry) {
+        entry.setStore(current);
+        if (current.store(entry)) {
+            entry.release();
+        }
+    }
+
+    /**
+     * 添加到末位（用于按 新 -> 旧 的顺序加载记录）
+     *
+     * @param element 记录
+     * @return 添加成功返回 true
+     */
     @Override
     public boolean add(JsonEntry element) {
-        boolean added = super.add(element);
-        if (size() > limit) {
-            // 移除最老的元素
-            super.removeLast();
+        JsonHistoryBodyStore current = store;
+        if (current != null) {
+            element.setStore(current);
+        }
+
+        // 旧数据没有指纹时由原文计算，原文无法读取时不参与去重
+        Long fingerprint = element.getFingerprint();
+        Node newer;
+        synchronized (lock) {
+            newer = fingerprint != null ? contentIndex.get(fingerprint) : null;
+        }
+
+        if (newer != null && sameContent(newer.entry, element)) {
+            // 已有更新的同内容记录
+            return false;
+        }
+
+        synchronized (lock) {
+            Node node = new Node(element, fingerprint);
+            if (tail == null) {
+                head = tail = node;
+            } else {
+                node.prev = tail;
+                tail.next = node;
+                tail = node;
+            }
+
+            // 指纹碰撞时内容索引指向较新的记录
+            index(node, false);
+            trimToLimit();
+            publish();
+            return true;
+        }
+    }
+
+    public JsonEntry getFirst() {
+        List<JsonEntry> current = snapshot;
+        if (current.isEmpty()) {
+            throw new NoSuchElementException();
         }
 
-        return added;
+        return current.get(0);
+    }
+
+    /**
+     * 获取当前快照（不可变，新 -> 旧）
+     *
+     * @return 快照
+     */
+    public List<JsonEntry> snapshot() {
+        return snapshot;
     }
 
     @Override
-    public void add(int index, JsonEntry element) {
-        super.add(index, element);
-        if (size() > limit) {
-            // 移除最老的元素
-            super.removeLast();
-        }
+    public int size() {
+        return snapshot.size();
     }
 
     @Override
-    public boolean addAll(int index, java.util.Collection<? extends JsonEntry> c) {
-        boolean added = super.addAll(index, c);
-        while (size() > limit) {
-            // 移除最老的元素
-            super.removeLast();
+    public void clear() {
+        synchronized (lock) {
+            head = tail = null;
+            size = 0;
+            totalBytes = 0;
+            contentIndex.clear();
+            idIndex.clear();
+            searchIndex.clear();
+            publish();
         }
 
-        return added;
+        scheduleSync();
     }
 
+    /**
+     * 遍历快照；迭代器的 remove 按 id 删除记录
+     */
     @Override
-    public boolean addAll(java.util.Collection<? extends JsonEntry> c) {
-        boolean added = super.addAll(c);
-        while (size() > limit) {
-            // 移除最老的元素
-            super.removeLast();
+    public Iterator<JsonEntry> iterator() {
+        Iterator<JsonEntry> iterator = snapshot.iterator();
+        return new Iterator<>() {
+            private JsonEntry last;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public JsonEntry next() {
+                last = iterator.next();
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                if (last == null) {
+                    throw new IllegalStateException();
+                }
+
+                removeById(last.getId());
+                last = null;
+            }
+        };
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super JsonEntry> filter) {
+        synchronized (lock) {
+            boolean removed = false;
+            for (Node node = head; node != null; ) {
+                Node next = node.next;
+                if (filter.test(node.entry)) {
+                    unlink(node);
+                    removed = true;
+                }
+
+                node = next;
+            }
+
+            if (!removed) {
+                return false;
+            }
+
+            publish();
         }
-        return added;
+
+        scheduleSync();
+        return true;
     }
 
     public void removeById(Integer... idArray) {
-        removeIf(el -> ArrayUtils.contains(idArray, el.getId()));
+        synchronized (lock) {
+            boolean removed = false;
+            for (Integer id : idArray) {
+                Node node = idIndex.get(id);
+                if (node != null) {
+                    unlink(node);
+                    removed = true;
+                }
+            }
+
+            if (!removed) {
+                return;
+            }
+
+            publish();
+        }
+
+        scheduleSync();
     }
 
     /**
@@ -92,12 +471,187 @@ public class HistoryLimitedList extends LinkedList<JsonEntry> {
      * @param addElement 要添加的元素
      */
     public boolean exists(JsonWrapper addElement) {
-        return this.stream().anyMatch(el -> Objects.equals(addElement, el.getJsonWrapper()));
+        return find(addElement) != null;
+    }
+
+    /**
+     * 查找内容相同的记录
+     *
+     * @param jsonWrapper Json 对象
+     * @return 记录，不存在时返回 null
+     */
+    public JsonEntry find(JsonWrapper jsonWrapper) {
+        long fingerprint = jsonWrapper.fingerprint();
+        Node node;
+        synchronized (lock) {
+            node = contentIndex.get(fingerprint);
+        }
+
+        return node != null && sameContent(node.entry, jsonWrapper) ? node.entry : null;
+    }
+
+    /**
+     * 获取当前记录的原文总字节数
+     *
+     * @return 字节数
+     */
+    public long getTotalBytes() {
+        synchronized (lock) {
+            return totalBytes;
+        }
+    }
+
+    /**
+     * 获取原文总字节数上限
+     *
+     * @return 字节数，0 表示不限制
+     */
+    public long getMaxTotalBytes() {
+        synchronized (lock) {
+            return maxTotalBytes;
+        }
+    }
+
+    /**
+     * 获取下一个可用的 id
+     *
+     * @return id
+     */
+    public int nextId() {
+        synchronized (lock) {
+            return nextId;
+        }
     }
 
     public static int calculateId(Project project) {
-        HistoryLimitedList history = JsonHistoryPersistentState.getInstance(project).getHistory();
-        Integer id = history.stream().map(JsonEntry::getId).max(Integer::compareTo).orElse(-1);
-        return id + 1;
+        return JsonHistoryPersistentState.getInstance(project).getHistory().nextId();
+    }
+
+    private void linkFirst(JsonEntry entry, long fingerprint) {
+        Node node = new Node(entry, fingerprint);
+        if (head == null) {
+            head = tail = node;
+        } else {
+            node.next = head;
+            head.prev = node;
+            head = node;
+        }
+
+        index(node, true);
+    }
+
+    private void index(Node node, boolean newest) {
+        size++;
+        totalBytes += node.size;
+        if (node.fingerprint != null) {
+            if (newest) {
+                contentIndex.put(node.fingerprint, node);
+            } else {
+                contentIndex.putIfAbsent(node.fingerprint, node);
+            }
+        }
+
+        Integer id = node.entry.getId();
+        if (id != null) {
+            idIndex.put(id, node);
+            nextId = Math.max(nextId, id + 1);
+        }
+    }
+
+    private void unlink(Node node) {
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+
+        node.prev = node.next = null;
+        size--;
+        totalBytes -= node.size;
+        if (node.fingerprint != null) {
+            contentIndex.remove(node.fingerprint, node);
+        }
+
+        if (idIndex.remove(node.entry.getId(), node)) {
+            searchIndex.remove(node.entry.getId());
+        }
+    }
+
+    /**
+     * 在锁内调用，发布新的快照
+     */
+    private void publish() {
+        List<JsonEntry> list = new ArrayList<>(size);
+        for (Node node = head; node != null; node = node.next) {
+            list.add(node.entry);
+        }
+
+        snapshot = Collections.unmodifiableList(list);
+    }
+
+    /**
+     * 在锁内调用，从最老的记录开始淘汰超出策略的记录
+     *
+     * @return 有记录被淘汰时返回 true
+     */
+    private boolean trimToLimit() {
+        boolean trimmed = false;
+        LocalDateTime expireBefore = maxAgeMillis > 0 ? LocalDateTime.now().minus(Duration.ofMillis(maxAgeMillis)) : null;
+        while (tail != null && (size > maxEntries
+                || (maxTotalBytes > 0 && totalBytes > maxTotalBytes && size > 1)
+                || (size > 1 && isExpired(tail.entry, expireBefore)))) {
+            // 移除最老的元素
+            unlink(tail);
+            trimmed = true;
+        }
+
+        return trimmed;
+    }
+
+    private static boolean isExpired(JsonEntry entry, LocalDateTime expireBefore) {
+        LocalDateTime insertTime = entry.getInsertTime();
+        return expireBefore != null && insertTime != null && insertTime.isBefore(expireBefore);
+    }
+
+    /**
+     * 指纹相同时确认内容是否一致（在锁外调用，可能需要读取原文）
+     */
+    private static boolean sameContent(JsonEntry entry, JsonWrapper jsonWrapper) {
+        JsonWrapper existing = entry.getJsonWrapper();
+        return existing != null && existing.equals(jsonWrapper);
+    }
+
+    private static boolean sameContent(JsonEntry entry, JsonEntry other) {
+        String text = entry.getJsonString();
+        if (text != null && text.equals(other.getJsonString())) {
+            return true;
+        }
+
+        JsonWrapper jsonWrapper = other.getJsonWrapper();
+        return jsonWrapper != null && sameContent(entry, jsonWrapper);
+    }
+
+    private static class Node {
+        private final JsonEntry entry;
+
+        /**
+         * 内容指纹，原文无法读取时为 null（不参与去重）
+         */
+        private final Long fingerprint;
+        private final long size;
+        private Node prev;
+        private Node next;
+
+        Node(JsonEntry entry, Long fingerprint) {
+            this.entry = entry;
+            this.fingerprint = fingerprint;
+            this.size = entry.getSize();
+        }
     }
 }
@@ -5,16 +5,20 @@ import cn.hutool.core.date.DatePattern;
 import cn.hutool.core.date.LocalDateTimeUtil;
 import cn.memoryzy.json.model.serializer.LocalDateTimeTypeHandler;
 import cn.memoryzy.json.model.wrapper.JsonWrapper;
+import cn.memoryzy.json.service.JsonHistoryBodyStore;
 import cn.memoryzy.json.util.Json5Util;
 import cn.memoryzy.json.util.JsonAssistantUtil;
 import cn.memoryzy.json.util.JsonUtil;
 
+import java.lang.ref.SoftReference;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 
 /**
  * 历史记录对象
+ * <p>原文存入 {@link JsonHistoryBodyStore} 后，内存中只保留索引信息（id、名称、短文本、时间、指纹、存储键），原文在使用时再从磁盘读取</p>
  *
  * @author Memory
  * @since 2024/11/25
@@ -23,6 +27,11 @@ public class JsonEntry {
 
     public static final String insertTimeConstant = "insertTime";
 
+    /**
+     * 短文本的最大长度
+     */
+    private static final int SHORT_TEXT_LENGTH = 80;
+
     /**
      * 历史记录Id
      */
@@ -44,15 +53,35 @@ public class JsonEntry {
     private String jsonString;
 
     /**
-     * 历史记录解析后的对象
+     * 历史记录解析后的对象（软引用，内存不足时回收，使用时再由原文解析）
      */
-    private JsonWrapper jsonWrapper;
+    private transient SoftReference<JsonWrapper> jsonWrapperRef;
 
     /**
      * 历史记录插入时间
      */
     private LocalDateTime insertTime;
 
+    /**
+     * 内容指纹（{@link JsonWrapper#fingerprint()}）
+     */
+    private Long fingerprint;
+
+    /**
+     * 原文大小（UTF-8 字节数）
+     */
+    private Long size;
+
+    /**
+     * 原文在应用级共享存储（{@link cn.memoryzy.json.service.JsonBlobStore}）中的键，未存储时为 null
+     */
+    private String blobKey;
+
+    /**
+     * 原文所在的磁盘存储
+     */
+    private transient JsonHistoryBodyStore store;
+
 
     // region 构造方法及Getter、Setter方法
     public JsonEntry() {
@@ -66,8 +95,10 @@ public class JsonEntry {
         this.id = id;
         this.shortText = getShortText(jsonWrapper);
         this.jsonString = jsonString;
-        this.jsonWrapper = jsonWrapper;
+        this.jsonWrapperRef = new SoftReference<>(jsonWrapper);
         this.insertTime = LocalDateTime.now();
+        this.fingerprint = jsonWrapper.fingerprint();
+        this.size = JsonAssistantUtil.utf8Length(jsonString);
     }
 
     public void setId(Integer id) {
@@ -87,13 +118,29 @@ public class JsonEntry {
     }
 
     public void setJsonWrapper(JsonWrapper jsonWrapper) {
-        this.jsonWrapper = jsonWrapper;
+        this.jsonWrapperRef = jsonWrapper != null ? new SoftReference<>(jsonWrapper) : null;
     }
 
     public void setInsertTime(LocalDateTime insertTime) {
         this.insertTime = insertTime;
     }
 
+    public void setFingerprint(Long fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    public void setSize(Long size) {
+        this.size = size;
+    }
+
+    public void setBlobKey(String blobKey) {
+        this.blobKey = blobKey;
+    }
+
+    public void setStore(JsonHistoryBodyStore store) {
+        this.store = store;
+    }
+
     public Integer getId() {
         return id;
     }
@@ -106,26 +153,125 @@ public class JsonEntry {
         return shortText;
     }
 
+    /**
+     * 获取原文，不在内存中时从磁盘存储读取（不缓存）
+     *
+     * @return 原文，读取失败时返回 null
+     */
     public String getJsonString() {
-        return jsonString;
+        String loaded = jsonString;
+        if (loaded == null && store != null) {
+            loaded = store.load(this);
+        }
+
+        return loaded;
     }
 
+    /**
+     * 获取解析后的对象，已被回收时读取原文重新解析（以软引用缓存）
+     *
+     * @return Json 对象，读取或解析失败时返回 null
+     */
     public JsonWrapper getJsonWrapper() {
-        return jsonWrapper;
+        SoftReference<JsonWrapper> ref = jsonWrapperRef;
+        JsonWrapper loaded = ref != null ? ref.get() : null;
+        if (loaded == null) {
+            String text = getJsonString();
+            if (text != null) {
+                loaded = JsonUtil.isJson(text) ? JsonUtil.parse(text) : Json5Util.parse(text);
+                setJsonWrapper(loaded);
+            }
+        }
+
+        return loaded;
     }
 
     public LocalDateTime getInsertTime() {
         return insertTime;
     }
+
+    /**
+     * 获取内容指纹，旧数据没有指纹时由原文计算
+     *
+     * @return 指纹
+     */
+    public Long getFingerprint() {
+        if (fingerprint == null) {
+            JsonWrapper wrapper = getJsonWrapper();
+            if (wrapper != null) {
+                fingerprint = wrapper.fingerprint();
+            }
+        }
+
+        return fingerprint;
+    }
+
+    /**
+     * 获取原文大小（UTF-8 字节数），旧数据没有大小时由原文计算
+     *
+     * @return 字节数
+     */
+    public long getSize() {
+        if (size == null) {
+            String text = getJsonString();
+            size = text != null ? JsonAssistantUtil.utf8Length(text) : 0L;
+        }
+
+        return size;
+    }
+
+    public String getBlobKey() {
+        return blobKey;
+    }
+
     // endregion
 
+    /**
+     * 获取内存中的原文（不读取磁盘）
+     *
+     * @return 原文，不在内存中时返回 null
+     */
+    public String getLoadedJsonString() {
+        return jsonString;
+    }
+
+    /**
+     * 原文是否已存入磁盘
+     */
+    public boolean isStored() {
+        return blobKey != null;
+    }
+
+    /**
+     * 原文已存入磁盘后，释放内存中的原文（解析后的对象只以软引用保留）
+     */
+    public void release() {
+        if (isStored() && store != null) {
+            jsonString = null;
+        }
+    }
+
     /**
      * 转为 Json5（供 JsonSerializer 的 addObj 方法调用）
      *
      * @return Json5
      */
     public String toJson() {
-        Map<String, Object> map = BeanUtil.beanToMap(this);
+        // 只保存索引信息，原文未存入磁盘时才一并保存；只使用内存中的字段，不读取磁盘
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("id", id);
+        map.put("name", name);
+        map.put("shortText", shortText);
+        map.put(insertTimeConstant, insertTime);
+        // 以文本保存，避免解析时丢失精度
+        map.put("fingerprint", fingerprint != null ? String.valueOf(fingerprint) : null);
+        map.put("size", size);
+        map.put("blobKey", blobKey);
+
+        if (!isStored()) {
+            map.put("jsonString", jsonString);
+        }
+
         return Json5Util.toJson5Str(map, Json5Util.COMPACT_JSON5.handleType(new LocalDateTimeTypeHandler()));
     }
 
@@ -138,8 +284,9 @@ public class JsonEntry {
 
 
     private static String getShortText(JsonWrapper jsonWrapper) {
-        String jsonString = JsonUtil.compressJson(jsonWrapper);
-        return JsonAssistantUtil.truncateText(Objects.requireNonNull(jsonString), 80, "...");
+        // 只序列化预览所需的前 SHORT_TEXT_LENGTH + 1 个字符（多出的一个字符用于判断是否需要省略）
+        String jsonString = JsonUtil.compressJson(jsonWrapper, SHORT_TEXT_LENGTH + 1);
+        return JsonAssistantUtil.truncateText(Objects.requireNonNull(jsonString), SHORT_TEXT_LENGTH, "...");
         // return StringUtil.convertLineSeparators(truncatedText, ContentChooser.RETURN_SYMBOL);
     }
 
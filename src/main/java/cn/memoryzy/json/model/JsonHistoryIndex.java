@@ -0,0 +1,356 @@
+package cn.memoryzy.json.model;
+
+import cn.memoryzy.json.model.wrapper.ArrayWrapper;
+import cn.memoryzy.json.model.wrapper.JsonWrapper;
+import cn.memoryzy.json.model.wrapper.ObjectWrapper;
+import com.intellij.openapi.util.text.StringUtil;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * 历史记录的倒排索引：记录每条历史中出现的键、键路径、基本类型值（及其中的单词）、键值对，用于按内容检索历史记录而无需读取原文
+ * <ul>
+ *     <li>词项带类型前缀：k:键、p:键路径（数组以 [] 表示）、v:值、w:值中的单词、kv:键=值，均为小写</li>
+ *     <li>检索词之间为「与」关系；形如 key:value 或 key=value 的检索词按键值对匹配，其余按 键 / 值 / 路径 / 单词 精确或前缀匹配</li>
+ *     <li>按匹配得分排序，得分相同时较新的记录在前</li>
+ * </ul>
+ * <p>每条记录的词项数量与值的长度均有上限，以控制索引大小</p>
+ *
+ * @author Memory
+ * @since 2025/4/11
+ */
+public class JsonHistoryIndex {
+
+    private static final int VERSION = 1;
+
+    /**
+     * 每条记录最多索引的词项数
+     */
+    private static final int MAX_TERMS = 2048;
+
+    /**
+     * 值超过该长度时截断后再索引
+     */
+    private static final int MAX_VALUE_LENGTH = 100;
+
+    /**
+     * 超过该长度的词项（如很深的路径）不索引
+     */
+    private static final int MAX_TERM_LENGTH = 300;
+
+    /**
+     * 每个检索词前缀匹配时最多检查的词项数
+     */
+    private static final int MAX_PREFIX_TERMS = 512;
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}_]+");
+    private static final Pattern PAIR_SEPARATOR = Pattern.compile("\\s*([:=])\\s*");
+
+    private static final String KEY = "k:";
+    private static final String PATH = "p:";
+    private static final String VALUE = "v:";
+    private static final String WORD = "w:";
+    private static final String PAIR = "kv:";
+
+    /**
+     * 词项 -> 记录 id
+     */
+    private final TreeMap<String, Set<Integer>> postings = new TreeMap<>();
+
+    /**
+     * 记录 id -> 词项（用于删除与持久化）
+     */
+    private final Map<Integer, String[]> terms = new HashMap<>();
+
+    private boolean dirty;
+
+    /**
+     * 提取 Json 中的词项
+     *
+     * @param jsonWrapper Json 对象
+     * @return 词项
+     */
+    public static String[] extractTerms(JsonWrapper jsonWrapper) {
+        Set<String> result = new LinkedHashSet<>();
+        collect(jsonWrapper, null, "", result);
+        return result.toArray(new String[0]);
+    }
+
+    private static void collect(Object value, String key, String path, Set<String> result) {
+        if (result.size() >= MAX_TERMS) {
+            return;
+        }
+
+        if (value instanceof ObjectWrapper) {
+            for (Map.Entry<String, Object> entry : ((ObjectWrapper) value).entrySet()) {
+                String childKey = normalize(entry.getKey());
+                String childPath = path.isEmpty() ? childKey : path + "." + childKey;
+                add(result, KEY + childKey);
+                add(result, PATH + childPath);
+                collect(entry.getValue(), childKey, childPath, result);
+            }
+        } else if (value instanceof ArrayWrapper) {
+            String childPath = path + "[]";
+            for (Object element : (ArrayWrapper) value) {
+                collect(element, key, childPath, result);
+            }
+        } else if (value != null) {
+            String text = normalize(value.toString());
+            add(result, VALUE + text);
+            if (key != null) {
+                add(result, PAIR + key + "=" + text);
+            }
+
+            if (value instanceof String) {
+                for (String word : WORD_SEPARATOR.split(text)) {
+                    if (!word.isEmpty() && !word.equals(text)) {
+                        add(result, WORD + word);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void add(Set<String> result, String term) {
+        if (result.size() < MAX_TERMS && term.length() <= MAX_TERM_LENGTH) {
+            result.add(term);
+        }
+    }
+
+    private static String normalize(String text) {
+        String lower = text.toLowerCase(Locale.ROOT);
+        return lower.length() > MAX_VALUE_LENGTH ? lower.substring(0, MAX_VALUE_LENGTH) : lower;
+    }
+
+    /**
+     * 添加（或替换）记录的词项
+     *
+     * @param id         记录 id
+     * @param entryTerms 词项
+     */
+    public synchronized void put(int id, String[] entryTerms) {
+        remove(id);
+        terms.put(id, entryTerms);
+        for (String term : entryTerms) {
+            postings.computeIfAbsent(term, k -> new HashSet<>()).add(id);
+        }
+
+        dirty = true;
+    }
+
+    public synchronized void remove(Integer id) {
+        String[] entryTerms = terms.remove(id);
+        if (entryTerms == null) {
+            return;
+        }
+
+        for (String term : entryTerms) {
+            Set<Integer> ids = postings.get(term);
+            if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+
+        dirty = true;
+    }
+
+    public synchronized boolean contains(Integer id) {
+        return terms.containsKey(id);
+    }
+
+    /**
+     * 只保留指定的记录
+     *
+     * @param ids 记录 id
+     */
+    public synchronized void retainAll(Collection<Integer> ids) {
+        for (Integer id : new ArrayList<>(terms.keySet())) {
+            if (!ids.contains(id)) {
+                remove(id);
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        if (!terms.isEmpty()) {
+            terms.clear();
+            postings.clear();
+            dirty = true;
+        }
+    }
+
+    /**
+     * 检索
+     *
+     * @param query 检索内容，空白分隔的多个检索词
+     * @return 匹配的记录 id，按得分从高到低（得分相同时 id 大的在前）
+     */
+    public synchronized List<Integer> search(String query) {
+        String normalized = PAIR_SEPARATOR.matcher(query.trim().toLowerCase(Locale.ROOT)).replaceAll("$1");
+        if (normalized.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Integer, Integer> scores = null;
+        for (String clause : normalized.split("\\s+")) {
+            Map<Integer, Integer> clauseScores = scoreClause(clause);
+            if (scores == null) {
+                scores = clauseScores;
+            } else {
+                // 所有检索词都需匹配
+                Map<Integer, Integer> merged = new HashMap<>();
+                for (Map.Entry<Integer, Integer> entry : clauseScores.entrySet()) {
+                    Integer score = scores.get(entry.getKey());
+                    if (score != null) {
+                        merged.put(entry.getKey(), score + entry.getValue());
+                    }
+                }
+
+                scores = merged;
+            }
+
+            if (scores.isEmpty()) {
+                return Collections.emptyList();
+            }
+        }
+
+        Map<Integer, Integer> result = scores;
+        List<Integer> ids = new ArrayList<>(result.keySet());
+        ids.sort((a, b) -> {
+            int compare = Integer.compare(result.get(b), result.get(a));
+            return compare != 0 ? compare : Integer.compare(b, a);
+        });
+
+        return ids;
+    }
+
+    private Map<Integer, Integer> scoreClause(String clause) {
+        Map<Integer, Integer> scores = new HashMap<>();
+        int separator = indexOfSeparator(clause);
+        if (separator > 0) {
+            String key = unquote(clause.substring(0, separator));
+            String value = unquote(StringUtil.trimEnd(clause.substring(separator + 1), ','));
+            // 键为路径时取最后一段
+            int dot = key.lastIndexOf('.');
+            String lastKey = dot >= 0 ? key.substring(dot + 1) : key;
+
+            if (value.isEmpty()) {
+                match(scores, KEY + lastKey, 4, 1);
+            } else {
+                match(scores, PAIR + lastKey + "=" + value, 8, 4);
+            }
+
+            if (dot >= 0) {
+                // 路径需同时匹配
+                Map<Integer, Integer> pathScores = new HashMap<>();
+                match(pathScores, PATH + key, 2, 1);
+                scores.keySet().retainAll(pathScores.keySet());
+                pathScores.forEach((id, score) -> scores.computeIfPresent(id, (k, v) -> v + score));
+            }
+
+            return scores;
+        }
+
+        String token = unquote(clause);
+        match(scores, KEY + token, 4, 1);
+        match(scores, VALUE + token, 4, 1);
+        match(scores, PATH + token, 3, 1);
+        match(scores, WORD + token, 2, 1);
+        return scores;
+    }
+
+    /**
+     * 精确匹配与前缀匹配，每条记录取最高分
+     */
+    private void match(Map<Integer, Integer> scores, String term, int exactScore, int prefixScore) {
+        Set<Integer> exact = postings.get(term);
+        if (exact != null) {
+            for (Integer id : exact) {
+                scores.merge(id, exactScore, Math::max);
+            }
+        }
+
+        int checked = 0;
+        for (Map.Entry<String, Set<Integer>> entry : postings.subMap(term, false, term + Character.MAX_VALUE, false).entrySet()) {
+            if (++checked > MAX_PREFIX_TERMS) {
+                break;
+            }
+
+            for (Integer id : entry.getValue()) {
+                scores.merge(id, prefixScore, Math::max);
+            }
+        }
+    }
+
+    private static int indexOfSeparator(String clause) {
+        for (int i = 0; i < clause.length(); i++) {
+            char ch = clause.charAt(i);
+            if (ch == ':' || ch == '=') {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private static String unquote(String text) {
+        if (text.length() >= 2 && (text.startsWith("\"") && text.endsWith("\"") || text.startsWith("'") && text.endsWith("'"))) {
+            return text.substring(1, text.length() - 1);
+        }
+
+        return text;
+    }
+
+    /**
+     * 是否有未保存的修改
+     */
+    public synchronized boolean isDirty() {
+        return dirty;
+    }
+
+    public synchronized void write(DataOutput out) throws IOException {
+        out.writeInt(VERSION);
+        out.writeInt(terms.size());
+        for (Map.Entry<Integer, String[]> entry : terms.entrySet()) {
+            out.writeInt(entry.getKey());
+            out.writeInt(entry.getValue().length);
+            for (String term : entry.getValue()) {
+                out.writeUTF(term);
+            }
+        }
+
+        dirty = false;
+    }
+
+    /**
+     * 读取索引，版本不一致时忽略
+     *
+     * @param in 输入
+     * @return 读取成功返回 true
+     */
+    public synchronized boolean read(DataInput in) throws IOException {
+        if (in.readInt() != VERSION) {
+            return false;
+        }
+
+        Map<Integer, String[]> loaded = new HashMap<>();
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            int id = in.readInt();
+            String[] entryTerms = new String[in.readInt()];
+            for (int j = 0; j < entryTerms.length; j++) {
+                entryTerms[j] = in.readUTF();
+            }
+
+            loaded.put(id, entryTerms);
+        }
+
+        loaded.forEach(this::put);
+        dirty = false;
+        return true;
+    }
+}
@@ -0,0 +1,46 @@
+package cn.memoryzy.json.model.jsonpath;
+
+import cn.memoryzy.json.enums.JsonQuerySchema;
+
+/**
+ * 监视表达式（批量对同一文档计算）
+ *
+ * @author Memory
+ * @since 2025/3/20
+ */
+public class WatchExpression {
+
+    /**
+     * 查询表达式
+     */
+    private String expression;
+
+    /**
+     * 表达式所属的查询语言
+     */
+    private JsonQuerySchema schema;
+
+    public WatchExpression() {
+    }
+
+    public WatchExpression(String expression, JsonQuerySchema schema) {
+        this.expression = expression;
+        this.schema = schema;
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    public void setExpression(String expression) {
+        this.expression = expression;
+    }
+
+    public JsonQuerySchema getSchema() {
+        return schema;
+    }
+
+    public void setSchema(JsonQuerySchema schema) {
+        this.schema = schema;
+    }
+}
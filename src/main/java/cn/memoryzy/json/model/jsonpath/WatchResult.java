@@ -0,0 +1,45 @@
+package cn.memoryzy.json.model.jsonpath;
+
+/**
+ * 监视表达式的计算结果及耗时
+ *
+ * @author Memory
+ * @since 2025/3/20
+ */
+public class WatchResult {
+
+    private final WatchExpression watchExpression;
+
+    private final EvaluateResult result;
+
+    /**
+     * 计算耗时（纳秒）
+     */
+    private final long elapsedNanos;
+
+    public WatchResult(WatchExpression watchExpression, EvaluateResult result, long elapsedNanos) {
+        this.watchExpression = watchExpression;
+        this.result = result;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public WatchExpression getWatchExpression() {
+        return watchExpression;
+    }
+
+    public EvaluateResult getResult() {
+        return result;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getElapsedMillis() {
+        return elapsedNanos / 1_000_000.0;
+    }
+
+    public boolean isSuccess() {
+        return result instanceof ResultString;
+    }
+}
@@ -17,7 +17,7 @@ public class ClipboardTextConverter {
         return applyConversionStrategies(context, ClipboardTextConversionContext.getProcessors(), text);
     }
 
-    private static String applyConversionStrategies(ClipboardTextConversionContext context, List<ClipboardTextConversionStrategy> strategies, String text) {
+    public static String applyConversionStrategies(ClipboardTextConversionContext context, List<ClipboardTextConversionStrategy> strategies, String text) {
         for (ClipboardTextConversionStrategy strategy : strategies) {
             context.setStrategy(strategy);
             String result = context.convert(text);
@@ -6,6 +6,8 @@ import cn.memoryzy.json.model.strategy.formats.context.GlobalTextConversionProce
 import cn.memoryzy.json.model.strategy.formats.data.EditorData;
 import cn.memoryzy.json.model.strategy.formats.processor.json.Json5ConversionProcessor;
 import cn.memoryzy.json.model.strategy.formats.processor.json.JsonConversionProcessor;
+import cn.memoryzy.json.util.JsonUtil;
+import cn.memoryzy.json.util.PlatformUtil;
 import cn.memoryzy.json.util.TextTransformUtil;
 import com.intellij.openapi.actionSystem.CommonDataKeys;
 import com.intellij.openapi.actionSystem.DataContext;
@@ -201,6 +203,19 @@ public class GlobalJsonConverter {
         return !(processor instanceof Json5ConversionProcessor);
     }
 
+    /**
+     * 获取当前Json，判断是否非Json数组
+     * <p style="color: blue;">Url Param、Toml、Properties 三种类型不支持Json数组的转换</p>
+     *
+     * @param dataContext 数据上下文
+     * @return 如果是Json对象，则为true；如果是数组，则为false
+     */
+    public static boolean isNotJsonArray(DataContext dataContext) {
+        GlobalTextConversionProcessorContext context = new GlobalTextConversionProcessorContext();
+        String json = parseJson(context, PlatformUtil.getEditor(dataContext));
+        return JsonUtil.isNotJsonArray(json, isValidJson(context.getProcessor()));
+    }
+
 
     // -------------------------------------------------------------------------
 
@@ -0,0 +1,237 @@
+package cn.memoryzy.json.service;
+
+import cn.hutool.core.util.StrUtil;
+import cn.memoryzy.json.constant.DataTypeConstant;
+import cn.memoryzy.json.model.ClipboardConversion;
+import cn.memoryzy.json.model.strategy.ClipboardTextConverter;
+import cn.memoryzy.json.model.strategy.clipboard.Json5ConversionStrategy;
+import cn.memoryzy.json.model.strategy.clipboard.JsonConversionStrategy;
+import cn.memoryzy.json.model.strategy.clipboard.context.ClipboardTextConversionContext;
+import cn.memoryzy.json.model.strategy.clipboard.context.ClipboardTextConversionStrategy;
+import cn.memoryzy.json.model.wrapper.ArrayWrapper;
+import cn.memoryzy.json.model.wrapper.JsonWrapper;
+import cn.memoryzy.json.model.wrapper.ObjectWrapper;
+import cn.memoryzy.json.service.persistent.JsonAssistantPersistentState;
+import cn.memoryzy.json.util.Json5Util;
+import cn.memoryzy.json.util.JsonUtil;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.ide.CopyPasteManager;
+import org.apache.commons.lang3.StringEscapeUtils;
+import org.jetbrains.annotations.Nullable;
+
+import java.awt.datatransfer.DataFlavor;
+import java.awt.datatransfer.Transferable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 剪贴板监听与转换缓存
+ * <p>剪贴板内容变化时在后台线程转换一次，结果按内容哈希与启用的转换策略缓存（修改识别的格式后重新转换），工具窗口获取焦点、新建标签页时直接读取缓存；
+ * 超过 {@link #MAX_TEXT_LENGTH} 的文本不预先转换，也不缓存，缓存的文本总长度不超过 {@link #MAX_CACHE_LENGTH}</p>
+ * <p>Json / Json5 文本只解析一次，格式化直接使用解析结果；其余格式才依次尝试转换策略</p>
+ *
+ * @author Memory
+ * @since 2025/4/13
+ */
+public class ClipboardConversionService implements CopyPasteManager.ContentChangedListener, Disposable {
+
+    private static final Logger LOG = Logger.getInstance(ClipboardConversionService.class);
+
+    /**
+     * 预先转换与缓存的文本长度上限
+     */
+    private static final int MAX_TEXT_LENGTH = 2 * 1024 * 1024;
+
+    /**
+     * 缓存的文本（原文与格式化后的文本）总长度上限
+     */
+    private static final long MAX_CACHE_LENGTH = 4L * MAX_TEXT_LENGTH;
+
+    private static final int CACHE_SIZE = 4;
+
+    /**
+     * 按访问顺序排列，超出条数或总长度时淘汰最久未使用的
+     */
+    private final Map<Long, CachedConversion> cache = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true);
+
+    private long cacheLength;
+
+    public ClipboardConversionService() {
+        CopyPasteManager.getInstance().addContentChangedListener(this, this);
+    }
+
+    public static ClipboardConversionService getInstance() {
+        return ApplicationManager.getApplication().getService(ClipboardConversionService.class);
+    }
+
+    @Override
+    public void contentChanged(@Nullable Transferable oldTransferable, @Nullable Transferable newTransferable) {
+        if (newTransferable == null || !JsonAssistantPersistentState.getInstance().editorBehaviorState.recognizeOtherFormats) {
+            return;
+        }
+
+        String text;
+        try {
+            if (!newTransferable.isDataFlavorSupported(DataFlavor.stringFlavor)) {
+                return;
+            }
+
+            text = (String) newTransferable.getTransferData(DataFlavor.stringFlavor);
+        } catch (Exception e) {
+            return;
+        }
+
+        if (StrUtil.isNotBlank(text) && text.length() <= MAX_TEXT_LENGTH) {
+            ApplicationManager.getApplication().executeOnPooledThread(() -> {
+                try {
+                    get(text);
+                } catch (Exception e) {
+                    LOG.debug("Failed to convert clipboard content", e);
+                }
+            });
+        }
+    }
+
+    /**
+     * 获取剪贴板文本的转换结果，未缓存时立即转换
+     *
+     * @param clipboard 剪贴板文本
+     * @return 转换结果
+     */
+    public ClipboardConversion get(String clipboard) {
+        long key = hash(clipboard);
+        List<ClipboardTextConversionStrategy> strategies = ClipboardTextConversionContext.getProcessors();
+        List<String> formats = strategies.stream().map(ClipboardTextConversionStrategy::type).collect(Collectors.toList());
+        synchronized (cache) {
+            CachedConversion cached = cache.get(key);
+            if (cached != null && cached.conversion.getClipboard().equals(clipboard) && cached.formats.equals(formats)) {
+                return cached.conversion;
+            }
+        }
+
+        ClipboardConversion conversion = convert(clipboard, strategies);
+        long length = lengthOf(conversion);
+        if (clipboard.length() <= MAX_TEXT_LENGTH && length <= MAX_CACHE_LENGTH) {
+            synchronized (cache) {
+                CachedConversion previous = cache.put(key, new CachedConversion(formats, conversion));
+                if (previous != null) {
+                    cacheLength -= lengthOf(previous.conversion);
+                }
+
+                cacheLength += length;
+                evict();
+            }
+        }
+
+        return conversion;
+    }
+
+    private void evict() {
+        Iterator<CachedConversion> iterator = cache.values().iterator();
+        while (iterator.hasNext() && (cache.size() > CACHE_SIZE || cacheLength > MAX_CACHE_LENGTH)) {
+            cacheLength -= lengthOf(iterator.next().conversion);
+            iterator.remove();
+        }
+    }
+
+    private static long lengthOf(ClipboardConversion conversion) {
+        String formattedText = conversion.getFormattedText();
+        return conversion.getClipboard().length() + (formattedText != null ? formattedText.length() : 0);
+    }
+
+    private static ClipboardConversion convert(String clipboard, List<ClipboardTextConversionStrategy> processors) {
+        String text = StrUtil.trim(clipboard);
+
+        // Json / Json5：解析一次，格式化直接使用解析结果
+        String parseType = DataTypeConstant.JSON;
+        Object data = readJson(text);
+        if (data == null) {
+            parseType = DataTypeConstant.JSON5;
+            data = Json5Util.resolveJson5(text);
+        }
+
+        if (data instanceof Map || data instanceof List) {
+            JsonWrapper wrapper = wrap(data);
+            String formattedText = DataTypeConstant.JSON5.equals(parseType) ? Json5Util.formatJson5(wrapper) : JsonUtil.formatJson(wrapper);
+            return new ClipboardConversion(clipboard, parseType, wrapper.fingerprint(), wrapper.noItems(), formattedText);
+        }
+
+        // 其他格式：依次尝试其余转换策略（Json、Json5 已判断过），转换结果同样只解析一次
+        List<ClipboardTextConversionStrategy> strategies = new ArrayList<>(processors);
+        strategies.removeIf(strategy -> strategy instanceof JsonConversionStrategy || strategy instanceof Json5ConversionStrategy);
+
+        ClipboardTextConversionContext context = new ClipboardTextConversionContext();
+        String processedText = ClipboardTextConverter.applyConversionStrategies(context, strategies, text);
+        if (StrUtil.isBlank(processedText)) {
+            return new ClipboardConversion(clipboard, null, null, false, null);
+        }
+
+        Object converted = readJson(processedText);
+        if (converted instanceof Map || converted instanceof List) {
+            JsonWrapper wrapper = wrap(converted);
+            return new ClipboardConversion(clipboard, context.getStrategy().type(), wrapper.fingerprint(), wrapper.noItems(), JsonUtil.formatJson(wrapper));
+        }
+
+        return new ClipboardConversion(clipboard, context.getStrategy().type(), null, false, JsonUtil.formatJson(processedText));
+    }
+
+    /**
+     * 按标准 Json 解析，失败时再尝试去除转义后解析
+     *
+     * @param text 文本
+     * @return 解析结果，无法解析时返回 null
+     */
+    @SuppressWarnings("deprecation")
+    private static Object readJson(String text) {
+        try {
+            return JsonUtil.MAPPER.readValue(text, Object.class);
+        } catch (Exception e) {
+            if (text.indexOf('\\') < 0) {
+                return null;
+            }
+        }
+
+        try {
+            return JsonUtil.MAPPER.readValue(StringEscapeUtils.unescapeJson(text), Object.class);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static JsonWrapper wrap(Object data) {
+        return data instanceof Map ? new ObjectWrapper(data) : new ArrayWrapper(data);
+    }
+
+    private static long hash(String text) {
+        return ((long) text.length() << 32) | (text.hashCode() & 0xFFFFFFFFL);
+    }
+
+    @Override
+    public void dispose() {
+        synchronized (cache) {
+            cache.clear();
+            cacheLength = 0;
+        }
+    }
+
+    /**
+     * 缓存的转换结果及转换时启用的策略类型
+     */
+    private static class CachedConversion {
+
+        private final List<String> formats;
+
+        private final ClipboardConversion conversion;
+
+        CachedConversion(List<String> formats, ClipboardConversion conversion) {
+            this.formats = formats;
+            this.conversion = conversion;
+        }
+    }
+}
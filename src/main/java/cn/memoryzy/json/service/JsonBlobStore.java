@@ -0,0 +1,338 @@
+package cn.memoryzy.json.service;
+
+import cn.hutool.crypto.digest.DigestUtil;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.diagnostic.Logger;
+
+import java.io.*;
+import java.lang.ref.SoftReference;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 应用级的历史记录原文存储（按内容寻址，所有项目共享）
+ * <ul>
+ *     <li>以原文的 SHA-256 为键，每个原文一个压缩文件，相同的原文在磁盘上只保存一份</li>
+ *     <li>读取的原文以软引用缓存，多个项目读取相同的原文时共享同一个对象</li>
+ *     <li>引用计数：每个项目（以 locationHash 区分）登记自己历史记录中仍在使用的键，没有项目引用的原文被删除</li>
+ *     <li>项目的引用只在该项目显式登记（{@link #retain}）时释放，长期未打开的项目的历史记录原文不会被删除</li>
+ *     <li>摘要计算、压缩、读写文件均在锁外进行，锁内只更新引用计数</li>
+ * </ul>
+ *
+ * @author Memory
+ * @since 2025/4/12
+ */
+public class JsonBlobStore {
+
+    private static final Logger LOG = Logger.getInstance(JsonBlobStore.class);
+
+    private static final int VERSION = 3;
+
+    /**
+     * 记录了各项目最近登记时间的旧版本，读取时忽略时间
+     */
+    private static final int VERSION_WITH_LAST_SEEN = 2;
+
+    private final Path directory;
+    private final Path refsFile;
+
+    /**
+     * 项目 -> 引用的键
+     */
+    private final Map<String, Set<String>> owners = new HashMap<>();
+
+    /**
+     * 键 -> 引用该键的项目数
+     */
+    private final Map<String, Integer> refCounts = new HashMap<>();
+
+    private final Map<String, SoftReference<String>> cache = new ConcurrentHashMap<>();
+
+    private boolean loaded;
+
+    /**
+     * 引用有尚未保存的修改（{@link #put} 只在内存中登记，由 {@link #retain} 保存）
+     */
+    private boolean dirty;
+
+    public JsonBlobStore() {
+        this(PathManager.getSystemDir().resolve("json-assistant").resolve("blobs"));
+    }
+
+    public JsonBlobStore(Path directory) {
+        this.directory = directory;
+        this.refsFile = directory.resolve("refs.bin");
+    }
+
+    public static JsonBlobStore getInstance() {
+        return ApplicationManager.getApplication().getService(JsonBlobStore.class);
+    }
+
+    /**
+     * 计算原文的键
+     *
+     * @param text 原文
+     * @return 键（SHA-256）
+     */
+    public static String keyOf(String text) {
+        return DigestUtil.sha256Hex(text);
+    }
+
+    /**
+     * 保存原文并登记引用（已存在时只登记引用）
+     *
+     * @param owner 项目标识
+     * @param text  原文
+     * @return 键，写入失败时返回 null
+     */
+    public String put(String owner, String text) {
+        String key = keyOf(text);
+        Path file = fileOf(key);
+        if (!write(file, text)) {
+            return null;
+        }
+
+        boolean missing;
+        synchronized (this) {
+            ensureLoaded();
+            addRef(owner, key);
+            // 写入后、登记前，文件可能因失去最后一个引用而被删除；登记后不会再被删除，补写即可
+            missing = !Files.exists(file);
+        }
+
+        if (missing && !write(file, text)) {
+            return null;
+        }
+
+        cache.putIfAbsent(key, new SoftReference<>(text));
+        return key;
+    }
+
+    /**
+     * 写入原文（已存在时跳过）：先写入唯一的临时文件再原子移动，并发写入相同原文时结果一致
+     */
+    private boolean write(Path file, String text) {
+        if (Files.exists(file)) {
+            return true;
+        }
+
+        Path temp = null;
+        try {
+            Files.createDirectories(file.getParent());
+            temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new DeflaterOutputStream(Files.newOutputStream(temp))))) {
+                byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(raw.length);
+                out.write(raw);
+            }
+
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (IOException e) {
+            LOG.warn("Failed to store json blob " + file.getFileName(), e);
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                }
+            }
+
+            return false;
+        }
+    }
+
+    /**
+     * 读取原文
+     *
+     * @param key 键
+     * @return 原文，不存在或读取失败时返回 null
+     */
+    public String get(String key) {
+        SoftReference<String> ref = cache.get(key);
+        String text = ref != null ? ref.get() : null;
+        if (text != null) {
+            return text;
+        }
+
+        // 文件以原子移动写入，读取无需加锁；并发读取同一原文时各自解压，缓存保留其中一个
+        Path file = fileOf(key);
+        if (!Files.exists(file)) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new InflaterInputStream(Files.newInputStream(file))))) {
+            byte[] raw = new byte[in.readInt()];
+            in.readFully(raw);
+            text = new String(raw, StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Failed to load json blob " + key, e);
+            return null;
+        }
+
+        SoftReference<String> cached = cache.putIfAbsent(key, new SoftReference<>(text));
+        String shared = cached != null ? cached.get() : null;
+        return shared != null ? shared : text;
+    }
+
+    /**
+     * 更新项目引用的键（替换该项目之前登记的全部引用），并删除不再被任何项目引用的原文
+     *
+     * @param owner 项目标识
+     * @param keys  仍在使用的键
+     */
+    public synchronized void retain(String owner, Collection<String> keys) {
+        ensureLoaded();
+        Set<String> retained = new HashSet<>(keys);
+        Set<String> previous = owners.get(owner);
+        if (Objects.equals(previous, retained)) {
+            if (dirty) {
+                saveRefs();
+            }
+
+            return;
+        }
+
+        if (previous != null) {
+            for (String key : previous) {
+                if (!retained.contains(key)) {
+                    removeRef(key);
+                }
+            }
+        }
+
+        for (String key : retained) {
+            if (previous == null || !previous.contains(key)) {
+                refCounts.merge(key, 1, Integer::sum);
+            }
+        }
+
+        if (retained.isEmpty()) {
+            owners.remove(owner);
+        } else {
+            owners.put(owner, retained);
+        }
+
+        saveRefs();
+    }
+
+    private void addRef(String owner, String key) {
+        if (owners.computeIfAbsent(owner, k -> new HashSet<>()).add(key)) {
+            refCounts.merge(key, 1, Integer::sum);
+            dirty = true;
+        }
+    }
+
+    private void removeRef(String key) {
+        Integer count = refCounts.get(key);
+        if (count == null || count <= 1) {
+            // 没有项目引用，删除原文
+            refCounts.remove(key);
+            cache.remove(key);
+            try {
+                Files.deleteIfExists(fileOf(key));
+            } catch (IOException e) {
+                LOG.warn("Failed to delete json blob " + key, e);
+            }
+        } else {
+            refCounts.put(key, count - 1);
+        }
+    }
+
+    private Path fileOf(String key) {
+        return directory.resolve(key.substring(0, 2)).resolve(key + ".bin");
+    }
+
+    /**
+     * 首次使用时读取引用记录，并删除没有被引用的原文（如异常退出前写入、未登记的原文）
+     */
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+
+        loaded = true;
+        if (!Files.exists(refsFile)) {
+            return;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(refsFile)))) {
+            int version = in.readInt();
+            if (version != VERSION && version != VERSION_WITH_LAST_SEEN) {
+                return;
+            }
+
+            int ownerCount = in.readInt();
+            for (int i = 0; i < ownerCount; i++) {
+                String owner = in.readUTF();
+                if (version == VERSION_WITH_LAST_SEEN) {
+                    in.readLong();
+                }
+
+                int keyCount = in.readInt();
+                for (int j = 0; j < keyCount; j++) {
+                    addRef(owner, in.readUTF());
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Failed to load json blob references", e);
+            return;
+        } finally {
+            dirty = false;
+        }
+
+        sweep();
+    }
+
+    private void sweep() {
+        try (Stream<Path> files = Files.walk(directory, 2)) {
+            files.filter(file -> file.getFileName().toString().endsWith(".bin") && !file.equals(refsFile))
+                    .filter(file -> {
+                        String name = file.getFileName().toString();
+                        return !refCounts.containsKey(name.substring(0, name.length() - ".bin".length()));
+                    })
+                    .forEach(file -> {
+                        try {
+                            Files.deleteIfExists(file);
+                        } catch (IOException e) {
+                            LOG.warn("Failed to delete json blob " + file, e);
+                        }
+                    });
+        } catch (IOException | UncheckedIOException e) {
+            LOG.warn("Failed to sweep json blobs", e);
+        }
+    }
+
+    private void saveRefs() {
+        Path temp = refsFile.resolveSibling(refsFile.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(directory);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(VERSION);
+                out.writeInt(owners.size());
+                for (Map.Entry<String, Set<String>> entry : owners.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    out.writeInt(entry.getValue().size());
+                    for (String key : entry.getValue()) {
+                        out.writeUTF(key);
+                    }
+                }
+            }
+
+            Files.move(temp, refsFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            dirty = false;
+        } catch (IOException e) {
+            LOG.warn("Failed to save json blob references", e);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package cn.memoryzy.json.service;
+
+import cn.memoryzy.json.model.JsonEntry;
+import cn.memoryzy.json.model.JsonHistoryIndex;
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.project.Project;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 项目的历史记录存储
+ * <p>原文保存在应用级的 {@link JsonBlobStore} 中（按内容寻址，多个项目相同的原文只保存一份），本类以项目的 locationHash 登记引用</p>
+ * <p>检索索引（{@link JsonHistoryIndex}）压缩后保存在项目目录的单独文件中，有修改时整体重写</p>
+ *
+ * @author Memory
+ * @since 2025/4/10
+ */
+public class JsonHistoryBodyStore {
+
+    private static final Logger LOG = Logger.getInstance(JsonHistoryBodyStore.class);
+
+    private final String owner;
+    private final JsonBlobStore blobStore;
+    private final Path indexFile;
+
+    public JsonHistoryBodyStore(Project project) {
+        this(project.getLocationHash(), JsonBlobStore.getInstance(),
+                PathManager.getSystemDir().resolve("json-assistant").resolve("history").resolve(project.getLocationHash()));
+    }
+
+    public JsonHistoryBodyStore(String owner, JsonBlobStore blobStore, Path directory) {
+        this.owner = owner;
+        this.blobStore = blobStore;
+        this.indexFile = directory.resolve("index.bin");
+    }
+
+    public static JsonHistoryBodyStore getInstance(@NotNull Project project) {
+        return project.getService(JsonHistoryBodyStore.class);
+    }
+
+    /**
+     * 将记录原文存入共享存储，并设置记录的存储键
+     *
+     * @param entry 记录
+     * @return 写入成功返回 true
+     */
+    public boolean store(JsonEntry entry) {
+        if (entry.getBlobKey() != null) {
+            return true;
+        }
+
+        String jsonString = entry.getLoadedJsonString();
+        if (jsonString == null) {
+            return false;
+        }
+
+        String key = blobStore.put(owner, jsonString);
+        if (key == null) {
+            return false;
+        }
+
+        entry.setBlobKey(key);
+        return true;
+    }
+
+    /**
+     * 读取记录原文
+     *
+     * @param entry 记录
+     * @return 原文，未存储或读取失败时返回 null
+     */
+    public String load(JsonEntry entry) {
+        String key = entry.getBlobKey();
+        return key != null ? blobStore.get(key) : null;
+    }
+
+    /**
+     * 登记仍在使用的记录（替换之前的引用，不再被任何项目引用的原文会被删除）
+     *
+     * @param liveEntries 仍在使用的记录
+     */
+    public void retain(Collection<JsonEntry> liveEntries) {
+        Set<String> keys = new HashSet<>();
+        for (JsonEntry entry : liveEntries) {
+            if (entry.getBlobKey() != null) {
+                keys.add(entry.getBlobKey());
+            }
+        }
+
+        blobStore.retain(owner, keys);
+    }
+
+    /**
+     * 保存检索索引（无修改时跳过）
+     *
+     * @param index 检索索引
+     */
+    public synchronized void saveIndex(JsonHistoryIndex index) {
+        if (!index.isDirty()) {
+            return;
+        }
+
+        Path temp = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(indexFile.getParent());
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new DeflaterOutputStream(Files.newOutputStream(temp))))) {
+                index.write(out);
+            }
+
+            Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOG.warn("Failed to save history index", e);
+        }
+    }
+
+    /**
+     * 读取检索索引
+     *
+     * @param index 检索索引
+     * @return 读取成功返回 true
+     */
+    public synchronized boolean loadIndex(JsonHistoryIndex index) {
+        if (!Files.exists(indexFile)) {
+            return false;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new InflaterInputStream(Files.newInputStream(indexFile))))) {
+            return index.read(in);
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Failed to load history index", e);
+            return false;
+        }
+    }
+}
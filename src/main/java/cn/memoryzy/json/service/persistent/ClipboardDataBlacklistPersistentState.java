@@ -1,6 +1,8 @@
 package cn.memoryzy.json.service.persistent;
 
 import cn.memoryzy.json.model.BlacklistEntry;
+import cn.memoryzy.json.model.wrapper.JsonWrapper;
+import cn.memoryzy.json.service.JsonBlobStore;
 import cn.memoryzy.json.service.persistent.converter.BlacklistConverter;
 import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.components.PersistentStateComponent;
@@ -10,9 +12,12 @@ import com.intellij.util.xmlb.annotations.Attribute;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.LinkedList;
+import java.util.*;
 
 /**
+ * 剪贴板数据黑名单
+ * <p>比对只使用内容指纹集合（O(1)），原文在添加后于后台存入 {@link JsonBlobStore}，仅在展示时读取</p>
+ *
  * @author Memory
  * @since 2025/3/3
  */
@@ -23,9 +28,27 @@ public class ClipboardDataBlacklistPersistentState implements PersistentStateCom
         return ApplicationManager.getApplication().getService(ClipboardDataBlacklistPersistentState.class);
     }
 
+    /**
+     * 原文在共享存储中的引用方标识
+     */
+    private static final String BLOB_OWNER = "clipboard-blacklist";
+
+    /**
+     * 黑名单记录，修改后需调用 {@link #refresh()}（或使用 {@link #add}、{@link #remove}）
+     */
     @Attribute(converter = BlacklistConverter.class)
     public LinkedList<BlacklistEntry> blacklist = new LinkedList<>();
 
+    /**
+     * 黑名单记录的内容指纹
+     */
+    private volatile Set<Long> fingerprints;
+
+    /**
+     * 串行执行原文的存储与引用登记
+     */
+    private final Object blobLock = new Object();
+
     @Override
     public @Nullable ClipboardDataBlacklistPersistentState getState() {
         return this;
@@ -34,5 +57,100 @@ public class ClipboardDataBlacklistPersistentState implements PersistentStateCom
     @Override
     public void loadState(@NotNull ClipboardDataBlacklistPersistentState state) {
         this.blacklist = state.blacklist;
+        this.fingerprints = null;
+        // 迁移旧版本内联保存的原文，并登记仍在使用
+        syncBlobsInBackground();
+    }
+
+    /**
+     * 判断 Json 是否在黑名单中
+     *
+     * @param fingerprint Json 对象的指纹（{@link JsonWrapper#fingerprint()}）
+     * @return 在黑名单中返回 true
+     */
+    public boolean contains(Long fingerprint) {
+        if (fingerprint == null) {
+            return false;
+        }
+
+        Set<Long> current = fingerprints;
+        if (current == null) {
+            current = refresh();
+        }
+
+        return current.contains(fingerprint);
+    }
+
+    /**
+     * 添加到黑名单首位
+     *
+     * @param originalText     原文
+     * @param originalDataType 原文类型
+     * @param wrapper          Json 对象
+     */
+    public synchronized void add(String originalText, String originalDataType, JsonWrapper wrapper) {
+        Integer id = blacklist.stream().map(BlacklistEntry::getId).max(Integer::compareTo).orElse(-1);
+        blacklist.addFirst(new BlacklistEntry(id + 1, originalText, originalDataType, wrapper));
+        refresh();
+        syncBlobsInBackground();
+    }
+
+    /**
+     * 按 id 删除
+     *
+     * @param id 记录 id
+     */
+    public synchronized void remove(Integer id) {
+        if (blacklist.removeIf(el -> Objects.equals(el.getId(), id))) {
+            syncBlobsInBackground();
+        }
+
+        refresh();
+    }
+
+    /**
+     * 重新生成指纹集合
+     *
+     * @return 指纹集合
+     */
+    public synchronized Set<Long> refresh() {
+        Set<Long> result = new HashSet<>();
+        for (BlacklistEntry entry : blacklist) {
+            Long fingerprint = entry.getFingerprint();
+            if (fingerprint != null) {
+                result.add(fingerprint);
+            }
+        }
+
+        Set<Long> unmodifiable = Collections.unmodifiableSet(result);
+        fingerprints = unmodifiable;
+        return unmodifiable;
+    }
+
+    private void syncBlobsInBackground() {
+        ApplicationManager.getApplication().executeOnPooledThread(this::syncBlobs);
+    }
+
+    /**
+     * 将尚未存入共享存储的原文写入（写入后释放内存中的原文），并登记仍在使用的原文，删除的记录的原文随之释放
+     */
+    private void syncBlobs() {
+        synchronized (blobLock) {
+            List<BlacklistEntry> entries;
+            synchronized (this) {
+                entries = new ArrayList<>(blacklist);
+            }
+
+            JsonBlobStore blobStore = JsonBlobStore.getInstance();
+            Set<String> keys = new HashSet<>();
+            for (BlacklistEntry entry : entries) {
+                entry.store(blobStore, BLOB_OWNER);
+                if (entry.getBlobKey() != null) {
+                    keys.add(entry.getBlobKey());
+                }
+            }
+
+            blobStore.retain(BLOB_OWNER, keys);
+        }
     }
 }
@@ -1,7 +1,9 @@
 package cn.memoryzy.json.service.persistent;
 
 import cn.memoryzy.json.model.HistoryLimitedList;
+import cn.memoryzy.json.service.JsonHistoryBodyStore;
 import cn.memoryzy.json.service.persistent.converter.HistoryLimitedListConverter;
+import cn.memoryzy.json.service.persistent.state.HistoryState;
 import com.intellij.openapi.components.PersistentStateComponent;
 import com.intellij.openapi.components.State;
 import com.intellij.openapi.components.Storage;
@@ -11,6 +13,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author Memory
@@ -21,27 +24,64 @@ public class JsonHistoryPersistentState implements PersistentStateComponent<Json
     public static final int LIMIT = 25;
 
     public static JsonHistoryPersistentState getInstance(Project project) {
-        return project.getService(JsonHistoryPersistentState.class);
+        JsonHistoryPersistentState state = project.getService(JsonHistoryPersistentState.class);
+        state.attachStore(project);
+        return state;
     }
 
+    /**
+     * 按设置中的淘汰策略创建历史记录
+     *
+     * @return 历史记录
+     */
+    public static HistoryLimitedList createHistory() {
+        HistoryState historyState = JsonAssistantPersistentState.getInstance().historyState;
+        int maxEntries = historyState.maxEntries > 0 ? historyState.maxEntries : LIMIT;
+        long maxAgeMillis = TimeUnit.DAYS.toMillis(Math.max(0, historyState.maxAgeDays));
+        return new HistoryLimitedList(maxEntries, Math.max(0, historyState.maxTotalBytes), Math.max(0, historyState.maxEntryBytes), maxAgeMillis);
+    }
+
+    /**
+     * 历史记录索引（原文保存在 {@link JsonHistoryBodyStore} 中）
+     */
     @Attribute(converter = HistoryLimitedListConverter.class)
     public HistoryLimitedList history;
 
+    private JsonHistoryBodyStore store;
+
+    /**
+     * 只序列化历史记录的索引信息；原文与检索索引由 {@link HistoryLimitedList#sync()} 在修改后于后台写入磁盘
+     */
     @Override
     public @Nullable JsonHistoryPersistentState getState() {
         return this;
     }
 
     @Override
-    public void loadState(@NotNull JsonHistoryPersistentState state) {
+    public synchronized void loadState(@NotNull JsonHistoryPersistentState state) {
         this.history = state.history;
+        if (this.history != null && this.store != null) {
+            this.history.attach(this.store);
+        }
     }
 
-    public HistoryLimitedList getHistory() {
+    public synchronized HistoryLimitedList getHistory() {
         if (Objects.isNull(this.history)) {
-            this.history = new HistoryLimitedList(LIMIT);
+            this.history = createHistory();
+            if (this.store != null) {
+                this.history.attach(this.store);
+            }
         }
 
         return this.history;
     }
+
+    private synchronized void attachStore(Project project) {
+        if (this.store == null) {
+            this.store = JsonHistoryBodyStore.getInstance(project);
+            if (this.history != null) {
+                this.history.attach(this.store);
+            }
+        }
+    }
 }
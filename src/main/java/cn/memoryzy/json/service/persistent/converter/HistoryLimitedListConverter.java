@@ -14,6 +14,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 
 /**
  * @author Memory
@@ -24,7 +25,7 @@ public class HistoryLimitedListConverter extends Converter<HistoryLimitedList> {
 
     @Override
     public @Nullable HistoryLimitedList fromString(@NotNull String value) {
-        HistoryLimitedList historyList = new HistoryLimitedList(JsonHistoryPersistentState.LIMIT);
+        HistoryLimitedList historyList = JsonHistoryPersistentState.createHistory();
 
         try {
             // 兼容旧数据，只有一次
@@ -50,7 +51,7 @@ public class HistoryLimitedListConverter extends Converter<HistoryLimitedList> {
 
     @Override
     public @Nullable String toString(@NotNull HistoryLimitedList value) {
-        return Base64.encode(Json5Util.compressJson5(value));
+        return Base64.encode(Json5Util.compressJson5(new ArrayList<>(value)));
     }
 
 }
@@ -15,4 +15,24 @@ public class GeneralState {
      */
     public TreeDisplayMode treeDisplayMode = TreeDisplayMode.POPUP;
 
+    /**
+     * JSON 树结构中数组的分组大小，元素数超过该值时按区间分组展示（小于 2 时不分组）
+     */
+    public int arrayBucketSize = 100;
+
+    /**
+     * JSON 树结构一次展开操作最多新增的行数，超出后停止展开
+     */
+    public int expandRowBudget = 5000;
+
+    /**
+     * “继续展开”每次展开的层数
+     */
+    public int expandLevelStep = 2;
+
+    /**
+     * 结构比较时数组元素的标识字段，多个以逗号分隔，按顺序取第一个在两侧所有元素中都存在的字段
+     */
+    public String diffIdentityKeys = "id";
+
 }
@@ -18,4 +18,24 @@ public class HistoryState {
      */
     public HistoryViewType historyViewType = HistoryViewType.TREE;
 
+    /**
+     * 历史记录最大条数
+     */
+    public int maxEntries = 25;
+
+    /**
+     * 历史记录原文总大小上限（字节），超出后从最老的记录开始淘汰，0 表示不限制
+     */
+    public long maxTotalBytes = 32L * 1024 * 1024;
+
+    /**
+     * 单条历史记录原文大小上限（字节），超出的 Json 不记录，0 表示不限制
+     */
+    public long maxEntryBytes = 8L * 1024 * 1024;
+
+    /**
+     * 历史记录保留天数，超出后淘汰，0 表示不过期
+     */
+    public int maxAgeDays = 0;
+
 }
@@ -18,4 +18,19 @@ public class QueryState {
      */
     public boolean showOriginalText = true;
 
+    /**
+     * 结果编辑器单页展示的大小（KB），超出时分页加载
+     */
+    public int resultPageSizeKb = 256;
+
+    /**
+     * 显示监视列表
+     */
+    public boolean showWatchList = false;
+
+    /**
+     * 监视表达式耗时高亮阈值（毫秒）
+     */
+    public long watchSlowThresholdMs = 50;
+
 }
@@ -1,11 +1,16 @@
 package cn.memoryzy.json.ui;
 
 import cn.memoryzy.json.model.StructureConfig;
+import cn.memoryzy.json.model.diff.JsonDifference;
 import cn.memoryzy.json.model.wrapper.JsonWrapper;
+import cn.memoryzy.json.service.persistent.JsonAssistantPersistentState;
+import cn.memoryzy.json.util.JsonDiffer;
+import org.apache.commons.lang3.StringUtils;
 
 import javax.swing.*;
-import javax.swing.tree.DefaultMutableTreeNode;
 import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * @author Memory
@@ -19,6 +24,23 @@ public class DualTreeComponentProvider {
     public DualTreeComponentProvider(JsonWrapper leftObj, JsonWrapper rightObj) {
         this.leftProvider = new JsonStructureComponentProvider(leftObj, null, StructureConfig.of(true, false));
         this.rightProvider = new JsonStructureComponentProvider(rightObj, null, StructureConfig.of(true, false));
+
+        // 标记两侧的差异
+        List<JsonDifference> differences = JsonDiffer.diff(leftObj, rightObj, getIdentityKeys());
+        this.leftProvider.setDifferences(differences, true);
+        this.rightProvider.setDifferences(differences, false);
+    }
+
+    private static List<String> getIdentityKeys() {
+        List<String> keys = new ArrayList<>();
+        String identityKeys = JsonAssistantPersistentState.getInstance().generalState.diffIdentityKeys;
+        for (String key : StringUtils.split(StringUtils.defaultString(identityKeys), ',')) {
+            if (StringUtils.isNotBlank(key)) {
+                keys.add(key.trim());
+            }
+        }
+
+        return keys;
     }
 
     public JComponent createComponent() {
@@ -31,15 +53,4 @@ public class DualTreeComponentProvider {
 
         return panel;
     }
-
-    // 辅助方法：递归添加子节点
-    private static void addNodes(DefaultMutableTreeNode node, String nodeName, int depth) {
-        if (depth == 0) return;
-
-        for (int i = 1; i <= 3; i++) {
-            DefaultMutableTreeNode child = new DefaultMutableTreeNode(nodeName + " " + i);
-            node.add(child);
-            addNodes(child, nodeName + "." + i, depth - 1);
-        }
-    }
 }
@@ -8,14 +8,12 @@ import cn.memoryzy.json.bundle.JsonAssistantBundle;
 import cn.memoryzy.json.constant.PluginConstant;
 import cn.memoryzy.json.enums.ColorScheme;
 import cn.memoryzy.json.enums.TextSourceType;
+import cn.memoryzy.json.model.ClipboardConversion;
 import cn.memoryzy.json.model.EditorInitData;
 import cn.memoryzy.json.model.HistoryLimitedList;
 import cn.memoryzy.json.model.StructureConfig;
-import cn.memoryzy.json.model.strategy.ClipboardTextConverter;
-import cn.memoryzy.json.model.strategy.clipboard.Json5ConversionStrategy;
-import cn.memoryzy.json.model.strategy.clipboard.context.ClipboardTextConversionContext;
-import cn.memoryzy.json.model.strategy.clipboard.context.ClipboardTextConversionStrategy;
 import cn.memoryzy.json.model.wrapper.JsonWrapper;
+import cn.memoryzy.json.service.ClipboardConversionService;
 import cn.memoryzy.json.service.persistent.JsonAssistantPersistentState;
 import cn.memoryzy.json.service.persistent.JsonHistoryPersistentState;
 import cn.memoryzy.json.service.persistent.state.EditorAppearanceState;
@@ -34,6 +32,7 @@ import com.intellij.openapi.actionSystem.ActionPlaces;
 import com.intellij.openapi.actionSystem.ActionToolbar;
 import com.intellij.openapi.actionSystem.Separator;
 import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ReadAction;
 import com.intellij.openapi.command.WriteCommandAction;
 import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.editor.*;
@@ -50,6 +49,7 @@ import com.intellij.openapi.fileTypes.FileType;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.SimpleToolWindowPanel;
 import com.intellij.openapi.util.Disposer;
+import com.intellij.openapi.util.Pair;
 import com.intellij.tools.SimpleActionGroup;
 import com.intellij.ui.ErrorStripeEditorCustomization;
 import com.intellij.ui.content.Content;
@@ -60,6 +60,7 @@ import org.jetbrains.annotations.NotNull;
 import javax.swing.*;
 import java.awt.*;
 import java.util.Objects;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -82,6 +83,16 @@ public class JsonAssistantToolWindowComponentProvider implements Disposable {
 
     private Content content;
 
+    /**
+     * 等待执行的历史记录添加任务（每个编辑器最多一个，新的任务会取消旧的）
+     */
+    private ScheduledFuture<?> pendingCapture;
+
+    /**
+     * 最近一次添加历史记录时文档的修改戳，未变化时不再解析
+     */
+    private volatile long capturedStamp = -1;
+
 
     public JsonAssistantToolWindowComponentProvider(Project project, FileType editorFileType, boolean initTab) {
         this.project = project;
@@ -265,27 +276,16 @@ public class JsonAssistantToolWindowComponentProvider implements Disposable {
             if (editorBehaviorState.recognizeOtherFormats) {
                 String clipboard = PlatformUtil.getClipboard();
                 if (StrUtil.isNotBlank(clipboard)) {
-                    // 尝试不同格式数据策略
-                    ClipboardTextConversionContext context = new ClipboardTextConversionContext();
-                    String processedText = ClipboardTextConverter.applyConversionStrategies(context, clipboard);
-
-                    if (StrUtil.isNotBlank(processedText)) {
+                    // 读取剪贴板的转换结果（已在剪贴板变化时转换并缓存）
+                    ClipboardConversion conversion = ClipboardConversionService.getInstance().get(clipboard);
+                    if (conversion.isConverted()) {
                         sourceType = TextSourceType.FROM_CLIPBOARD;
-                        ClipboardTextConversionStrategy strategy = context.getStrategy();
-                        parseType = strategy.type();
+                        parseType = conversion.getParseType();
                         originalText = StrUtil.trim(clipboard);
-
-                        JsonWrapper wrapper;
-                        if (strategy instanceof Json5ConversionStrategy) {
-                            wrapper = Json5Util.parse(processedText);
-                            jsonString = Json5Util.formatJson5(processedText);
-                        } else {
-                            wrapper = JsonUtil.parse(processedText);
-                            jsonString = JsonUtil.formatJson(processedText);
-                        }
+                        jsonString = conversion.getFormattedText();
 
                         // 无属性或在拒绝黑名单里
-                        if ((wrapper != null && wrapper.noItems()) || PreviewClipboardDataDialog.existsInBlacklist(wrapper)) {
+                        if (conversion.isExcluded()) {
                             jsonString = "";
                         }
                     }
@@ -311,29 +311,18 @@ public class JsonAssistantToolWindowComponentProvider implements Disposable {
             if (StrUtil.isBlank(text)) {
                 String clipboard = PlatformUtil.getClipboard();
                 if (StrUtil.isNotBlank(clipboard)) {
-                    // 尝试不同格式数据策略
-                    ClipboardTextConversionContext context = new ClipboardTextConversionContext();
-                    String jsonStr = ClipboardTextConverter.applyConversionStrategies(context, clipboard);
-
-                    if (StrUtil.isNotBlank(jsonStr)) {
-                        ClipboardTextConversionStrategy strategy = context.getStrategy();
-                        JsonWrapper wrapper;
-                        String formattedStr;
-                        if (strategy instanceof Json5ConversionStrategy) {
-                            wrapper = Json5Util.parse(jsonStr);
-                            formattedStr = Json5Util.formatJson5(jsonStr);
-                        } else {
-                            wrapper = JsonUtil.parse(jsonStr);
-                            formattedStr = JsonUtil.formatJson(jsonStr);
-                        }
+                    // 读取剪贴板的转换结果（已在剪贴板变化时转换并缓存）
+                    ClipboardConversion conversion = ClipboardConversionService.getInstance().get(clipboard);
+                    if (conversion.isConverted()) {
+                        String formattedStr = conversion.getFormattedText();
 
                         // 过滤
-                        if ((wrapper != null && wrapper.noItems()) || PreviewClipboardDataDialog.existsInBlacklist(wrapper)) {
+                        if (conversion.isExcluded()) {
                             return;
                         }
 
                         if (editorBehaviorState.promptBeforeImport) {
-                            new PreviewClipboardDataDialog(project, editor, strategy.type(), formattedStr, StrUtil.trim(clipboard)).show();
+                            new PreviewClipboardDataDialog(project, editor, conversion.getParseType(), formattedStr, StrUtil.trim(clipboard)).show();
                         } else {
                             WriteCommandAction.runWriteCommandAction(project, () -> PlatformUtil.setDocumentText(editor.getDocument(), formattedStr));
                             // 提示粘贴成功的消息
@@ -356,29 +345,47 @@ public class JsonAssistantToolWindowComponentProvider implements Disposable {
         });
     }
 
-    private void addJsonToHistory() {
+    private synchronized void addJsonToHistory() {
         if (historyOptionState.switchHistory && !editor.isViewer()) {
-            HistoryLimitedList historyList = historyState.getHistory();
+            // 合并：取消尚未执行的任务，只保留最新的一次
+            if (pendingCapture != null) {
+                pendingCapture.cancel(false);
+            }
 
-            EXECUTOR.schedule(() -> {
-                String text = StrUtil.trim(editor.getDocument().getText());
-                JsonWrapper jsonWrapper = null;
-                if (JsonUtil.isJson(text)) {
-                    jsonWrapper = JsonUtil.parse(text);
+            pendingCapture = EXECUTOR.schedule(this::captureHistory, 3, TimeUnit.SECONDS);
+        }
+    }
 
-                } else if (Json5Util.isJson5(text)) {
-                    jsonWrapper = Json5Util.parse(text);
-                }
+    private void captureHistory() {
+        if (editor.isDisposed()) {
+            return;
+        }
 
-                if (Objects.nonNull(jsonWrapper) && !jsonWrapper.noItems()) {
-                    historyList.add(project, jsonWrapper);
-                }
-            }, 3, TimeUnit.SECONDS);
+        // 在读操作中获取文档的不可变快照及修改戳
+        Document document = editor.getDocument();
+        Pair<CharSequence, Long> snapshot = ReadAction.compute(() -> Pair.create(document.getImmutableCharSequence(), document.getModificationStamp()));
+        long stamp = snapshot.second;
+        if (stamp == capturedStamp) {
+            return;
+        }
+
+        capturedStamp = stamp;
+        // 只解析一次（先按 Json，失败再按 Json5）
+        JsonWrapper jsonWrapper = JsonEditorComponentProvider.parse(snapshot.first.toString());
+        if (Objects.nonNull(jsonWrapper) && !jsonWrapper.noItems()) {
+            historyState.getHistory().add(jsonWrapper);
         }
     }
 
     @Override
     public void dispose() {
+        synchronized (this) {
+            if (pendingCapture != null) {
+                pendingCapture.cancel(false);
+                pendingCapture = null;
+            }
+        }
+
         EditorFactory.getInstance().releaseEditor(editor);
     }
 
@@ -2,13 +2,17 @@ package cn.memoryzy.json.ui;
 
 import cn.hutool.core.util.StrUtil;
 import cn.memoryzy.json.model.StructureConfig;
+import cn.memoryzy.json.model.wrapper.ArrayWrapper;
 import cn.memoryzy.json.model.wrapper.JsonWrapper;
+import cn.memoryzy.json.model.wrapper.ObjectWrapper;
 import cn.memoryzy.json.util.Json5Util;
 import cn.memoryzy.json.util.JsonUtil;
 import cn.memoryzy.json.util.UIManager;
 import com.intellij.openapi.project.Project;
 
 import javax.swing.*;
+import java.util.List;
+import java.util.Map;
 
 /**
  * @author Memory
@@ -18,8 +22,8 @@ public class JsonEditorComponentProvider {
 
     private final JsonStructureComponentProvider componentProvider;
 
-    public JsonEditorComponentProvider(Project project, String content) {
-        this.componentProvider = new JsonStructureComponentProvider(getJsonWrapper(content), UIManager.getWindowComponent(project), StructureConfig.of(false));
+    public JsonEditorComponentProvider(Project project, JsonWrapper wrapper) {
+        this.componentProvider = new JsonStructureComponentProvider(wrapper, UIManager.getWindowComponent(project), StructureConfig.of(false));
     }
 
     public JComponent getComponent() {
@@ -30,21 +34,32 @@ public class JsonEditorComponentProvider {
         return componentProvider.getTree();
     }
 
-    public void selectNotify(String content) {
-        componentProvider.rebuildTree(getJsonWrapper(content));
+    public void refresh(JsonWrapper wrapper) {
+        componentProvider.rebuildTree(wrapper);
     }
 
-    private JsonWrapper getJsonWrapper(String content) {
+    /**
+     * 解析文件内容（Json 或 Json5），只解析一次，可在后台线程调用
+     *
+     * @param content 文件内容
+     * @return Json 对象，无法解析时返回 null
+     */
+    public static JsonWrapper parse(String content) {
         if (StrUtil.isBlank(content)) {
             return null;
         }
 
-        if (JsonUtil.isJson(content)) {
-            return JsonUtil.parse(content);
+        Object data;
+        try {
+            data = JsonUtil.MAPPER.readValue(content, Object.class);
+        } catch (Exception e) {
+            data = Json5Util.resolveJson5(content);
         }
 
-        if (Json5Util.isJson5(content)) {
-            return Json5Util.parse(content);
+        if (data instanceof Map) {
+            return new ObjectWrapper(data);
+        } else if (data instanceof List) {
+            return new ArrayWrapper(data);
         }
 
         return null;
@@ -2,6 +2,7 @@ package cn.memoryzy.json.ui;
 
 import cn.hutool.core.util.StrUtil;
 import cn.memoryzy.json.action.query.ShowOriginalTextAction;
+import cn.memoryzy.json.action.query.ShowWatchListAction;
 import cn.memoryzy.json.action.query.SwitchAction;
 import cn.memoryzy.json.bundle.JsonAssistantBundle;
 import cn.memoryzy.json.constant.FileTypeHolder;
@@ -14,27 +15,34 @@ import cn.memoryzy.json.model.jsonpath.ResultNotFound;
 import cn.memoryzy.json.model.wrapper.JsonWrapper;
 import cn.memoryzy.json.service.persistent.JsonAssistantPersistentState;
 import cn.memoryzy.json.service.persistent.state.QueryState;
+import cn.memoryzy.json.ui.panel.QueryWatchListPanel;
 import cn.memoryzy.json.ui.panel.SearchWrapper;
 import cn.memoryzy.json.util.*;
-import com.intellij.codeInsight.actions.ReformatCodeProcessor;
+import com.intellij.notification.NotificationType;
 import com.intellij.openapi.Disposable;
 import com.intellij.openapi.actionSystem.ActionManager;
 import com.intellij.openapi.actionSystem.ActionPlaces;
 import com.intellij.openapi.actionSystem.ActionToolbar;
 import com.intellij.openapi.application.WriteAction;
+import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.editor.Editor;
 import com.intellij.openapi.editor.EditorFactory;
 import com.intellij.openapi.editor.EditorKind;
+import com.intellij.openapi.fileChooser.FileChooserFactory;
+import com.intellij.openapi.fileChooser.FileSaverDescriptor;
 import com.intellij.openapi.fileTypes.PlainTextFileType;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.SimpleToolWindowPanel;
 import com.intellij.openapi.util.Key;
-import com.intellij.psi.PsiDocumentManager;
-import com.intellij.psi.PsiFile;
+import com.intellij.openapi.vfs.VirtualFileWrapper;
 import com.intellij.tools.SimpleActionGroup;
 import com.intellij.ui.JBColor;
 import com.intellij.ui.JBSplitter;
+import com.intellij.ui.components.ActionLink;
 import com.intellij.ui.components.JBLabel;
 import com.intellij.ui.components.JBPanelWithEmptyText;
 import com.intellij.ui.components.JBScrollPane;
@@ -42,9 +50,17 @@ import com.intellij.ui.components.JBTextArea;
 import com.intellij.util.ui.JBUI;
 import com.intellij.util.ui.components.BorderLayoutPanel;
 import org.apache.commons.lang3.ArrayUtils;
+import org.jetbrains.annotations.NotNull;
 
 import javax.swing.*;
 import java.awt.*;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Objects;
 
 /**
@@ -53,7 +69,10 @@ import java.util.Objects;
  */
 public class JsonQueryComponentProvider implements Disposable {
 
+    private static final Logger LOG = Logger.getInstance(JsonQueryComponentProvider.class);
+
     public static final String SPLITTER_PROPORTION_KEY = JsonAssistantPlugin.PLUGIN_ID_NAME + ".SplitterProportionKey";
+    public static final String WATCH_SPLITTER_PROPORTION_KEY = JsonAssistantPlugin.PLUGIN_ID_NAME + ".WatchSplitterProportionKey";
     public static final Key<Boolean> EDITOR_FLAG = Key.create(JsonAssistantPlugin.PLUGIN_ID_NAME + ".EditorFlag");
 
     private final Project project;
@@ -61,14 +80,37 @@ public class JsonQueryComponentProvider implements Disposable {
     private final JBPanelWithEmptyText resultWrapper;
     private final JBLabel resultLabel;
     private final Editor resultEditor;
+    private final BorderLayoutPanel resultPagingPanel;
+    private final JBLabel resultPagingLabel;
     private final JBTextArea errorOutputArea;
     private final JBScrollPane errorOutputContainer;
     private final JBLabel docLabel;
     private final Editor docEditor;
     private final BorderLayoutPanel docPanel;
+    private final QueryWatchListPanel watchListPanel;
 
     private final QueryState queryState;
 
+    /**
+     * 完整的计算结果（结果过大时编辑器内只展示其中一部分）
+     */
+    private String fullResult;
+
+    /**
+     * 已展示到编辑器内的结果长度（字符数）
+     */
+    private int displayedLength;
+
+    /**
+     * 完整结果按 UTF-8 编码的字节数
+     */
+    private long fullResultBytes;
+
+    /**
+     * 已展示结果按 UTF-8 编码的字节数
+     */
+    private long displayedBytes;
+
 
     public JsonQueryComponentProvider(Project project) {
         this.project = project;
@@ -77,6 +119,8 @@ public class JsonQueryComponentProvider implements Disposable {
         this.resultWrapper = new JBPanelWithEmptyText(new BorderLayout());
         this.resultLabel = new JBLabel(JsonAssistantBundle.messageOnSystem("json.query.evaluate.result"));
         this.resultEditor = createJsonEditor("result.json5", true, EditorKind.PREVIEW);
+        this.resultPagingLabel = new JBLabel();
+        this.resultPagingPanel = new BorderLayoutPanel();
 
         this.errorOutputArea = new JBTextArea();
         this.errorOutputContainer = new JBScrollPane(errorOutputArea);
@@ -89,6 +133,9 @@ public class JsonQueryComponentProvider implements Disposable {
         this.queryState = persistentState.queryState;
 
         this.docPanel.setVisible(queryState.showOriginalText);
+
+        this.watchListPanel = new QueryWatchListPanel(project, docEditor.getDocument(), queryState, this::setResult);
+        this.watchListPanel.setVisible(queryState.showWatchList);
     }
 
     public JComponent createComponent() {
@@ -98,7 +145,14 @@ public class JsonQueryComponentProvider implements Disposable {
 
         SimpleToolWindowPanel simpleToolWindowPanel = new SimpleToolWindowPanel(true, false);
         simpleToolWindowPanel.setToolbar(createToolbar());
-        simpleToolWindowPanel.setContent(panel);
+
+        // 监视列表位于查询卡片右侧
+        JBSplitter watchSplitter = new JBSplitter(false, 0.65f);
+        watchSplitter.setSplitterProportionKey(WATCH_SPLITTER_PROPORTION_KEY);
+        watchSplitter.setFirstComponent(panel);
+        watchSplitter.setSecondComponent(watchListPanel);
+
+        simpleToolWindowPanel.setContent(watchSplitter);
         return simpleToolWindowPanel;
     }
 
@@ -106,6 +160,7 @@ public class JsonQueryComponentProvider implements Disposable {
         SimpleActionGroup actionGroup = new SimpleActionGroup();
         actionGroup.add(new SwitchAction(queryState, this));
         actionGroup.add(new ShowOriginalTextAction(queryState, this));
+        actionGroup.add(new ShowWatchListAction(queryState, this));
 
         ActionToolbar toolbar = ActionManager.getInstance().createActionToolbar(ActionPlaces.TOOLBAR, actionGroup, false);
         return toolbar.getComponent();
@@ -124,6 +179,7 @@ public class JsonQueryComponentProvider implements Disposable {
         resultWrapper.getEmptyText().setText(JsonAssistantBundle.messageOnSystem("json.query.evaluate.no.result"));
         resultLabel.setBorder(JBUI.Borders.empty(3, 6));
         resultEditor.setBorder(JBUI.Borders.customLine(JBColor.border(), 1, 0, 0, 0));
+        initResultPagingPanel();
 
         errorOutputArea.setEditable(false);
         errorOutputArea.setWrapStyleWord(true);
@@ -140,6 +196,28 @@ public class JsonQueryComponentProvider implements Disposable {
         return splitter;
     }
 
+    private void initResultPagingPanel() {
+        ActionLink loadMoreLink = new ActionLink();
+        loadMoreLink.setText(JsonAssistantBundle.messageOnSystem("json.query.result.load.more"));
+        loadMoreLink.addActionListener(e -> loadMoreResult());
+
+        ActionLink saveLink = new ActionLink();
+        saveLink.setText(JsonAssistantBundle.messageOnSystem("json.query.result.save.full"));
+        saveLink.addActionListener(e -> saveFullResult());
+
+        JPanel linkPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, JBUI.scale(10), 0));
+        linkPanel.setOpaque(false);
+        linkPanel.add(loadMoreLink);
+        linkPanel.add(saveLink);
+
+        resultPagingLabel.setForeground(JBColor.GRAY);
+        resultPagingPanel.addToLeft(resultPagingLabel).addToRight(linkPanel);
+        resultPagingPanel.setBorder(BorderFactory.createCompoundBorder(
+                JBUI.Borders.customLine(JBColor.border(), 1, 0, 0, 0),
+                JBUI.Borders.empty(3, 6)));
+        resultPagingPanel.setVisible(false);
+    }
+
 
     private boolean evaluate(String path) {
         String docText = docEditor.getDocument().getText();
@@ -170,15 +248,18 @@ public class JsonQueryComponentProvider implements Disposable {
     }
 
     private void setResult(String result) {
-        WriteAction.run(() -> {
-            Document document = resultEditor.getDocument();
-            document.setText(result);
-            PsiDocumentManager.getInstance(project).commitDocument(document);
-            PsiFile psiFile = PsiDocumentManager.getInstance(project).getPsiFile(document);
+        if (result.indexOf('\r') >= 0) {
+            result = JsonAssistantUtil.normalizeLineEndings(result);
+        }
 
-            assert psiFile != null;
-            new ReformatCodeProcessor(psiFile, false).run();
-        });
+        // 结果已由序列化器格式化，不再提交 PSI 并重新格式化；结果过大时只展示第一页
+        this.fullResult = result;
+        this.displayedLength = 0;
+        this.fullResultBytes = JsonAssistantUtil.utf8Length(result);
+        this.displayedBytes = 0;
+        String firstPage = nextResultPage();
+        WriteAction.run(() -> resultEditor.getDocument().setText(firstPage));
+        updateResultPagingPanel();
 
         // 切换展示视图
         if (!ArrayUtils.contains(resultWrapper.getComponents(), resultEditor.getComponent())) {
@@ -186,6 +267,7 @@ public class JsonQueryComponentProvider implements Disposable {
             resultWrapper.add(resultLabel, BorderLayout.NORTH);
 
             resultWrapper.add(resultEditor.getComponent(), BorderLayout.CENTER);
+            resultWrapper.add(resultPagingPanel, BorderLayout.SOUTH);
             resultWrapper.revalidate();
             resultWrapper.repaint();
         }
@@ -193,7 +275,127 @@ public class JsonQueryComponentProvider implements Disposable {
         resultEditor.getCaretModel().moveToOffset(0);
     }
 
+    /**
+     * 截取下一页结果（按 UTF-8 字节数计算页大小），尽量在换行处截断以保持每行完整
+     *
+     * @return 下一页结果文本
+     */
+    private String nextResultPage() {
+        long pageSize = Math.max(1, queryState.resultPageSizeKb) * 1024L;
+        int length = fullResult.length();
+        int start = displayedLength;
+        int end = start;
+        long bytes = 0;
+        while (end < length && bytes < pageSize) {
+            char ch = fullResult.charAt(end);
+            if (Character.isHighSurrogate(ch) && end + 1 < length && Character.isLowSurrogate(fullResult.charAt(end + 1))) {
+                bytes += 4;
+                end += 2;
+            } else {
+                bytes += ch < 0x80 ? 1 : (ch < 0x800 ? 2 : 3);
+                end++;
+            }
+        }
+
+        if (end < length) {
+            int lineEnd = fullResult.lastIndexOf('\n', end);
+            if (lineEnd > start) {
+                end = lineEnd + 1;
+            }
+        }
+
+        displayedLength = end;
+        displayedBytes += JsonAssistantUtil.utf8Length(fullResult, start, end);
+        return fullResult.substring(start, end);
+    }
+
+    private boolean hasMoreResult() {
+        return fullResult != null && displayedLength < fullResult.length();
+    }
+
+    private void loadMoreResult() {
+        if (!hasMoreResult()) {
+            return;
+        }
+
+        String page = nextResultPage();
+        WriteAction.run(() -> {
+            Document document = resultEditor.getDocument();
+            document.insertString(document.getTextLength(), page);
+        });
+
+        updateResultPagingPanel();
+    }
+
+    private void updateResultPagingPanel() {
+        boolean hasMore = hasMoreResult();
+        if (hasMore) {
+            resultPagingLabel.setText(JsonAssistantBundle.messageOnSystem(
+                    "json.query.result.truncated", displayedBytes / 1024, fullResultBytes / 1024));
+        }
+
+        resultPagingPanel.setVisible(hasMore);
+    }
+
+    /**
+     * 将完整结果分块写入磁盘（后台执行，可取消）
+     * <p>先写入同目录下的临时文件，完成后再移动到目标位置；取消或失败时删除临时文件，不留下不完整的文件</p>
+     */
+    private void saveFullResult() {
+        String result = fullResult;
+        if (result == null) {
+            return;
+        }
+
+        FileSaverDescriptor saverDescriptor = new FileSaverDescriptor(JsonAssistantBundle.messageOnSystem("dialog.save.json.title"), "", "json");
+        VirtualFileWrapper virtualFileWrapper = FileChooserFactory.getInstance().createSaveFileDialog(saverDescriptor, project).save("result.json");
+        if (Objects.isNull(virtualFileWrapper)) {
+            return;
+        }
+
+        File file = virtualFileWrapper.getFile();
+        ProgressManager.getInstance().run(new Task.Backgroundable(project, JsonAssistantBundle.messageOnSystem("json.query.result.saving"), true) {
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                indicator.setIndeterminate(false);
+                int chunkSize = 64 * 1024;
+                Path target = file.toPath();
+                Path temp = null;
+                try {
+                    temp = Files.createTempFile(target.toAbsolutePath().getParent(), target.getFileName().toString(), ".tmp");
+                    try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                        for (int offset = 0; offset < result.length(); offset += chunkSize) {
+                            indicator.checkCanceled();
+                            writer.write(result, offset, Math.min(chunkSize, result.length() - offset));
+                            indicator.setFraction((double) offset / result.length());
+                        }
+                    }
+
+                    Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    temp = null;
+                } catch (IOException e) {
+                    LOG.warn("Failed to save query result", e);
+                    Notifications.showNotification(
+                            JsonAssistantBundle.messageOnSystem("json.query.result.save.failed", e.getMessage()),
+                            NotificationType.ERROR, project);
+                } finally {
+                    if (temp != null) {
+                        try {
+                            Files.deleteIfExists(temp);
+                        } catch (IOException e) {
+                            LOG.warn("Failed to delete temporary file " + temp, e);
+                        }
+                    }
+                }
+            }
+        });
+    }
+
     private void setError(String error) {
+        this.fullResult = null;
+        this.displayedLength = 0;
+        this.fullResultBytes = 0;
+        this.displayedBytes = 0;
         errorOutputArea.setText(error);
 
         // 切换展示视图
@@ -250,13 +452,18 @@ public class JsonQueryComponentProvider implements Disposable {
                     jsonWrapper = Json5Util.parse(oriText);
                 }
 
-                if (!Objects.equals(jsonWrapper, jsonWrapperNew)) {
+                if (!JsonFingerprint.same(jsonWrapper, jsonWrapperNew)) {
                     clearSearchAndResultText();
                 }
             }
 
             docEditor.getDocument().setText(text);
         });
+
+        // 新文档到达时批量计算监视表达式
+        if (watchListPanel.isVisible()) {
+            watchListPanel.evaluateAll();
+        }
     }
 
     public void toggleJsonDocumentVisibility(boolean visible) {
@@ -274,10 +481,24 @@ public class JsonQueryComponentProvider implements Disposable {
         }
     }
 
+    public void toggleWatchListVisibility(boolean visible) {
+        if (watchListPanel.isVisible() != visible) {
+            watchListPanel.setVisible(visible);
+        }
+
+        if (visible) {
+            watchListPanel.evaluateAll();
+        }
+    }
+
     public void clearSearchAndResultText() {
         WriteAction.run(() -> {
             searchWrapper.clearSearchText();
             resultEditor.getDocument().setText("");
+            fullResult = null;
+            displayedLength = 0;
+            fullResultBytes = 0;
+            displayedBytes = 0;
 
             resultWrapper.removeAll();
             resultWrapper.revalidate();
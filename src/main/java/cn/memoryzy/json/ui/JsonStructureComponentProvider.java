@@ -1,15 +1,19 @@
 package cn.memoryzy.json.ui;
 
-import cn.hutool.core.util.StrUtil;
 import cn.memoryzy.json.action.structure.*;
 import cn.memoryzy.json.bundle.JsonAssistantBundle;
+import cn.memoryzy.json.enums.JsonDiffType;
 import cn.memoryzy.json.enums.JsonTreeNodeType;
 import cn.memoryzy.json.model.StructureConfig;
+import cn.memoryzy.json.model.diff.JsonDifference;
 import cn.memoryzy.json.model.wrapper.ArrayWrapper;
 import cn.memoryzy.json.model.wrapper.JsonWrapper;
 import cn.memoryzy.json.model.wrapper.ObjectWrapper;
 import cn.memoryzy.json.ui.listener.TreeRightClickPopupMenuMouseAdapter;
+import cn.memoryzy.json.ui.node.JsonArrayRangeNode;
 import cn.memoryzy.json.ui.node.JsonTreeNode;
+import cn.memoryzy.json.ui.node.JsonTreePatcher;
+import cn.memoryzy.json.ui.panel.JsonTreeSearchPanel;
 import cn.memoryzy.json.util.UIManager;
 import com.intellij.openapi.actionSystem.ActionManager;
 import com.intellij.openapi.actionSystem.ActionPlaces;
@@ -21,6 +25,7 @@ import com.intellij.util.ui.JBUI;
 import icons.JsonAssistantIcons;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
 
 import javax.swing.*;
 import javax.swing.tree.DefaultTreeModel;
@@ -29,8 +34,8 @@ import javax.swing.tree.TreePath;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
-import java.util.Map;
-import java.util.Objects;
+import java.util.*;
+import java.util.List;
 
 /**
  * @author Memory
@@ -38,9 +43,55 @@ import java.util.Objects;
  */
 public class JsonStructureComponentProvider {
 
+    /**
+     * 节点值展示的最大长度
+     */
+    private static final int MAX_VALUE_LENGTH = 200;
+
+    private static final SimpleTextAttributes LIGHT_ATTRIBUTES = SimpleTextAttributes.merge(SimpleTextAttributes.REGULAR_ATTRIBUTES, SimpleTextAttributes.GRAYED_ATTRIBUTES);
+    private static final SimpleTextAttributes BLUE_ATTRIBUTES = new SimpleTextAttributes(SimpleTextAttributes.STYLE_PLAIN, new JBColor(new Color(63, 120, 230), new Color(137, 174, 246)));
+    private static final SimpleTextAttributes PURPLE_ATTRIBUTES = new SimpleTextAttributes(SimpleTextAttributes.STYLE_PLAIN, new JBColor(new Color(248, 108, 101), new Color(244, 184, 181)));
+    private static final SimpleTextAttributes STRING_ATTRIBUTES = new SimpleTextAttributes(SimpleTextAttributes.STYLE_PLAIN, new JBColor(new Color(6, 125, 23), new Color(104, 169, 114)));
+    private static final SimpleTextAttributes BOOLEAN_WITH_NULL_ATTRIBUTES = new SimpleTextAttributes(SimpleTextAttributes.STYLE_PLAIN, new JBColor(new Color(0, 51, 179), new Color(206, 141, 108)));
+    private static final SimpleTextAttributes NUMBER_ATTRIBUTES = new SimpleTextAttributes(SimpleTextAttributes.STYLE_PLAIN, new JBColor(new Color(25, 80, 234), new Color(41, 171, 183)));
+
+    private static final SimpleTextAttributes DIFF_ADDED_ATTRIBUTES = new SimpleTextAttributes(SimpleTextAttributes.STYLE_BOLD, new JBColor(new Color(50, 140, 60), new Color(98, 181, 67)));
+    private static final SimpleTextAttributes DIFF_REMOVED_ATTRIBUTES = new SimpleTextAttributes(SimpleTextAttributes.STYLE_BOLD, new JBColor(new Color(200, 50, 50), new Color(230, 100, 100)));
+    private static final SimpleTextAttributes DIFF_CHANGED_ATTRIBUTES = new SimpleTextAttributes(SimpleTextAttributes.STYLE_BOLD, new JBColor(new Color(40, 100, 200), new Color(104, 151, 187)));
+    private static final SimpleTextAttributes DIFF_MOVED_ATTRIBUTES = new SimpleTextAttributes(SimpleTextAttributes.STYLE_ITALIC, new JBColor(new Color(150, 110, 30), new Color(190, 160, 90)));
+
+    private static final String OBJ_SINGULAR_TEXT = JsonAssistantBundle.messageOnSystem("dialog.structure.size.obj.singular.text");
+    private static final String OBJ_PLURAL_TEXT = JsonAssistantBundle.messageOnSystem("dialog.structure.size.obj.plural.text");
+    private static final String ARRAY_SINGULAR_TEXT = JsonAssistantBundle.messageOnSystem("dialog.structure.size.array.singular.text");
+    private static final String ARRAY_PLURAL_TEXT = JsonAssistantBundle.messageOnSystem("dialog.structure.size.array.plural.text");
+
+    private static final String DIFF_ADDED_TEXT = "  " + JsonAssistantBundle.messageOnSystem("dialog.structure.diff.added");
+    private static final String DIFF_REMOVED_TEXT = "  " + JsonAssistantBundle.messageOnSystem("dialog.structure.diff.removed");
+    private static final String DIFF_CHANGED_TEXT = "  " + JsonAssistantBundle.messageOnSystem("dialog.structure.diff.changed");
+    private static final String DIFF_MOVED_TEXT = "  " + JsonAssistantBundle.messageOnSystem("dialog.structure.diff.moved");
+
     private Tree tree;
     private JPanel treeComponent;
-    private Object hoverNode;
+    private JsonTreeSearchPanel searchPanel;
+    private JsonTreeNode hoverNode;
+    private TreePath hoverTreePath;
+    private String hoverPath;
+    private boolean hoverPathResolved;
+
+    /**
+     * 单元格渲染次数，用于衡量重绘开销
+     */
+    private long renderedCellCount;
+
+    /**
+     * 差异标记：所在容器（按引用）-> key / 下标 -> 差异类型
+     */
+    private final Map<Object, Map<Object, JsonDiffType>> diffMarks = new IdentityHashMap<>();
+
+    /**
+     * 包含差异的容器（按引用），用于标记差异节点的祖先
+     */
+    private final Set<Object> diffContainers = Collections.newSetFromMap(new IdentityHashMap<>());
 
     /**
      * 构造器
@@ -61,11 +112,8 @@ public class JsonStructureComponentProvider {
      * @param config    配置
      */
     private void init(JsonWrapper wrapper, @Nullable JComponent component, StructureConfig config) {
-        JsonTreeNode rootNode = new JsonTreeNode("root");
-        // 允许在后面再进行树的构建
-        if (wrapper != null) {
-            convertToTreeNode(wrapper, rootNode);
-        }
+        // 允许在后面再进行树的构建（子节点在展开时才生成）
+        JsonTreeNode rootNode = JsonTreeNode.createRoot(wrapper);
 
         // 构建树
         tree = new Tree(new DefaultTreeModel(rootNode));
@@ -74,14 +122,20 @@ public class JsonStructureComponentProvider {
         tree.setFont(UIManager.jetBrainsMonoFont(12));
         tree.setCellRenderer(new StyleTreeCellRenderer());
         tree.addMouseListener(new TreeRightClickPopupMenuMouseAdapter(tree, buildRightMousePopupMenu()));
-        tree.addMouseMotionListener(new MouseAdapter() {
+        MouseAdapter hoverListener = new MouseAdapter() {
             @Override
             public void mouseMoved(MouseEvent e) {
-                TreePath path = tree.getPathForLocation(e.getX(), e.getY());
-                hoverNode = (path != null) ? path.getLastPathComponent() : null;
-                tree.repaint();
+                updateHover(tree.getPathForLocation(e.getX(), e.getY()));
+            }
+
+            @Override
+            public void mouseExited(MouseEvent e) {
+                updateHover(null);
             }
-        });
+        };
+
+        tree.addMouseMotionListener(hoverListener);
+        tree.addMouseListener(hoverListener);
 
         // 触发快速检索
         new TreeSpeedSearch(tree);
@@ -100,97 +154,164 @@ public class JsonStructureComponentProvider {
                     .setScrollPaneBorder(JBUI.Borders.empty(0, 1));
         }
 
+        // 检索整个 Json（包括未展开的节点）
+        this.searchPanel = new JsonTreeSearchPanel(tree);
+        this.searchPanel.reset(wrapper, rootNode);
+
         this.treeComponent = new JPanel(new BorderLayout());
+        this.treeComponent.add(searchPanel, BorderLayout.NORTH);
         this.treeComponent.add(decorator.createPanel(), BorderLayout.CENTER);
     }
 
+    /**
+     * 使用新的 Json 刷新树：优先增量更新已有节点（保留展开、选中与滚动状态），根节点类型变化或处于过滤模式时才重新生成根节点
+     *
+     * @param wrapper 新的 Json
+     */
     public void rebuildTree(JsonWrapper wrapper) {
-        JsonTreeNode rootNode = new JsonTreeNode("root");
-        if (wrapper != null) {
-            convertToTreeNode(wrapper, rootNode);
+        hoverNode = null;
+        hoverTreePath = null;
+        hoverPath = null;
+        hoverPathResolved = false;
+        // 差异标记针对旧的 Json，刷新后失效
+        diffMarks.clear();
+        diffContainers.clear();
+        DefaultTreeModel model = (DefaultTreeModel) tree.getModel();
+        if (!searchPanel.isFiltered() && JsonTreePatcher.patch(model, wrapper)) {
+            searchPanel.reset(wrapper, (JsonTreeNode) model.getRoot());
+            return;
         }
 
-        DefaultTreeModel model = (DefaultTreeModel) tree.getModel();
+        JsonTreeNode rootNode = JsonTreeNode.createRoot(wrapper);
         model.setRoot(rootNode);
+        searchPanel.reset(wrapper, rootNode);
     }
 
-    private void convertToTreeNode(JsonWrapper jsonWrapper, JsonTreeNode node) {
-        if (jsonWrapper instanceof ObjectWrapper) {
-            ObjectWrapper jsonObject = (ObjectWrapper) jsonWrapper;
-            // 为了确定图标
-            if (Objects.isNull(node.getNodeType())) {
-                node.setNodeType(JsonTreeNodeType.JSONObject);
-            }
+    /**
+     * 更新悬停节点，只重绘前后两个悬停行
+     *
+     * @param path 当前悬停的路径，鼠标移出时为 null
+     */
+    private void updateHover(@Nullable TreePath path) {
+        JsonTreeNode node = (path != null) ? (JsonTreeNode) path.getLastPathComponent() : null;
+        if (node == hoverNode) {
+            return;
+        }
 
-            if (Objects.isNull(node.getValue())) {
-                node.setValue(jsonObject);
-            }
+        TreePath previousPath = hoverTreePath;
+        hoverNode = node;
+        hoverTreePath = path;
+        // 路径文本在渲染时才计算
+        hoverPath = null;
+        hoverPathResolved = false;
 
-            node.setSize(jsonObject.size());
+        repaintRow(previousPath);
+        repaintRow(path);
+    }
 
-            for (Map.Entry<String, Object> entry : jsonObject.entrySet()) {
-                String key = entry.getKey();
-                Object value = entry.getValue();
-                JsonTreeNode childNode = new JsonTreeNode(key);
+    private void repaintRow(@Nullable TreePath path) {
+        if (path == null) {
+            return;
+        }
 
-                if (value instanceof ObjectWrapper) {
-                    ObjectWrapper nestedJsonObject = (ObjectWrapper) value;
-                    childNode.setValue(value).setNodeType(JsonTreeNodeType.JSONObject).setSize(nestedJsonObject.size());
-                    convertToTreeNode(nestedJsonObject, childNode);
+        Rectangle bounds = tree.getPathBounds(path);
+        if (bounds != null) {
+            // 悬停路径追加在行尾，重绘整行宽度
+            tree.repaint(0, bounds.y, tree.getWidth(), bounds.height);
+        }
+    }
 
-                } else if (value instanceof ArrayWrapper) {
-                    ArrayWrapper jsonArray = (ArrayWrapper) value;
-                    childNode.setValue(value).setNodeType(JsonTreeNodeType.JSONArray).setSize(jsonArray.size());
-                    handleJsonArray(childNode, jsonArray);
+    /**
+     * 获取悬停节点的路径文本（首次使用时计算并缓存）
+     */
+    private String getHoverPath() {
+        if (!hoverPathResolved) {
+            hoverPath = hoverNode != null ? buildHoverPath(hoverNode) : null;
+            hoverPathResolved = true;
+        }
 
-                } else {
-                    // 若不是对象或数组，则不添加子集，直接同层级
-                    childNode.setValue(value)
-                            .setNodeType(JsonTreeNodeType.JSONObjectProperty)
-                            .setUserObject(key);
-                }
+        return hoverPath;
+    }
 
-                node.add(childNode);
+    /**
+     * 获取单元格渲染次数
+     *
+     * @return 自创建以来的单元格渲染次数
+     */
+    @VisibleForTesting
+    public long getRenderedCellCount() {
+        return renderedCellCount;
+    }
+
+    /**
+     * 设置差异标记，差异节点及其祖先节点在渲染时追加差异类型
+     *
+     * @param differences 差异列表
+     * @param left        当前树是否为左侧（左侧使用差异的左侧路径，不标记 ADDED；右侧反之）
+     */
+    public void setDifferences(List<JsonDifference> differences, boolean left) {
+        diffMarks.clear();
+        diffContainers.clear();
+        Object root = ((JsonTreeNode) tree.getModel().getRoot()).getValue();
+        for (JsonDifference difference : differences) {
+            List<Object> path = left ? difference.getLeftPath() : difference.getRightPath();
+            // 该侧不存在的节点，或根节点本身
+            if (path == null || path.isEmpty()) {
+                continue;
             }
-        } else if (jsonWrapper instanceof ArrayWrapper) {
-            ArrayWrapper jsonArray = (ArrayWrapper) jsonWrapper;
-            // 为了确定图标
-            node.setNodeType(JsonTreeNodeType.JSONArray).setSize(jsonArray.size());
-            if (Objects.isNull(node.getValue())) {
-                node.setValue(jsonArray);
+
+            Object container = root;
+            for (int i = 0; i < path.size() - 1 && container != null; i++) {
+                diffContainers.add(container);
+                container = getChildValue(container, path.get(i));
             }
 
-            handleJsonArray(node, jsonArray);
+            if (container != null) {
+                diffContainers.add(container);
+                diffMarks.computeIfAbsent(container, k -> new HashMap<>()).put(path.get(path.size() - 1), difference.getType());
+            }
         }
+
+        tree.repaint();
     }
 
-    private void handleJsonArray(JsonTreeNode childNode, ArrayWrapper jsonArray) {
-        for (int i = 0; i < jsonArray.size(); i++) {
-            Object el = jsonArray.get(i);
-            if (el instanceof ObjectWrapper) {
-                ObjectWrapper jsonObjectElement = (ObjectWrapper) el;
-                JsonTreeNode childNodeElement = new JsonTreeNode(
-                        "item" + i, el, JsonTreeNodeType.JSONObjectElement, jsonObjectElement.size());
-
-                convertToTreeNode(jsonObjectElement, childNodeElement);
-                childNode.add(childNodeElement);
-            } else if (el instanceof ArrayWrapper) {
-                ArrayWrapper jsonArrayElement = (ArrayWrapper) el;
-                JsonTreeNode childNodeElement = new JsonTreeNode(
-                        "item" + i, el, JsonTreeNodeType.JSONArrayElement, jsonArrayElement.size());
-
-                convertToTreeNode(jsonArrayElement, childNodeElement);
-                childNode.add(childNodeElement);
-            } else {
-                Object obj = el;
-                if (el instanceof String) {
-                    String str = (String) el;
-                    obj = "\"" + str + "\"";
-                }
+    private static Object getChildValue(Object container, Object segment) {
+        if (container instanceof ObjectWrapper) {
+            return ((ObjectWrapper) container).get(String.valueOf(segment));
+        } else if (container instanceof ArrayWrapper && segment instanceof Integer) {
+            ArrayWrapper array = (ArrayWrapper) container;
+            int index = (Integer) segment;
+            return index < array.size() ? array.get(index) : null;
+        }
+
+        return null;
+    }
+
+    /**
+     * 获取节点的差异类型；自身无差异但包含差异的容器视为 CHANGED
+     */
+    private JsonDiffType getDiffType(JsonTreeNode node) {
+        if (diffContainers.isEmpty() || node instanceof JsonArrayRangeNode) {
+            return null;
+        }
 
-                childNode.add(new JsonTreeNode(obj).setValue(el).setNodeType(JsonTreeNodeType.JSONArrayElement));
+        JsonTreeNode parent = (JsonTreeNode) node.getParent();
+        if (parent != null) {
+            Map<Object, JsonDiffType> marks = diffMarks.get(parent.getValue());
+            if (marks != null) {
+                JsonTreeNodeType nodeType = node.getNodeType();
+                Object segment = (nodeType == JsonTreeNodeType.JSONObjectElement || nodeType == JsonTreeNodeType.JSONArrayElement)
+                        ? (Object) node.getArrayIndex()
+                        : String.valueOf(node.getUserObject());
+
+                JsonDiffType type = marks.get(segment);
+                if (type != null) {
+                    return type;
+                }
             }
         }
+
+        return diffContainers.contains(node.getValue()) ? JsonDiffType.CHANGED : null;
     }
 
     private JPopupMenu buildRightMousePopupMenu() {
@@ -205,6 +326,7 @@ public class JsonStructureComponentProvider {
         group.add(new CopyNodePathAction(tree));
         group.addSeparator();
         group.add(new ExpandMultiAction(tree));
+        group.add(new ExpandLevelsAction(tree));
         group.addSeparator();
         group.add(new CollapseMultiAction(tree));
         group.addSeparator();
@@ -224,204 +346,188 @@ public class JsonStructureComponentProvider {
     private class StyleTreeCellRenderer extends ColoredTreeCellRenderer {
         @Override
         public void customizeCellRenderer(@NotNull JTree tree, Object value, boolean selected, boolean expanded, boolean leaf, int row, boolean hasFocus) {
+            renderedCellCount++;
             JsonTreeNode jsonTreeNode = (JsonTreeNode) value;
             JsonTreeNodeType nodeType = jsonTreeNode.getNodeType();
-
-            String text = String.valueOf(jsonTreeNode.getUserObject());
-            SimpleTextAttributes simpleTextAttributes = SimpleTextAttributes.REGULAR_ATTRIBUTES;
-
-            SimpleTextAttributes lightAttributes = SimpleTextAttributes.merge(simpleTextAttributes, SimpleTextAttributes.GRAYED_ATTRIBUTES);
-            SimpleTextAttributes blueAttributes = new SimpleTextAttributes(SimpleTextAttributes.STYLE_PLAIN, new JBColor(new Color(63, 120, 230), new Color(137, 174, 246)));
-            SimpleTextAttributes purpleAttributes = new SimpleTextAttributes(SimpleTextAttributes.STYLE_PLAIN, new JBColor(new Color(248, 108, 101), new Color(244, 184, 181)));
-
-            SimpleTextAttributes stringColorAttributes = new SimpleTextAttributes(SimpleTextAttributes.STYLE_PLAIN, new JBColor(new Color(6, 125, 23), new Color(104, 169, 114)));
-            SimpleTextAttributes booleanWithNullColorAttributes = new SimpleTextAttributes(SimpleTextAttributes.STYLE_PLAIN, new JBColor(new Color(0, 51, 179), new Color(206, 141, 108)));
-            SimpleTextAttributes numberColorAttributes = new SimpleTextAttributes(SimpleTextAttributes.STYLE_PLAIN, new JBColor(new Color(25, 80, 234), new Color(41, 171, 183)));
-
             Icon icon = JsonAssistantIcons.Structure.JSON_KEY;
 
-            Integer size = jsonTreeNode.getSize();
-            Object nodeValue = jsonTreeNode.getValue();
-
-            String squareBracketsStart = "";
-            String nodeTypeStr = "";
-            String squareBracketsEnd = "";
-
-            String sizeStrPre = "";
-            String sizeStr = "";
-            String sizeStrPost = "";
-
-            // json的value
-            String jsonValue = "";
-            String jsonValueType = "";
+            if (!Objects.equals(JsonTreeNodeType.JSONArrayElement, nodeType)) {
+                append(String.valueOf(jsonTreeNode.getUserObject()), SimpleTextAttributes.REGULAR_ATTRIBUTES);
+                if (Objects.equals(JsonTreeNodeType.JSONObjectProperty, nodeType)) {
+                    append(": ", SimpleTextAttributes.REGULAR_ATTRIBUTES);
+                }
+            }
 
             if (Objects.nonNull(nodeType)) {
                 switch (nodeType) {
                     case JSONObject: {
-                        squareBracketsStart = " [";
-                        nodeTypeStr = "object";
-                        squareBracketsEnd = "]";
-                        sizeStrPre = " (";
-                        sizeStr = size + " " + JsonAssistantBundle.messageOnSystem(size == 1 ? "dialog.structure.size.obj.singular.text" : "dialog.structure.size.obj.plural.text");
-                        sizeStrPost = ")";
-
+                        appendTypeAndSize(jsonTreeNode, "object", true);
                         icon = JsonAssistantIcons.Structure.JSON_OBJECT;
                         break;
                     }
 
                     case JSONArray: {
-                        squareBracketsStart = " [";
-                        nodeTypeStr = "array";
-                        squareBracketsEnd = "]";
-                        sizeStrPre = " (";
-                        sizeStr = size + " " + JsonAssistantBundle.messageOnSystem(size == 1 ? "dialog.structure.size.array.singular.text" : "dialog.structure.size.array.plural.text");
-                        sizeStrPost = ")";
-
+                        appendTypeAndSize(jsonTreeNode, "array", false);
                         icon = JsonAssistantIcons.Structure.JSON_ARRAY;
                         break;
                     }
 
                     case JSONObjectElement: {
-                        squareBracketsStart = " [";
-                        nodeTypeStr = "array_object";
-                        squareBracketsEnd = "]";
-                        sizeStrPre = " (";
-                        sizeStr = size + " " + JsonAssistantBundle.messageOnSystem(size == 1 ? "dialog.structure.size.obj.singular.text" : "dialog.structure.size.obj.plural.text");
-                        sizeStrPost = ")";
-
+                        appendTypeAndSize(jsonTreeNode, "array_object", true);
                         icon = JsonAssistantIcons.Structure.JSON_OBJECT_ITEM;
                         break;
                     }
 
                     case JSONArrayElement: {
+                        appendValue(jsonTreeNode, true);
                         icon = JsonAssistantIcons.Structure.JSON_ITEM;
-                        String valueStr;
-                        if (Objects.isNull(nodeValue)) {
-                            valueStr = "null";
-                            jsonValueType = "null";
-                        } else {
-                            if (nodeValue instanceof String) {
-                                String str = (String) nodeValue;
-
-                                if (str.isEmpty()) {
-                                    valueStr = "\"\"";
-                                } else {
-                                    valueStr = "\"" + str + "\"";
-                                }
-                                jsonValueType = String.class.getName();
-
-                            } else if (nodeValue instanceof Boolean) {
-                                jsonValueType = Boolean.class.getName();
-                                valueStr = nodeValue + "";
-
-                            } else if (nodeValue instanceof Number) {
-                                jsonValueType = Number.class.getName();
-                                valueStr = nodeValue + "";
-                            } else {
-                                valueStr = nodeValue + "";
-                            }
-                        }
-
-                        jsonValue = valueStr;
                         break;
                     }
 
                     case JSONObjectProperty: {
-                        String valueStr;
-                        if (Objects.isNull(nodeValue)) {
-                            valueStr = "null";
-                            jsonValueType = "null";
-                        } else {
-                            if (nodeValue instanceof String) {
-                                String str = (String) nodeValue;
-
-                                if (str.isEmpty()) {
-                                    valueStr = "\"\"";
-                                } else {
-                                    valueStr = "\"" + str + "\"";
-                                }
-                                jsonValueType = String.class.getName();
-
-                            } else if (nodeValue instanceof Boolean) {
-                                jsonValueType = Boolean.class.getName();
-                                valueStr = nodeValue + "";
-
-                            } else if (nodeValue instanceof Number) {
-                                jsonValueType = Number.class.getName();
-                                valueStr = nodeValue + "";
-                            } else {
-                                valueStr = nodeValue + "";
-                            }
-                        }
-
-                        jsonValue = valueStr;
+                        appendValue(jsonTreeNode, false);
+                        break;
+                    }
+
+                    case JSONArrayRange: {
+                        // 分组节点只显示下标区间
+                        icon = JsonAssistantIcons.Structure.JSON_ARRAY;
                         break;
                     }
                 }
             }
 
-            if (!Objects.equals(JsonTreeNodeType.JSONArrayElement, nodeType)) {
-                append(Objects.equals(JsonTreeNodeType.JSONObjectProperty, nodeType) ? text + ": " : text, simpleTextAttributes);
+            JsonDiffType diffType = getDiffType(jsonTreeNode);
+            if (diffType != null) {
+                appendDiffType(diffType);
             }
 
-            if (StrUtil.isNotBlank(squareBracketsStart)) append(squareBracketsStart, lightAttributes, false);
-            if (StrUtil.isNotBlank(nodeTypeStr)) append(nodeTypeStr, blueAttributes, false);
-            if (StrUtil.isNotBlank(squareBracketsEnd)) append(squareBracketsEnd, lightAttributes, false);
-            if (StrUtil.isNotBlank(sizeStrPre)) append(sizeStrPre, lightAttributes, false);
-            if (StrUtil.isNotBlank(sizeStr)) append(sizeStr, purpleAttributes, false);
-            if (StrUtil.isNotBlank(sizeStrPost)) append(sizeStrPost, lightAttributes, false);
-
-            // 普通节点
-            if (StrUtil.isNotBlank(jsonValue)) {
-                SimpleTextAttributes attributes;
-                if ("null".equals(jsonValueType) || Boolean.class.getName().equals(jsonValueType)) {
-                    attributes = booleanWithNullColorAttributes;
-                } else if (String.class.getName().equals(jsonValueType)) {
-                    attributes = stringColorAttributes;
-                } else if (Number.class.getName().equals(jsonValueType)) {
-                    attributes = numberColorAttributes;
+            // 悬停时显示完整路径
+            String path = (jsonTreeNode == hoverNode) ? getHoverPath() : null;
+            if (path != null) {
+                // 同时显示工具提示
+                setToolTipText(path);
+                append(" ", LIGHT_ATTRIBUTES, false);
+                append(path, LIGHT_ATTRIBUTES, false);
+            } else {
+                setToolTipText(null);
+            }
+
+            setIcon(icon);
+        }
+
+        private void appendDiffType(JsonDiffType diffType) {
+            switch (diffType) {
+                case ADDED:
+                    append(DIFF_ADDED_TEXT, DIFF_ADDED_ATTRIBUTES, false);
+                    break;
+                case REMOVED:
+                    append(DIFF_REMOVED_TEXT, DIFF_REMOVED_ATTRIBUTES, false);
+                    break;
+                case CHANGED:
+                    append(DIFF_CHANGED_TEXT, DIFF_CHANGED_ATTRIBUTES, false);
+                    break;
+                case MOVED:
+                    append(DIFF_MOVED_TEXT, DIFF_MOVED_ATTRIBUTES, false);
+                    break;
+            }
+        }
+
+        private void appendTypeAndSize(JsonTreeNode node, String nodeTypeStr, boolean isObject) {
+            String sizeLabel = node.getSizeLabel();
+            if (sizeLabel == null) {
+                int size = node.getSize();
+                if (isObject) {
+                    sizeLabel = size + " " + (size == 1 ? OBJ_SINGULAR_TEXT : OBJ_PLURAL_TEXT);
                 } else {
-                    attributes = stringColorAttributes;
+                    sizeLabel = size + " " + (size == 1 ? ARRAY_SINGULAR_TEXT : ARRAY_PLURAL_TEXT);
                 }
 
-                append(jsonValue, attributes, Objects.equals(JsonTreeNodeType.JSONArrayElement, nodeType));
+                node.setSizeLabel(sizeLabel);
             }
 
-            if (jsonTreeNode.equals(hoverNode)) {
-                TreeNode[] pathElements = jsonTreeNode.getPath();
-                // 不显示根节点与第二层的节点路径
-                if (pathElements.length > 2) {
-                    // 悬停时显示完整路径
-                    StringBuilder pathString = new StringBuilder();
-
-                    for (int i = 0; i < pathElements.length; i++) {
-                        JsonTreeNode node = (JsonTreeNode) pathElements[i];
-                        JsonTreeNodeType parentNodeType = node.getNodeType();
-
-                        if (JsonTreeNodeType.JSONArrayElement == parentNodeType) {
-                            appendArrayElementPath(node, pathString);
-                        } else {
-                            appendObjectElementPath(node, pathString, i, pathElements.length);
-                        }
-                    }
+            append(" [", LIGHT_ATTRIBUTES, false);
+            append(nodeTypeStr, BLUE_ATTRIBUTES, false);
+            append("]", LIGHT_ATTRIBUTES, false);
+            append(" (", LIGHT_ATTRIBUTES, false);
+            append(sizeLabel, PURPLE_ATTRIBUTES, false);
+            append(")", LIGHT_ATTRIBUTES, false);
+        }
 
-                    String pathResult = pathString.toString();
-                    // 同时显示工具提示
-                    setToolTipText(pathResult);
-                    append(" " + pathResult, lightAttributes, false);
-                }
+        private void appendValue(JsonTreeNode node, boolean isMainText) {
+            Object nodeValue = node.getValue();
+            String displayValue = node.getDisplayValue();
+            if (displayValue == null) {
+                displayValue = toDisplayValue(nodeValue);
+                node.setDisplayValue(displayValue);
+            }
+
+            SimpleTextAttributes attributes;
+            if (nodeValue == null || nodeValue instanceof Boolean) {
+                attributes = BOOLEAN_WITH_NULL_ATTRIBUTES;
+            } else if (nodeValue instanceof Number) {
+                attributes = NUMBER_ATTRIBUTES;
             } else {
-                setToolTipText(null);
+                attributes = STRING_ATTRIBUTES;
             }
 
-            setIcon(icon);
+            append(displayValue, attributes, isMainText);
+        }
+    }
+
+    /**
+     * 生成节点值的展示文本，过长的值截断并以省略号结尾（完整值可通过复制值获取）
+     *
+     * @param nodeValue 节点值
+     * @return 展示文本
+     */
+    private static String toDisplayValue(Object nodeValue) {
+        if (nodeValue == null) {
+            return "null";
+        }
+
+        if (nodeValue instanceof String) {
+            String str = (String) nodeValue;
+            return str.length() > MAX_VALUE_LENGTH
+                    ? "\"" + str.substring(0, MAX_VALUE_LENGTH) + "...\""
+                    : "\"" + str + "\"";
         }
+
+        String str = nodeValue.toString();
+        return str.length() > MAX_VALUE_LENGTH ? str.substring(0, MAX_VALUE_LENGTH) + "..." : str;
+    }
+
+    /**
+     * 生成悬停节点的完整路径，根节点与第二层的节点不显示路径
+     *
+     * @param node 悬停节点
+     * @return 路径，不需要显示时返回 null
+     */
+    private static String buildHoverPath(JsonTreeNode node) {
+        TreeNode[] pathElements = node.getPath();
+        if (pathElements.length <= 2) {
+            return null;
+        }
+
+        StringBuilder pathString = new StringBuilder();
+        for (int i = 0; i < pathElements.length; i++) {
+            JsonTreeNode pathNode = (JsonTreeNode) pathElements[i];
+            if (JsonTreeNodeType.JSONArrayRange == pathNode.getNodeType()) {
+                continue;
+            }
+
+            if (JsonTreeNodeType.JSONArrayElement == pathNode.getNodeType()) {
+                appendArrayElementPath(pathNode, pathString);
+            } else {
+                appendObjectElementPath(pathNode, pathString, i, pathElements.length);
+            }
+        }
+
+        return pathString.toString();
     }
 
     public static void appendArrayElementPath(JsonTreeNode node, StringBuilder pathString) {
-        TreeNode parent = node.getParent();
-        int index = parent.getIndex(node);
-        pathString.append("[").append(index).append("]");
+        pathString.append("[").append(node.getArrayIndex()).append("]");
     }
 
     private static void appendObjectElementPath(JsonTreeNode node, StringBuilder pathString, int currentIndex, int totalLength) {
@@ -0,0 +1,182 @@
+package cn.memoryzy.json.ui;
+
+import cn.memoryzy.json.bundle.JsonAssistantBundle;
+import cn.memoryzy.json.service.persistent.JsonAssistantPersistentState;
+import cn.memoryzy.json.util.Notifications;
+import com.intellij.notification.NotificationType;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.ui.treeStructure.Tree;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.tree.TreeNode;
+import javax.swing.tree.TreePath;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 有界的逐层展开任务：按层（广度优先）展开节点，新增行数超过预算后停止
+ * <p>后台任务只负责调度、进度与取消，节点的生成与展开在 EDT 上按时间片分批执行，每批不超过 {@link #SLICE_NANOS}</p>
+ *
+ * @author Memory
+ * @since 2025/4/6
+ */
+public class TreeExpandTask extends Task.Backgroundable {
+
+    /**
+     * 每个 EDT 批次的最长耗时
+     */
+    private static final long SLICE_NANOS = 16_000_000L;
+
+    private final Tree tree;
+    private final Object root;
+    private final int maxLevels;
+    private final int rowBudget;
+
+    private List<TreePath> currentLevel;
+    private List<TreePath> nextLevel = new ArrayList<>();
+    private int position;
+    private int expandedRows;
+    private boolean truncated;
+    private boolean stale;
+
+    private TreeExpandTask(@Nullable Project project, Tree tree, List<TreePath> paths, int maxLevels, int rowBudget) {
+        super(project, JsonAssistantBundle.messageOnSystem("dialog.structure.expand.progress"), true);
+        this.tree = tree;
+        this.root = tree.getModel().getRoot();
+        this.currentLevel = new ArrayList<>(paths);
+        this.maxLevels = maxLevels;
+        this.rowBudget = rowBudget;
+    }
+
+    /**
+     * 展开节点及其全部子节点（受行数预算限制）
+     *
+     * @param project 项目，可为 null
+     * @param tree    树
+     * @param paths   待展开的节点
+     */
+    public static void expandAll(@Nullable Project project, Tree tree, List<TreePath> paths) {
+        expand(project, tree, paths, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 从节点已展开部分的边缘开始，继续展开若干层（受行数预算限制）
+     *
+     * @param project 项目，可为 null
+     * @param tree    树
+     * @param paths   起始节点
+     */
+    public static void expandMoreLevels(@Nullable Project project, Tree tree, List<TreePath> paths) {
+        List<TreePath> frontier = new ArrayList<>();
+        for (TreePath path : paths) {
+            collectFrontier(tree, path, frontier);
+        }
+
+        int levels = Math.max(1, JsonAssistantPersistentState.getInstance().generalState.expandLevelStep);
+        expand(project, tree, frontier, levels);
+    }
+
+    private static void expand(@Nullable Project project, Tree tree, List<TreePath> paths, int maxLevels) {
+        if (paths.isEmpty()) {
+            return;
+        }
+
+        int rowBudget = Math.max(1, JsonAssistantPersistentState.getInstance().generalState.expandRowBudget);
+        ProgressManager.getInstance().run(new TreeExpandTask(project, tree, paths, maxLevels, rowBudget));
+    }
+
+    /**
+     * 收集已展开部分边缘的折叠节点（只遍历已展开的节点，即只访问可见行）
+     */
+    private static void collectFrontier(Tree tree, TreePath path, List<TreePath> frontier) {
+        TreeNode node = (TreeNode) path.getLastPathComponent();
+        if (node.isLeaf()) {
+            return;
+        }
+
+        if (!tree.isExpanded(path)) {
+            frontier.add(path);
+            return;
+        }
+
+        for (int i = 0; i < node.getChildCount(); i++) {
+            collectFrontier(tree, path.pathByAddingChild(node.getChildAt(i)), frontier);
+        }
+    }
+
+    @Override
+    public void run(@NotNull ProgressIndicator indicator) {
+        indicator.setIndeterminate(false);
+        int level = 0;
+        while (!currentLevel.isEmpty() && level < maxLevels && !truncated && !stale) {
+            position = 0;
+            while (position < currentLevel.size() && !truncated && !stale) {
+                indicator.checkCanceled();
+                ApplicationManager.getApplication().invokeAndWait(this::expandSlice, ModalityState.any());
+                indicator.setFraction(Math.min(1.0, (double) expandedRows / rowBudget));
+                indicator.setText2(String.valueOf(expandedRows));
+            }
+
+            currentLevel = nextLevel;
+            nextLevel = new ArrayList<>();
+            level++;
+        }
+    }
+
+    /**
+     * 在 EDT 上展开一批节点，直到时间片用完、本层处理完或超出预算
+     */
+    private void expandSlice() {
+        // 树已重建，停止展开
+        if (tree.getModel().getRoot() != root) {
+            stale = true;
+            return;
+        }
+
+        long deadline = System.nanoTime() + SLICE_NANOS;
+        while (position < currentLevel.size() && System.nanoTime() < deadline) {
+            TreePath path = currentLevel.get(position);
+            TreeNode node = (TreeNode) path.getLastPathComponent();
+            if (node.isLeaf()) {
+                position++;
+                continue;
+            }
+
+            int childCount = node.getChildCount();
+            if (!tree.isExpanded(path)) {
+                // 至少展开一个节点
+                if (expandedRows > 0 && expandedRows + childCount > rowBudget) {
+                    truncated = true;
+                    return;
+                }
+
+                tree.expandPath(path);
+                expandedRows += childCount;
+            }
+
+            for (int i = 0; i < childCount; i++) {
+                TreeNode child = node.getChildAt(i);
+                if (!child.isLeaf()) {
+                    nextLevel.add(path.pathByAddingChild(child));
+                }
+            }
+
+            position++;
+        }
+    }
+
+    @Override
+    public void onSuccess() {
+        if (truncated) {
+            Notifications.showNotification(
+                    JsonAssistantBundle.messageOnSystem("dialog.structure.expand.truncated", expandedRows),
+                    NotificationType.INFORMATION, getProject());
+        }
+    }
+}
@@ -5,7 +5,6 @@ import cn.memoryzy.json.bundle.JsonAssistantBundle;
 import cn.memoryzy.json.constant.DataTypeConstant;
 import cn.memoryzy.json.constant.LanguageHolder;
 import cn.memoryzy.json.enums.UrlType;
-import cn.memoryzy.json.model.BlacklistEntry;
 import cn.memoryzy.json.model.wrapper.JsonWrapper;
 import cn.memoryzy.json.service.persistent.ClipboardDataBlacklistPersistentState;
 import cn.memoryzy.json.ui.decorator.TextEditorErrorPopupDecorator;
@@ -21,7 +20,6 @@ import org.jetbrains.annotations.NonNls;
 import org.jetbrains.annotations.Nullable;
 
 import javax.swing.*;
-import java.util.LinkedList;
 
 /**
  * @author Memory
@@ -78,9 +76,7 @@ public class EditorDialog extends DialogWrapper {
         }
 
         JsonWrapper wrapper = isJson ? JsonUtil.parse(text) : Json5Util.parse(text);
-        LinkedList<BlacklistEntry> blacklist = ClipboardDataBlacklistPersistentState.getInstance().blacklist;
-        Integer id = blacklist.stream().map(BlacklistEntry::getId).max(Integer::compareTo).orElse(-1);
-        blacklist.addFirst(new BlacklistEntry(id + 1, text, isJson ? DataTypeConstant.JSON : DataTypeConstant.JSON5, wrapper));
+        ClipboardDataBlacklistPersistentState.getInstance().add(text, isJson ? DataTypeConstant.JSON : DataTypeConstant.JSON5, wrapper);
 
         return true;
     }
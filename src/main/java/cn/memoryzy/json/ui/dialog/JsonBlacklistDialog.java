@@ -148,8 +148,9 @@ public class JsonBlacklistDialog extends DialogWrapper {
             int selectedIndex = showList.getSelectedIndex();
             BlacklistEntry selectedValue = showList.getSelectedValue();
 
-            LinkedList<BlacklistEntry> blacklist = ClipboardDataBlacklistPersistentState.getInstance().blacklist;
-            blacklist.removeIf(el -> Objects.equals(el.getId(), selectedValue.getId()));
+            ClipboardDataBlacklistPersistentState blacklistState = ClipboardDataBlacklistPersistentState.getInstance();
+            blacklistState.remove(selectedValue.getId());
+            LinkedList<BlacklistEntry> blacklist = blacklistState.blacklist;
 
             // 替换List数据为最新的
             NameFilteringListModel<BlacklistEntry> listModel = (NameFilteringListModel<BlacklistEntry>) showList.getModel();
@@ -26,22 +26,28 @@ import com.intellij.openapi.project.DumbAwareAction;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.DialogWrapper;
 import com.intellij.openapi.ui.Messages;
+import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.openapi.wm.ex.ToolWindowEx;
 import com.intellij.ui.*;
+import com.intellij.ui.components.JBLabel;
 import com.intellij.ui.components.JBList;
 import com.intellij.ui.content.Content;
 import com.intellij.ui.speedSearch.NameFilteringListModel;
 import com.intellij.ui.speedSearch.SpeedSearchUtil;
 import com.intellij.util.ui.JBUI;
+import com.intellij.util.ui.UIUtil;
 import com.intellij.util.ui.components.BorderLayoutPanel;
 import org.jetbrains.annotations.NonNls;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import javax.swing.*;
+import javax.swing.event.DocumentEvent;
 import javax.swing.event.ListSelectionEvent;
 import javax.swing.event.ListSelectionListener;
 import java.awt.event.MouseEvent;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -54,6 +60,8 @@ public class JsonHistoryListChooser extends DialogWrapper {
 
     private JBList<JsonEntry> showList;
     private EditorTextField showTextField;
+    private JBLabel usageLabel;
+    private SearchTextField searchField;
     private final Project project;
     private final ToolWindowEx toolWindow;
 
@@ -104,7 +112,11 @@ public class JsonHistoryListChooser extends DialogWrapper {
         UIManager.updateComponentColorsScheme(showTextField);
 
         BorderLayoutPanel borderLayoutPanel = new BorderLayoutPanel();
+        searchField = createSearchField(this::search);
+        borderLayoutPanel.addToTop(searchField);
         borderLayoutPanel.addToCenter(UIManager.wrapListWithFilter(showList, JsonEntry::getShortText, true));
+        usageLabel = createUsageLabel(JsonHistoryPersistentState.getInstance(project).getHistory());
+        borderLayoutPanel.addToBottom(usageLabel);
         borderLayoutPanel.setBorder(JBUI.Borders.empty(3));
         UIManager.rebuildListWithFilter(showList);
 
@@ -120,6 +132,81 @@ public class JsonHistoryListChooser extends DialogWrapper {
         return splitter;
     }
 
+    /**
+     * 按检索框内容刷新列表
+     */
+    private void search() {
+        HistoryLimitedList history = JsonHistoryPersistentState.getInstance(project).getHistory();
+        NameFilteringListModel<JsonEntry> listModel = (NameFilteringListModel<JsonEntry>) showList.getModel();
+        listModel.replaceAll(filterEntries(history, searchField.getText()));
+        UIManager.rebuildListWithFilter(showList);
+
+        if (listModel.getSize() == 0) {
+            showTextField.setText("");
+            disabledOkAction();
+        } else {
+            selectFirstItemInList();
+        }
+    }
+
+    /**
+     * 创建历史记录检索框（检索键、键路径与值）
+     *
+     * @param onChange 检索内容变化时执行
+     * @return 检索框
+     */
+    public static SearchTextField createSearchField(Runnable onChange) {
+        SearchTextField searchField = new SearchTextField(false);
+        searchField.getTextEditor().getEmptyText().setText(JsonAssistantBundle.messageOnSystem("dialog.history.search.placeholder"));
+        searchField.addDocumentListener(new DocumentAdapter() {
+            @Override
+            protected void textChanged(@NotNull DocumentEvent e) {
+                onChange.run();
+            }
+        });
+
+        return searchField;
+    }
+
+    /**
+     * 获取检索结果，检索内容为空时返回全部记录
+     *
+     * @param history 历史记录
+     * @param query   检索内容
+     * @return 记录（按相关度或 新 -> 旧 排列）
+     */
+    public static List<JsonEntry> filterEntries(HistoryLimitedList history, String query) {
+        return StrUtil.isBlank(query) ? new ArrayList<>(history) : history.search(query);
+    }
+
+    /**
+     * 创建显示历史记录占用情况的标签
+     *
+     * @param history 历史记录
+     * @return 标签
+     */
+    public static JBLabel createUsageLabel(HistoryLimitedList history) {
+        JBLabel label = new JBLabel(formatUsage(history));
+        label.setComponentStyle(UIUtil.ComponentStyle.SMALL);
+        label.setFontColor(UIUtil.FontColor.BRIGHTER);
+        label.setBorder(JBUI.Borders.empty(3, 2, 0, 0));
+        return label;
+    }
+
+    /**
+     * 历史记录占用情况（条数、原文总大小 / 上限）
+     *
+     * @param history 历史记录
+     * @return 文本
+     */
+    public static String formatUsage(HistoryLimitedList history) {
+        String used = StringUtil.formatFileSize(history.getTotalBytes());
+        long maxTotalBytes = history.getMaxTotalBytes();
+        return maxTotalBytes > 0
+                ? JsonAssistantBundle.messageOnSystem("dialog.history.usage", history.size(), used, StringUtil.formatFileSize(maxTotalBytes))
+                : JsonAssistantBundle.messageOnSystem("dialog.history.usage.unlimited", history.size(), used);
+    }
+
     @Override
     public @Nullable JComponent getPreferredFocusedComponent() {
         return showList;
@@ -258,7 +345,8 @@ public class JsonHistoryListChooser extends DialogWrapper {
 
             // 替换List数据为最新的
             NameFilteringListModel<JsonEntry> listModel = (NameFilteringListModel<JsonEntry>) showList.getModel();
-            listModel.replaceAll(history);
+            listModel.replaceAll(filterEntries(history, searchField.getText()));
+            usageLabel.setText(formatUsage(history));
 
             // 若没有数据，则置空
             int size = listModel.getSize();
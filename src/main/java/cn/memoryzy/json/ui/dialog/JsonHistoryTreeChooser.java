@@ -36,11 +36,13 @@ import com.intellij.openapi.ui.InputValidator;
 import com.intellij.openapi.ui.Messages;
 import com.intellij.openapi.wm.ex.ToolWindowEx;
 import com.intellij.ui.*;
+import com.intellij.ui.components.JBLabel;
 import com.intellij.ui.content.Content;
 import com.intellij.ui.speedSearch.SpeedSearchUtil;
 import com.intellij.ui.treeStructure.Tree;
 import com.intellij.util.ui.JBUI;
 import com.intellij.util.ui.components.BorderLayoutPanel;
+import com.intellij.util.ui.tree.TreeUtil;
 import icons.JsonAssistantIcons;
 import org.jetbrains.annotations.NonNls;
 import org.jetbrains.annotations.NotNull;
@@ -64,6 +66,8 @@ public class JsonHistoryTreeChooser extends DialogWrapper {
 
     private Tree tree;
     private EditorTextField showTextField;
+    private JBLabel usageLabel;
+    private SearchTextField searchField;
     private final Project project;
     private final ToolWindowEx toolWindow;
 
@@ -120,7 +124,11 @@ public class JsonHistoryTreeChooser extends DialogWrapper {
         UIManager.updateComponentColorsScheme(showTextField);
 
         BorderLayoutPanel borderLayoutPanel = new BorderLayoutPanel();
+        searchField = JsonHistoryListChooser.createSearchField(this::search);
+        borderLayoutPanel.addToTop(searchField);
         borderLayoutPanel.addToCenter(decorator.createPanel());
+        usageLabel = JsonHistoryListChooser.createUsageLabel(JsonHistoryPersistentState.getInstance(project).getHistory());
+        borderLayoutPanel.addToBottom(usageLabel);
         borderLayoutPanel.setBorder(JBUI.Borders.empty(3));
 
         JBSplitter splitter = new JBSplitter(true, 0.4f);
@@ -177,9 +185,33 @@ public class JsonHistoryTreeChooser extends DialogWrapper {
         return new DefaultTreeModel(buildRootNode(JsonHistoryPersistentState.getInstance(project).getHistory()));
     }
 
+    /**
+     * 按检索框内容重新构建树，检索时展开全部分组并选中第一条
+     */
+    private void search() {
+        HistoryLimitedList historyList = JsonHistoryPersistentState.getInstance(project).getHistory();
+        TreeNode newRootNode = buildRootNode(historyList);
+        ((DefaultTreeModel) tree.getModel()).setRoot(newRootNode);
+
+        if (newRootNode.getChildCount() == 0) {
+            showTextField.setText("");
+            disabledOkAction();
+        } else if (StrUtil.isBlank(searchField.getText())) {
+            expandSingleNode();
+        } else {
+            TreeUtil.expandAll(tree);
+            TreeNode firstNode = newRootNode.getChildAt(0).getChildAt(0);
+            tree.setSelectionPath(new TreePath(((HistoryTreeNode) firstNode).getPath()));
+        }
+    }
+
     private TreeNode buildRootNode(HistoryLimitedList historyList) {
+        String query = searchField != null ? searchField.getText() : null;
+        boolean searching = StrUtil.isNotBlank(query);
+        List<JsonEntry> entries = JsonHistoryListChooser.filterEntries(historyList, query);
+
         HistoryTreeNode rootNode = new HistoryTreeNode();
-        Map<String, List<JsonEntry>> historyGroup = historyList.stream().collect(Collectors.groupingBy(el -> {
+        Map<String, List<JsonEntry>> historyGroup = entries.stream().collect(Collectors.groupingBy(el -> {
             String formatted = LocalDateTimeUtil.format(el.getInsertTime(), DatePattern.NORM_DATE_FORMATTER);
             return formatted != null ? formatted : PluginConstant.UNKNOWN;
         }));
@@ -196,8 +228,10 @@ public class JsonHistoryTreeChooser extends DialogWrapper {
             String key = entry.getKey();
             List<JsonEntry> value = entry.getValue();
 
-            // 排序List
-            value.sort(Comparator.comparing(JsonEntry::getInsertTime).reversed());
+            // 排序List（检索时保持相关度顺序）
+            if (!searching) {
+                value.sort(Comparator.comparing(JsonEntry::getInsertTime).reversed());
+            }
 
             // Map第一层是组节点
             HistoryTreeNode groupNode = new HistoryTreeNode(null, key, value.size(), HistoryTreeNodeType.GROUP);
@@ -339,6 +373,7 @@ public class JsonHistoryTreeChooser extends DialogWrapper {
 
             // 重新构建树节点
             TreeNode newRootNode = buildRootNode(historyList);
+            usageLabel.setText(JsonHistoryListChooser.formatUsage(historyList));
             model.setRoot(newRootNode);
 
             // 当不存在数据了，清除编辑框文本，禁用按钮
@@ -5,7 +5,6 @@ import cn.memoryzy.json.constant.DataTypeConstant;
 import cn.memoryzy.json.constant.HtmlConstant;
 import cn.memoryzy.json.constant.LanguageHolder;
 import cn.memoryzy.json.enums.UrlType;
-import cn.memoryzy.json.model.BlacklistEntry;
 import cn.memoryzy.json.model.wrapper.JsonWrapper;
 import cn.memoryzy.json.service.persistent.ClipboardDataBlacklistPersistentState;
 import cn.memoryzy.json.ui.editor.ViewerModeLanguageTextEditor;
@@ -27,8 +26,6 @@ import org.jetbrains.annotations.NonNls;
 import org.jetbrains.annotations.Nullable;
 
 import javax.swing.*;
-import java.util.LinkedList;
-import java.util.Objects;
 
 /**
  * @author Memory
@@ -135,13 +132,6 @@ public class PreviewClipboardDataDialog extends DialogWrapper {
 
 
     public static void addToBlacklist(String parseType, String originalText, JsonWrapper wrapper) {
-        LinkedList<BlacklistEntry> blacklist = ClipboardDataBlacklistPersistentState.getInstance().blacklist;
-        Integer id = blacklist.stream().map(BlacklistEntry::getId).max(Integer::compareTo).orElse(-1);
-        blacklist.addFirst(new BlacklistEntry(id + 1, originalText, parseType, wrapper));
-    }
-
-    public static boolean existsInBlacklist(JsonWrapper wrapper) {
-        LinkedList<BlacklistEntry> blacklist = ClipboardDataBlacklistPersistentState.getInstance().blacklist;
-        return blacklist.stream().anyMatch(el -> Objects.equals(wrapper, el.getJsonWrapper()));
+        ClipboardDataBlacklistPersistentState.getInstance().add(originalText, parseType, wrapper);
     }
 }
@@ -0,0 +1,55 @@
+package cn.memoryzy.json.ui.node;
+
+import cn.memoryzy.json.enums.JsonTreeNodeType;
+import cn.memoryzy.json.model.wrapper.ArrayWrapper;
+
+import java.util.List;
+
+/**
+ * 大数组的虚拟分组节点，对应数组下标区间 [start, end)，展示为 [start...end-1]
+ * <p>子节点（元素或下一级分组）同样在展开时才生成</p>
+ *
+ * @author Memory
+ * @since 2025/4/2
+ */
+public class JsonArrayRangeNode extends JsonTreeNode {
+
+    /**
+     * 起始下标（包含）
+     */
+    private final int start;
+
+    /**
+     * 结束下标（不包含）
+     */
+    private final int end;
+
+    public JsonArrayRangeNode(ArrayWrapper jsonArray, int start, int end) {
+        super("[" + start + "..." + (end - 1) + "]");
+        this.start = start;
+        this.end = end;
+        initContainer(jsonArray, JsonTreeNodeType.JSONArrayRange, end - start);
+    }
+
+    @Override
+    void loadChildren() {
+        loadArrayChildren((ArrayWrapper) getValue(), start, end);
+    }
+
+    /**
+     * 获取区间内的元素
+     *
+     * @return 元素列表（原数组的视图）
+     */
+    public List<Object> getRangeValue() {
+        return ((ArrayWrapper) getValue()).subList(start, end);
+    }
+
+    public int getStart() {
+        return start;
+    }
+
+    public int getEnd() {
+        return end;
+    }
+}
@@ -2,10 +2,23 @@ package cn.memoryzy.json.ui.node;
 
 
 import cn.memoryzy.json.enums.JsonTreeNodeType;
+import cn.memoryzy.json.model.wrapper.ArrayWrapper;
+import cn.memoryzy.json.model.wrapper.JsonWrapper;
+import cn.memoryzy.json.model.wrapper.ObjectWrapper;
+import cn.memoryzy.json.service.persistent.JsonAssistantPersistentState;
 
 import javax.swing.tree.DefaultMutableTreeNode;
+import javax.swing.tree.TreeNode;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.Vector;
 
 /**
+ * Json 结构树节点
+ * <p>子节点不会在构建时一次性创建，而是在首次被访问（即展开）时，直接从对应的 {@link JsonWrapper} 中读取生成</p>
+ * <p>元素数超过分组大小的数组，会先按区间生成 {@link JsonArrayRangeNode} 分组节点，展开一个节点最多生成分组大小个子节点</p>
+ *
  * @author Memory
  * @since 2024/2/28
  */
@@ -24,20 +37,209 @@ public class JsonTreeNode extends DefaultMutableTreeNode {
     /**
      * 节点大小
      */
-    private Integer size;
+    private int size;
+
+    /**
+     * 子节点是否已经生成
+     */
+    private boolean childrenLoaded = true;
+
+    /**
+     * 渲染用的大小描述（首次渲染时生成，大小变化时清除）
+     */
+    private String sizeLabel;
+
+    /**
+     * 渲染用的值文本（首次渲染时生成，过长时已截断）
+     */
+    private String displayValue;
+
+    /**
+     * 在所属数组中的下标，仅过滤树中复制出的节点使用（此时节点位置与下标不再对应）
+     */
+    private int arrayIndex = -1;
 
 
     public JsonTreeNode(Object userObject) {
         super(userObject);
     }
 
-    public JsonTreeNode(Object userObject, Object value, JsonTreeNodeType nodeType, Integer size) {
+    public JsonTreeNode(Object userObject, Object value, JsonTreeNodeType nodeType, int size) {
         super(userObject);
         this.value = value;
         this.nodeType = nodeType;
         this.size = size;
     }
 
+    /**
+     * 创建根节点，子节点在展开时才生成
+     *
+     * @param wrapper Json 对象，为 null 时返回空的根节点
+     * @return 根节点
+     */
+    public static JsonTreeNode createRoot(JsonWrapper wrapper) {
+        JsonTreeNode rootNode = new JsonTreeNode("root");
+        if (wrapper instanceof ObjectWrapper) {
+            rootNode.initContainer(wrapper, JsonTreeNodeType.JSONObject, ((ObjectWrapper) wrapper).size());
+        } else if (wrapper instanceof ArrayWrapper) {
+            rootNode.initContainer(wrapper, JsonTreeNodeType.JSONArray, ((ArrayWrapper) wrapper).size());
+        }
+
+        return rootNode;
+    }
+
+    JsonTreeNode initContainer(Object value, JsonTreeNodeType nodeType, int size) {
+        this.value = value;
+        this.nodeType = nodeType;
+        this.size = size;
+        this.childrenLoaded = size == 0;
+        return this;
+    }
+
+    /**
+     * 首次访问子节点时，从 Json 对象中读取生成
+     */
+    private void ensureChildrenLoaded() {
+        if (childrenLoaded) {
+            return;
+        }
+
+        childrenLoaded = true;
+        loadChildren();
+    }
+
+    /**
+     * 生成子节点
+     */
+    void loadChildren() {
+        if (value instanceof ObjectWrapper) {
+            children = new Vector<>(size);
+            for (Map.Entry<String, Object> entry : ((ObjectWrapper) value).entrySet()) {
+                addLoadedChild(createPropertyNode(entry.getKey(), entry.getValue()));
+            }
+        } else if (value instanceof ArrayWrapper) {
+            ArrayWrapper jsonArray = (ArrayWrapper) value;
+            loadArrayChildren(jsonArray, 0, jsonArray.size());
+        }
+    }
+
+    /**
+     * 生成数组区间 [from, to) 的子节点，区间超过分组大小时生成分组节点，分组过多时逐级放大分组跨度
+     *
+     * @param jsonArray 数组
+     * @param from      起始下标（包含）
+     * @param to        结束下标（不包含）
+     */
+    void loadArrayChildren(ArrayWrapper jsonArray, int from, int to) {
+        int count = to - from;
+        int bucketSize = getArrayBucketSize();
+        if (!needsBuckets(count)) {
+            children = new Vector<>(count);
+            for (int i = from; i < to; i++) {
+                addLoadedChild(createElementNode(i, jsonArray.get(i)));
+            }
+            return;
+        }
+
+        long step = bucketSize;
+        while ((count + step - 1) / step > bucketSize) {
+            step *= bucketSize;
+        }
+
+        children = new Vector<>((int) ((count + step - 1) / step));
+        for (long start = from; start < to; start += step) {
+            int end = (int) Math.min(to, start + step);
+            addLoadedChild(new JsonArrayRangeNode(jsonArray, (int) start, end));
+        }
+    }
+
+    /**
+     * 指定元素数的数组（或区间）是否需要分组
+     *
+     * @param count 元素数
+     * @return 超过分组大小时返回 true
+     */
+    static boolean needsBuckets(int count) {
+        int bucketSize = getArrayBucketSize();
+        return bucketSize >= 2 && count > bucketSize;
+    }
+
+    private static int getArrayBucketSize() {
+        return JsonAssistantPersistentState.getInstance().generalState.arrayBucketSize;
+    }
+
+    /**
+     * 替换节点值并丢弃已生成的子节点，子节点在下次访问时重新生成
+     *
+     * @param value 新的 Json 对象
+     * @param size  新的大小
+     */
+    void reload(Object value, int size) {
+        this.children = null;
+        this.value = value;
+        this.size = size;
+        this.sizeLabel = null;
+        this.childrenLoaded = size == 0;
+    }
+
+    private void addLoadedChild(JsonTreeNode child) {
+        child.setParent(this);
+        children.add(child);
+    }
+
+    static JsonTreeNode createPropertyNode(String key, Object value) {
+        if (value instanceof ObjectWrapper) {
+            return new JsonTreeNode(key).initContainer(value, JsonTreeNodeType.JSONObject, ((ObjectWrapper) value).size());
+        } else if (value instanceof ArrayWrapper) {
+            return new JsonTreeNode(key).initContainer(value, JsonTreeNodeType.JSONArray, ((ArrayWrapper) value).size());
+        }
+
+        // 若不是对象或数组，则不添加子集，直接同层级
+        return new JsonTreeNode(key, value, JsonTreeNodeType.JSONObjectProperty, 0);
+    }
+
+    static JsonTreeNode createElementNode(int index, Object el) {
+        if (el instanceof ObjectWrapper) {
+            return new JsonTreeNode("item" + index).initContainer(el, JsonTreeNodeType.JSONObjectElement, ((ObjectWrapper) el).size());
+        } else if (el instanceof ArrayWrapper) {
+            return new JsonTreeNode("item" + index).initContainer(el, JsonTreeNodeType.JSONArrayElement, ((ArrayWrapper) el).size());
+        }
+
+        Object obj = el instanceof String ? "\"" + el + "\"" : el;
+        return new JsonTreeNode(obj, el, JsonTreeNodeType.JSONArrayElement, 0);
+    }
+
+    @Override
+    public int getChildCount() {
+        ensureChildrenLoaded();
+        return super.getChildCount();
+    }
+
+    @Override
+    public TreeNode getChildAt(int index) {
+        ensureChildrenLoaded();
+        return super.getChildAt(index);
+    }
+
+    @Override
+    public Enumeration<TreeNode> children() {
+        ensureChildrenLoaded();
+        return super.children();
+    }
+
+    @Override
+    public boolean isLeaf() {
+        // 未展开过的节点不生成子节点，直接根据大小判断
+        return childrenLoaded ? super.isLeaf() : size == 0;
+    }
+
+    /**
+     * 子节点是否已经生成
+     */
+    public boolean isChildrenLoaded() {
+        return childrenLoaded;
+    }
+
     public Object getValue() {
         return value;
     }
@@ -56,22 +258,40 @@ public class JsonTreeNode extends DefaultMutableTreeNode {
         return this;
     }
 
-    public Integer getSize() {
+    public int getSize() {
         return size;
     }
 
-    public JsonTreeNode setSize(Integer size) {
+    public JsonTreeNode setSize(int size) {
         this.size = size;
+        this.sizeLabel = null;
         return this;
     }
 
+    public String getSizeLabel() {
+        return sizeLabel;
+    }
+
+    public void setSizeLabel(String sizeLabel) {
+        this.sizeLabel = sizeLabel;
+    }
+
+    public String getDisplayValue() {
+        return displayValue;
+    }
+
+    public void setDisplayValue(String displayValue) {
+        this.displayValue = displayValue;
+    }
+
     @Override
     public String toString() {
         if (JsonTreeNodeType.JSONObject.equals(nodeType)
                 || JsonTreeNodeType.JSONArray.equals(nodeType)
                 || JsonTreeNodeType.JSONObjectElement.equals(nodeType)
-                || JsonTreeNodeType.JSONArrayElement.equals(nodeType)) {
-            // 对象、数组、数组下对象、数组下基本类型，直接匹配key名称
+                || JsonTreeNodeType.JSONArrayElement.equals(nodeType)
+                || JsonTreeNodeType.JSONArrayRange.equals(nodeType)) {
+            // 对象、数组、数组下对象、数组下基本类型、分组节点，直接匹配key名称
             return getUserObject().toString();
         } else {
             // key-value
@@ -88,7 +308,7 @@ public class JsonTreeNode extends DefaultMutableTreeNode {
                 || JsonTreeNodeType.JSONObjectElement.equals(nodeType)) {
             int newSize = getChildCount();
             if (newSize != this.size) {
-                this.size = newSize;
+                setSize(newSize);
                 JsonTreeNode parent = (JsonTreeNode) getParent();
                 if (parent != null) {
                     parent.updateSize();
@@ -102,7 +322,94 @@ public class JsonTreeNode extends DefaultMutableTreeNode {
      */
     public void removeAndUpdateSize(JsonTreeNode child) {
         remove(child);
-        updateSize();
+        if (!JsonTreeNodeType.JSONArrayRange.equals(nodeType) && !JsonTreeNodeType.JSONArrayRange.equals(child.getNodeType())) {
+            updateSize();
+            return;
+        }
+
+        // 分组节点不对应实际元素，按移除的元素数扣减各级分组及所属数组的 size
+        int removed = JsonTreeNodeType.JSONArrayRange.equals(child.getNodeType()) ? child.getSize() : 1;
+        JsonTreeNode node = this;
+        while (node != null) {
+            node.setSize(Math.max(0, node.getSize() - removed));
+            if (!JsonTreeNodeType.JSONArrayRange.equals(node.getNodeType())) {
+                break;
+            }
+
+            node = (JsonTreeNode) node.getParent();
+        }
+    }
+
+    /**
+     * 获取节点在所属数组中的下标（跳过分组节点）
+     *
+     * @return 下标
+     */
+    public int getArrayIndex() {
+        if (arrayIndex >= 0) {
+            return arrayIndex;
+        }
+
+        JsonTreeNode parent = (JsonTreeNode) getParent();
+        int index = parent.getIndex(this);
+        return parent instanceof JsonArrayRangeNode ? ((JsonArrayRangeNode) parent).getStart() + index : index;
+    }
+
+    /**
+     * 根据路径片段查找子节点，数组下标会经过分组节点
+     *
+     * @param segment 路径片段，对象下为 key（String），数组下为下标（Integer）
+     * @param path    经过的分组节点会追加到该列表
+     * @return 子节点，不存在（如已被移除）时返回 null
+     */
+    public JsonTreeNode findChild(Object segment, List<JsonTreeNode> path) {
+        int childCount = getChildCount();
+        if (segment instanceof String) {
+            for (int i = 0; i < childCount; i++) {
+                JsonTreeNode child = (JsonTreeNode) getChildAt(i);
+                if (!JsonTreeNodeType.JSONArrayElement.equals(child.getNodeType()) && segment.equals(child.getUserObject())) {
+                    return child;
+                }
+            }
+
+            return null;
+        }
+
+        int index = (Integer) segment;
+        int offset = this instanceof JsonArrayRangeNode ? ((JsonArrayRangeNode) this).getStart() : 0;
+        for (int i = 0; i < childCount; i++) {
+            JsonTreeNode child = (JsonTreeNode) getChildAt(i);
+            if (child instanceof JsonArrayRangeNode) {
+                JsonArrayRangeNode range = (JsonArrayRangeNode) child;
+                if (index >= range.getStart() && index < range.getEnd()) {
+                    path.add(range);
+                    return range.findChild(segment, path);
+                }
+            } else if (offset + i == index) {
+                return child;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * 复制节点，用于构建过滤树
+     *
+     * @param withChildren 是否保留全部子节点（子节点在展开时从 Json 中重新生成），否则为不含子节点的容器
+     * @return 新节点
+     */
+    public JsonTreeNode copyNode(boolean withChildren) {
+        JsonTreeNode copy = new JsonTreeNode(getUserObject(), value, nodeType, size);
+        if (withChildren && (value instanceof ObjectWrapper || value instanceof ArrayWrapper)) {
+            copy.initContainer(value, nodeType, size);
+        }
+
+        if (JsonTreeNodeType.JSONArrayElement.equals(nodeType) || JsonTreeNodeType.JSONObjectElement.equals(nodeType)) {
+            copy.arrayIndex = getArrayIndex();
+        }
+
+        return copy;
     }
 
 }
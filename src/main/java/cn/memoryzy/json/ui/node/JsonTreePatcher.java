@@ -0,0 +1,352 @@
+package cn.memoryzy.json.ui.node;
+
+import cn.memoryzy.json.enums.JsonTreeNodeType;
+import cn.memoryzy.json.model.wrapper.ArrayWrapper;
+import cn.memoryzy.json.model.wrapper.JsonWrapper;
+import cn.memoryzy.json.model.wrapper.ObjectWrapper;
+import cn.memoryzy.json.util.JsonDiffer;
+
+import javax.swing.tree.DefaultTreeModel;
+import java.util.*;
+
+/**
+ * 将新的 Json 增量应用到已有的结构树上：只对发生变化的节点发出 nodesInserted / nodesRemoved / nodesChanged 事件，
+ * 未变化的节点（及其展开状态、选中状态）原样保留
+ * <p>只比较已生成的节点，未展开过的节点直接替换值，子节点在展开时再从新的 Json 生成，因此开销与已展开的节点数及变化量成正比</p>
+ * <p>数组元素按结构指纹对应（与 {@link JsonDiffer} 相同：对齐前缀与后缀，再按哈希对应，取最长递增子序列作为保留的节点），
+ * 中间插入或删除元素时其余节点保持不动；已分组的大数组大小变化时，所有分组区间及区间内的下标都会改变，此时重新生成该数组的子节点</p>
+ *
+ * @author Memory
+ * @since 2025/4/7
+ */
+public class JsonTreePatcher {
+
+    private final DefaultTreeModel model;
+
+    private JsonTreePatcher(DefaultTreeModel model) {
+        this.model = model;
+    }
+
+    /**
+     * 将新的 Json 应用到树模型的根节点上
+     *
+     * @param model   树模型
+     * @param wrapper 新的 Json
+     * @return 根节点类型不同（无法增量更新）时返回 false
+     */
+    public static boolean patch(DefaultTreeModel model, JsonWrapper wrapper) {
+        JsonTreeNode root = (JsonTreeNode) model.getRoot();
+        JsonTreeNodeType rootType = wrapper instanceof ObjectWrapper ? JsonTreeNodeType.JSONObject
+                : wrapper instanceof ArrayWrapper ? JsonTreeNodeType.JSONArray : null;
+
+        if (root == null || rootType == null || rootType != root.getNodeType()) {
+            return false;
+        }
+
+        new JsonTreePatcher(model).patchContainer(root, wrapper);
+        return true;
+    }
+
+    private void patchContainer(JsonTreeNode node, Object newValue) {
+        int newSize = sizeOf(newValue);
+        if (!node.isChildrenLoaded()) {
+            boolean wasLeaf = node.isLeaf();
+            node.reload(newValue, newSize);
+            if (wasLeaf != node.isLeaf()) {
+                model.nodeStructureChanged(node);
+            } else {
+                model.nodeChanged(node);
+            }
+
+            return;
+        }
+
+        boolean patched = newValue instanceof ObjectWrapper
+                ? patchObject(node, (ObjectWrapper) newValue)
+                : patchArray(node, (ArrayWrapper) newValue);
+
+        if (!patched) {
+            // 无法按位置对应（键顺序变化、分组变化），重新生成该节点的子节点
+            node.reload(newValue, newSize);
+            model.nodeStructureChanged(node);
+            return;
+        }
+
+        node.setValue(newValue);
+        if (node.getSize() != newSize) {
+            node.setSize(newSize);
+            model.nodeChanged(node);
+        }
+    }
+
+    private boolean patchObject(JsonTreeNode node, ObjectWrapper newObject) {
+        // 删除新 Json 中已不存在的键
+        List<Integer> removedIndices = new ArrayList<>();
+        List<Object> removedNodes = new ArrayList<>();
+        List<String> remainingKeys = new ArrayList<>();
+        Map<String, JsonTreeNode> existing = new HashMap<>();
+        for (int i = 0; i < node.getChildCount(); i++) {
+            JsonTreeNode child = (JsonTreeNode) node.getChildAt(i);
+            String key = String.valueOf(child.getUserObject());
+            if (newObject.containsKey(key)) {
+                existing.put(key, child);
+                remainingKeys.add(key);
+            } else {
+                removedIndices.add(i);
+                removedNodes.add(child);
+            }
+        }
+
+        List<String> retainedOrder = new ArrayList<>(remainingKeys.size());
+        for (String key : newObject.keySet()) {
+            if (existing.containsKey(key)) {
+                retainedOrder.add(key);
+            }
+        }
+
+        if (!retainedOrder.equals(remainingKeys)) {
+            return false;
+        }
+
+        removeChildren(node, removedIndices, removedNodes);
+
+        // 插入新增的键
+        List<Integer> insertedIndices = new ArrayList<>();
+        int position = 0;
+        for (Map.Entry<String, Object> entry : newObject.entrySet()) {
+            if (!existing.containsKey(entry.getKey())) {
+                node.insert(JsonTreeNode.createPropertyNode(entry.getKey(), entry.getValue()), position);
+                insertedIndices.add(position);
+            }
+
+            position++;
+        }
+
+        if (!insertedIndices.isEmpty()) {
+            model.nodesWereInserted(node, toArray(insertedIndices));
+        }
+
+        // 更新保留的键
+        for (Map.Entry<String, JsonTreeNode> entry : existing.entrySet()) {
+            patchChild(node, entry.getValue(), newObject.get(entry.getKey()), false);
+        }
+
+        return true;
+    }
+
+    private boolean patchArray(JsonTreeNode node, ArrayWrapper newArray) {
+        int childCount = node.getChildCount();
+        boolean bucketed = childCount > 0 && node.getChildAt(0) instanceof JsonArrayRangeNode;
+        if (bucketed) {
+            // 大小不变时分组区间不变，逐个分组更新；大小变化时分组区间按下标划分，插入点之后的元素都会移入其他分组，无法保留
+            Object oldValue = node.getValue();
+            if (!(oldValue instanceof ArrayWrapper) || ((ArrayWrapper) oldValue).size() != newArray.size()) {
+                return false;
+            }
+
+            for (int i = 0; i < childCount; i++) {
+                patchRange((JsonArrayRangeNode) node.getChildAt(i), newArray);
+            }
+
+            return true;
+        }
+
+        // 新数组需要分组时，交由重新生成处理
+        if (JsonTreeNode.needsBuckets(newArray.size())) {
+            return false;
+        }
+
+        patchElements(node, newArray);
+        return true;
+    }
+
+    private void patchRange(JsonArrayRangeNode range, ArrayWrapper newArray) {
+        range.setValue(newArray);
+        if (!range.isChildrenLoaded()) {
+            return;
+        }
+
+        int childCount = range.getChildCount();
+        if (childCount > 0 && range.getChildAt(0) instanceof JsonArrayRangeNode) {
+            for (int i = 0; i < childCount; i++) {
+                patchRange((JsonArrayRangeNode) range.getChildAt(i), newArray);
+            }
+        } else {
+            for (int i = 0; i < childCount; i++) {
+                patchChild(range, (JsonTreeNode) range.getChildAt(i), newArray.get(range.getStart() + i), true);
+            }
+        }
+    }
+
+    /**
+     * 按结构指纹对应数组元素：对应上且顺序未变的节点保留，相邻保留节点之间的其余节点按位置两两更新，多出的部分删除或插入
+     */
+    private void patchElements(JsonTreeNode node, ArrayWrapper newArray) {
+        int oldCount = node.getChildCount();
+        int newCount = newArray.size();
+
+        List<Object> oldValues = new ArrayList<>(oldCount);
+        for (int i = 0; i < oldCount; i++) {
+            oldValues.add(((JsonTreeNode) node.getChildAt(i)).getValue());
+        }
+
+        int[] targets = alignElements(oldValues, newArray);
+
+        // 删除没有对应的旧节点
+        List<Integer> removedIndices = new ArrayList<>();
+        List<Object> removedNodes = new ArrayList<>();
+        List<JsonTreeNode> keptNodes = new ArrayList<>();
+        List<Integer> keptTargets = new ArrayList<>();
+        boolean[] covered = new boolean[newCount];
+        for (int i = 0; i < oldCount; i++) {
+            JsonTreeNode child = (JsonTreeNode) node.getChildAt(i);
+            if (targets[i] < 0) {
+                removedIndices.add(i);
+                removedNodes.add(child);
+            } else {
+                keptNodes.add(child);
+                keptTargets.add(targets[i]);
+                covered[targets[i]] = true;
+            }
+        }
+
+        removeChildren(node, removedIndices, removedNodes);
+
+        // 保留节点的新下标递增，按下标从小到大插入新节点即可落在最终位置
+        List<Integer> insertedIndices = new ArrayList<>();
+        for (int j = 0; j < newCount; j++) {
+            if (!covered[j]) {
+                node.insert(JsonTreeNode.createElementNode(j, newArray.get(j)), j);
+                insertedIndices.add(j);
+            }
+        }
+
+        if (!insertedIndices.isEmpty()) {
+            model.nodesWereInserted(node, toArray(insertedIndices));
+        }
+
+        for (int k = 0; k < keptNodes.size(); k++) {
+            JsonTreeNode child = keptNodes.get(k);
+            int target = keptTargets.get(k);
+            Object newValue = newArray.get(target);
+            // 容器元素以下标命名，下标变化时更新名称
+            if (child.getValue() instanceof JsonWrapper && newValue instanceof JsonWrapper && !("item" + target).equals(child.getUserObject())) {
+                child.setUserObject("item" + target);
+                model.nodeChanged(child);
+            }
+
+            patchChild(node, child, newValue, true);
+        }
+    }
+
+    /**
+     * 求旧元素对应的新下标
+     * <ul>
+     *     <li>按结构指纹对应，顺序未变（最长递增子序列）的元素作为锚点</li>
+     *     <li>相邻锚点之间未对应的新旧元素按位置两两对应（视为修改），多出的旧元素删除、新元素插入</li>
+     * </ul>
+     *
+     * @param oldValues 旧元素
+     * @param newValues 新元素
+     * @return 旧元素对应的新下标（严格递增），-1 表示删除
+     */
+    static int[] alignElements(List<?> oldValues, List<?> newValues) {
+        int[] matches = JsonDiffer.matchByHash(oldValues, newValues);
+        boolean[] stable = JsonDiffer.longestIncreasingMatches(matches);
+
+        int[] targets = new int[matches.length];
+        Arrays.fill(targets, -1);
+        int oldStart = 0, newStart = 0;
+        for (int i = 0; i <= matches.length; i++) {
+            boolean anchor = i == matches.length || (matches[i] >= 0 && stable[i]);
+            if (!anchor) {
+                continue;
+            }
+
+            int oldEnd = i;
+            int newEnd = i == matches.length ? newValues.size() : matches[i];
+            int paired = Math.min(oldEnd - oldStart, newEnd - newStart);
+            for (int k = 0; k < paired; k++) {
+                targets[oldStart + k] = newStart + k;
+            }
+
+            if (i < matches.length) {
+                targets[i] = matches[i];
+            }
+
+            oldStart = oldEnd + 1;
+            newStart = newEnd + 1;
+        }
+
+        return targets;
+    }
+
+    private void patchChild(JsonTreeNode parent, JsonTreeNode child, Object newValue, boolean isElement) {
+        JsonTreeNodeType newType = isElement
+                ? (newValue instanceof ObjectWrapper ? JsonTreeNodeType.JSONObjectElement : JsonTreeNodeType.JSONArrayElement)
+                : (newValue instanceof ObjectWrapper ? JsonTreeNodeType.JSONObject
+                : newValue instanceof ArrayWrapper ? JsonTreeNodeType.JSONArray : JsonTreeNodeType.JSONObjectProperty);
+
+        boolean wasContainer = child.getValue() instanceof JsonWrapper;
+        // 数组下的数组与基本类型同为 JSONArrayElement，需额外区分是否为容器
+        boolean isContainer = newValue instanceof JsonWrapper;
+        if (newType != child.getNodeType() || wasContainer != isContainer) {
+            // 类型变化，替换节点
+            int index = parent.getIndex(child);
+            parent.remove(index);
+            model.nodesWereRemoved(parent, new int[]{index}, new Object[]{child});
+
+            int offset = parent instanceof JsonArrayRangeNode ? ((JsonArrayRangeNode) parent).getStart() : 0;
+            JsonTreeNode replacement = isElement
+                    ? JsonTreeNode.createElementNode(offset + index, newValue)
+                    : JsonTreeNode.createPropertyNode(String.valueOf(child.getUserObject()), newValue);
+
+            parent.insert(replacement, index);
+            model.nodesWereInserted(parent, new int[]{index});
+            return;
+        }
+
+        if (isContainer) {
+            patchContainer(child, newValue);
+        } else if (!Objects.equals(child.getValue(), newValue)) {
+            child.setValue(newValue);
+            child.setDisplayValue(null);
+            if (isElement) {
+                child.setUserObject(newValue instanceof String ? "\"" + newValue + "\"" : newValue);
+            }
+
+            model.nodeChanged(child);
+        }
+    }
+
+    private void removeChildren(JsonTreeNode node, List<Integer> indices, List<Object> nodes) {
+        if (indices.isEmpty()) {
+            return;
+        }
+
+        for (int i = indices.size() - 1; i >= 0; i--) {
+            node.remove(indices.get(i));
+        }
+
+        model.nodesWereRemoved(node, toArray(indices), nodes.toArray());
+    }
+
+    private static int sizeOf(Object value) {
+        if (value instanceof ObjectWrapper) {
+            return ((ObjectWrapper) value).size();
+        } else if (value instanceof ArrayWrapper) {
+            return ((ArrayWrapper) value).size();
+        }
+
+        return 0;
+    }
+
+    private static int[] toArray(List<Integer> list) {
+        int[] array = new int[list.size()];
+        for (int i = 0; i < list.size(); i++) {
+            array[i] = list.get(i);
+        }
+
+        return array;
+    }
+}
@@ -0,0 +1,377 @@
+package cn.memoryzy.json.ui.panel;
+
+import cn.hutool.core.util.StrUtil;
+import cn.memoryzy.json.bundle.JsonAssistantBundle;
+import cn.memoryzy.json.enums.JsonTreeNodeType;
+import cn.memoryzy.json.model.index.JsonWrapperIndex;
+import cn.memoryzy.json.model.wrapper.JsonWrapper;
+import cn.memoryzy.json.ui.node.JsonTreeNode;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.ui.DocumentAdapter;
+import com.intellij.ui.JBColor;
+import com.intellij.ui.SearchTextField;
+import com.intellij.ui.components.JBCheckBox;
+import com.intellij.ui.components.JBLabel;
+import com.intellij.ui.treeStructure.Tree;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.intellij.util.ui.JBUI;
+import com.intellij.util.ui.UIUtil;
+import com.intellij.util.ui.components.BorderLayoutPanel;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.event.DocumentEvent;
+import javax.swing.tree.DefaultTreeModel;
+import javax.swing.tree.TreePath;
+import java.awt.event.KeyAdapter;
+import java.awt.event.KeyEvent;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Json 结构树检索栏：基于 {@link JsonWrapperIndex} 在后台检索整个 Json（包括未展开的节点）
+ * <p>普通模式下选中并定位匹配节点（回车 / ↓ 下一个，Shift+回车 / ↑ 上一个）；过滤模式下只展示匹配节点所在的分支</p>
+ *
+ * @author Memory
+ * @since 2025/4/5
+ */
+public class JsonTreeSearchPanel extends BorderLayoutPanel {
+
+    /**
+     * 过滤模式下最多展示的匹配节点数
+     */
+    private static final int MAX_FILTER_RESULTS = 1000;
+
+    private static final ExecutorService EXECUTOR = AppExecutorUtil.createBoundedApplicationPoolExecutor("Json Assistant Tree Search", 1);
+
+    private final Tree tree;
+    private final SearchTextField searchField;
+    private final JBCheckBox filterCheckBox;
+    private final JBLabel resultLabel;
+
+    private JsonWrapper wrapper;
+    private JsonTreeNode fullRoot;
+
+    /**
+     * 索引在首次检索时构建，同一个 Json 只构建一次
+     */
+    private CompletableFuture<JsonWrapperIndex> indexFuture;
+
+    /**
+     * 检索批次号，丢弃过期批次的结果；后台检索据此判断是否已被新的检索取代
+     */
+    private volatile int generation;
+
+    /**
+     * 正在进行的检索，检索条件变化时取消
+     */
+    private CompletableFuture<int[]> searchFuture;
+
+    private JsonWrapperIndex index;
+    private int[] matchIds;
+    private List<TreePath> filterMatchPaths;
+    private int currentMatch = -1;
+
+    public JsonTreeSearchPanel(Tree tree) {
+        this.tree = tree;
+        this.searchField = new SearchTextField(false);
+        this.filterCheckBox = new JBCheckBox(JsonAssistantBundle.messageOnSystem("dialog.structure.search.filter.text"));
+        this.resultLabel = new JBLabel();
+        initComponents();
+    }
+
+    private void initComponents() {
+        searchField.getTextEditor().getEmptyText().setText(JsonAssistantBundle.messageOnSystem("dialog.structure.search.empty.text"));
+        searchField.addDocumentListener(new DocumentAdapter() {
+            @Override
+            protected void textChanged(@NotNull DocumentEvent e) {
+                search(true);
+            }
+        });
+
+        searchField.getTextEditor().addKeyListener(new KeyAdapter() {
+            @Override
+            public void keyPressed(KeyEvent e) {
+                int keyCode = e.getKeyCode();
+                if (keyCode == KeyEvent.VK_DOWN || (keyCode == KeyEvent.VK_ENTER && !e.isShiftDown())) {
+                    navigate(1);
+                    e.consume();
+                } else if (keyCode == KeyEvent.VK_UP || keyCode == KeyEvent.VK_ENTER) {
+                    navigate(-1);
+                    e.consume();
+                }
+            }
+        });
+
+        filterCheckBox.addActionListener(e -> search(true));
+        resultLabel.setForeground(UIUtil.getContextHelpForeground());
+        resultLabel.setBorder(JBUI.Borders.empty(0, 6));
+
+        BorderLayoutPanel eastPanel = new BorderLayoutPanel();
+        eastPanel.addToCenter(resultLabel);
+        eastPanel.addToRight(filterCheckBox);
+        eastPanel.setOpaque(false);
+
+        addToCenter(searchField);
+        addToRight(eastPanel);
+        setBorder(JBUI.Borders.empty(2, 2, 2, 6));
+    }
+
+    /**
+     * 切换到新的 Json，已输入的检索条件会重新检索
+     *
+     * @param wrapper  Json 对象
+     * @param fullRoot 完整树的根节点
+     */
+    public void reset(@Nullable JsonWrapper wrapper, JsonTreeNode fullRoot) {
+        this.wrapper = wrapper;
+        this.fullRoot = fullRoot;
+        if (indexFuture != null) {
+            indexFuture.cancel(false);
+            indexFuture = null;
+        }
+
+        // 刷新时只更新匹配结果，不改变当前选中
+        search(false);
+    }
+
+    /**
+     * 当前是否展示过滤树
+     */
+    public boolean isFiltered() {
+        return fullRoot != null && tree.getModel().getRoot() != fullRoot;
+    }
+
+    private void search(boolean navigate) {
+        int currentGeneration = ++generation;
+        if (searchFuture != null) {
+            // 尚未开始的检索直接跳过，正在进行的检索由批次号检查中断
+            searchFuture.cancel(false);
+            searchFuture = null;
+        }
+
+        String text = searchField.getText();
+        boolean filter = filterCheckBox.isSelected();
+        if (StrUtil.isEmpty(text)) {
+            applyResult(currentGeneration, null, null, false, filter, navigate);
+            return;
+        }
+
+        if (indexFuture == null) {
+            JsonWrapper snapshot = wrapper;
+            indexFuture = CompletableFuture.supplyAsync(() -> JsonWrapperIndex.build(snapshot), EXECUTOR);
+        }
+
+        CompletableFuture<JsonWrapperIndex> future = indexFuture;
+        BooleanSupplier canceled = () -> currentGeneration != generation;
+        searchFuture = future.thenApplyAsync(jsonIndex -> {
+            try {
+                return query(jsonIndex, text, canceled);
+            } catch (PatternSyntaxException e) {
+                return null;
+            }
+        }, EXECUTOR);
+
+        searchFuture.whenComplete((ids, throwable) -> {
+            if (canceled.getAsBoolean()) {
+                return;
+            }
+
+            JsonWrapperIndex jsonIndex = future.getNow(null);
+            // 只有正则表达式无效时结果为 null
+            boolean invalid = throwable == null && ids == null;
+            ApplicationManager.getApplication().invokeLater(
+                    () -> applyResult(currentGeneration, jsonIndex, ids, invalid, filter, navigate), ModalityState.any());
+        });
+    }
+
+    /**
+     * 解析检索条件：k: 前缀只匹配键，v: 前缀只匹配值，/.../ 为正则表达式
+     */
+    private static int[] query(JsonWrapperIndex jsonIndex, String text, BooleanSupplier canceled) {
+        JsonWrapperIndex.Scope scope = JsonWrapperIndex.Scope.ALL;
+        if (text.startsWith("k:")) {
+            scope = JsonWrapperIndex.Scope.KEY;
+            text = text.substring(2);
+        } else if (text.startsWith("v:")) {
+            scope = JsonWrapperIndex.Scope.VALUE;
+            text = text.substring(2);
+        }
+
+        if (text.length() > 2 && text.startsWith("/") && text.endsWith("/")) {
+            return jsonIndex.search(Pattern.compile(text.substring(1, text.length() - 1)), scope, canceled);
+        }
+
+        return jsonIndex.search(text, scope);
+    }
+
+    private void applyResult(int resultGeneration, JsonWrapperIndex jsonIndex, int[] ids, boolean invalid, boolean filter, boolean navigate) {
+        if (resultGeneration != generation) {
+            return;
+        }
+
+        index = jsonIndex;
+        matchIds = ids;
+        filterMatchPaths = null;
+        currentMatch = -1;
+
+        DefaultTreeModel model = (DefaultTreeModel) tree.getModel();
+        if (filter && ids != null && index != null) {
+            filterMatchPaths = buildFilteredTree(model);
+        } else if (model.getRoot() != fullRoot) {
+            model.setRoot(fullRoot);
+        }
+
+        if (invalid) {
+            resultLabel.setForeground(JBColor.RED);
+            resultLabel.setText(JsonAssistantBundle.messageOnSystem("dialog.structure.search.invalid.regex"));
+        } else if (ids == null) {
+            resultLabel.setText("");
+        } else if (getMatchCount() == 0) {
+            resultLabel.setForeground(JBColor.RED);
+            resultLabel.setText(JsonAssistantBundle.messageOnSystem("dialog.structure.search.no.result"));
+        } else if (navigate) {
+            navigate(1);
+        } else {
+            resultLabel.setForeground(UIUtil.getContextHelpForeground());
+            resultLabel.setText(String.valueOf(getMatchCount()));
+        }
+    }
+
+    private int getMatchCount() {
+        if (filterMatchPaths != null) {
+            return filterMatchPaths.size();
+        }
+
+        return matchIds == null || index == null ? 0 : matchIds.length;
+    }
+
+    /**
+     * 定位到下一个（或上一个）匹配节点
+     *
+     * @param step 1 为下一个，-1 为上一个
+     */
+    private void navigate(int step) {
+        int count = getMatchCount();
+        if (count == 0) {
+            return;
+        }
+
+        currentMatch = (currentMatch + step + count) % count;
+        TreePath path = filterMatchPaths != null ? filterMatchPaths.get(currentMatch) : resolvePath(matchIds[currentMatch]);
+        if (path != null) {
+            tree.setSelectionPath(path);
+            tree.scrollPathToVisible(path);
+        }
+
+        String total = filterMatchPaths != null && matchIds.length > count ? count + "+" : String.valueOf(count);
+        resultLabel.setForeground(UIUtil.getContextHelpForeground());
+        resultLabel.setText((currentMatch + 1) + "/" + total);
+    }
+
+    /**
+     * 在完整树中查找节点，路径上的节点会按需生成
+     *
+     * @param id 索引中的节点编号
+     * @return 树路径，节点已被移除时返回 null
+     */
+    private TreePath resolvePath(int id) {
+        List<JsonTreeNode> nodes = resolveNodes(id);
+        if (nodes == null) {
+            return null;
+        }
+
+        Object[] path = new Object[nodes.size() + 1];
+        path[0] = fullRoot;
+        for (int i = 0; i < nodes.size(); i++) {
+            path[i + 1] = nodes.get(i);
+        }
+
+        return new TreePath(path);
+    }
+
+    private List<JsonTreeNode> resolveNodes(int id) {
+        List<JsonTreeNode> nodes = new ArrayList<>();
+        JsonTreeNode node = fullRoot;
+        for (Object segment : index.getPath(id)) {
+            node = node.findChild(segment, nodes);
+            if (node == null) {
+                return null;
+            }
+
+            nodes.add(node);
+        }
+
+        return nodes;
+    }
+
+    /**
+     * 构建只包含匹配分支的过滤树：祖先节点只保留通往匹配节点的子节点，匹配节点保留全部子节点
+     *
+     * @param model 树模型
+     * @return 过滤树中匹配节点的路径
+     */
+    private List<TreePath> buildFilteredTree(DefaultTreeModel model) {
+        JsonTreeNode root = fullRoot.copyNode(false);
+        Map<JsonTreeNode, JsonTreeNode> copies = new IdentityHashMap<>();
+        Set<JsonTreeNode> matchedCopies = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<TreePath> paths = new ArrayList<>();
+
+        for (int i = 0; i < matchIds.length && paths.size() < MAX_FILTER_RESULTS; i++) {
+            List<JsonTreeNode> nodes = resolveNodes(matchIds[i]);
+            if (nodes == null) {
+                continue;
+            }
+
+            List<Object> copyPath = new ArrayList<>();
+            copyPath.add(root);
+            JsonTreeNode parentCopy = root;
+            boolean covered = false;
+            for (int j = 0; j < nodes.size(); j++) {
+                JsonTreeNode node = nodes.get(j);
+                // 过滤树中不保留分组节点
+                if (JsonTreeNodeType.JSONArrayRange.equals(node.getNodeType())) {
+                    continue;
+                }
+
+                JsonTreeNode copy = copies.get(node);
+                if (copy == null) {
+                    boolean matched = j == nodes.size() - 1;
+                    copy = node.copyNode(matched);
+                    parentCopy.add(copy);
+                    copies.put(node, copy);
+                    if (matched) {
+                        matchedCopies.add(copy);
+                    }
+                } else if (matchedCopies.contains(copy)) {
+                    // 祖先节点已匹配，其子节点已全部展示
+                    covered = true;
+                    break;
+                }
+
+                copyPath.add(copy);
+                parentCopy = copy;
+            }
+
+            if (!covered) {
+                paths.add(new TreePath(copyPath.toArray()));
+            }
+        }
+
+        model.setRoot(root);
+        for (TreePath path : paths) {
+            tree.expandPath(path.getParentPath());
+        }
+
+        return paths;
+    }
+
+    public SearchTextField getSearchField() {
+        return searchField;
+    }
+}
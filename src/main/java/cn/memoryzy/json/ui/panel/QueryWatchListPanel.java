@@ -0,0 +1,325 @@
+package cn.memoryzy.json.ui.panel;
+
+import cn.hutool.core.util.StrUtil;
+import cn.memoryzy.json.bundle.JsonAssistantBundle;
+import cn.memoryzy.json.constant.JsonAssistantPlugin;
+import cn.memoryzy.json.model.jsonpath.EvaluateResult;
+import cn.memoryzy.json.model.jsonpath.IncorrectDocument;
+import cn.memoryzy.json.model.jsonpath.WatchExpression;
+import cn.memoryzy.json.model.jsonpath.WatchResult;
+import cn.memoryzy.json.service.persistent.state.QueryState;
+import cn.memoryzy.json.util.JsonUtil;
+import cn.memoryzy.json.util.WatchListEvaluator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.intellij.icons.AllIcons;
+import com.intellij.ide.util.PropertiesComponent;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.Messages;
+import com.intellij.ui.ColoredTableCellRenderer;
+import com.intellij.ui.DumbAwareActionButton;
+import com.intellij.ui.JBColor;
+import com.intellij.ui.SimpleTextAttributes;
+import com.intellij.ui.ToolbarDecorator;
+import com.intellij.ui.table.TableView;
+import com.intellij.util.ExceptionUtil;
+import com.intellij.util.ui.ColumnInfo;
+import com.intellij.util.ui.JBUI;
+import com.intellij.util.ui.ListTableModel;
+import com.intellij.util.ui.components.BorderLayoutPanel;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.*;
+import javax.swing.table.TableCellRenderer;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.*;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 查询监视列表：保存常用表达式，并对当前文档批量计算
+ *
+ * @author Memory
+ * @since 2025/3/20
+ */
+public class QueryWatchListPanel extends BorderLayoutPanel {
+
+    private static final Logger LOG = Logger.getInstance(QueryWatchListPanel.class);
+
+    public static final String WATCH_LIST_KEY = JsonAssistantPlugin.PLUGIN_ID_NAME + ".QueryWatchList";
+
+    /**
+     * 结果列中展示的最大字符数
+     */
+    private static final int RESULT_PREVIEW_LENGTH = 120;
+
+    private final Project project;
+    private final Document document;
+    private final QueryState queryState;
+    private final Consumer<String> resultConsumer;
+    private final WatchListEvaluator evaluator = new WatchListEvaluator();
+    private final Map<WatchExpression, WatchResult> results = new IdentityHashMap<>();
+
+    private ListTableModel<WatchExpression> tableModel;
+    private TableView<WatchExpression> table;
+
+    /**
+     * 批次号，丢弃过期批次的结果
+     */
+    private int batch;
+
+    public QueryWatchListPanel(Project project, Document document, QueryState queryState, Consumer<String> resultConsumer) {
+        this.project = project;
+        this.document = document;
+        this.queryState = queryState;
+        this.resultConsumer = resultConsumer;
+        initComponents();
+    }
+
+    private void initComponents() {
+        tableModel = new ListTableModel<>(new ColumnInfo[]{new ExpressionColumn(), new ResultColumn(), new TimeColumn()},
+                new ArrayList<>(getWatchList(project)));
+
+        table = new TableView<>(tableModel);
+        table.setShowGrid(false);
+        table.getEmptyText().setText(JsonAssistantBundle.messageOnSystem("json.query.watch.empty.text"));
+        table.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (e.getClickCount() == 2) {
+                    WatchExpression selected = table.getSelectedObject();
+                    WatchResult result = selected == null ? null : results.get(selected);
+                    if (result != null && result.getResult() != null) {
+                        resultConsumer.accept(result.getResult().getMessage());
+                    }
+                }
+            }
+        });
+
+        ToolbarDecorator decorator = ToolbarDecorator.createDecorator(table)
+                .setAddAction(button -> addExpression())
+                .setRemoveAction(button -> removeSelectedExpressions())
+                .disableUpDownActions()
+                .addExtraAction(new EvaluateAllAction());
+
+        JLabel titleLabel = new JLabel(JsonAssistantBundle.messageOnSystem("json.query.watch.title"));
+        titleLabel.setBorder(JBUI.Borders.empty(3, 6));
+
+        addToTop(titleLabel);
+        addToCenter(decorator.createPanel());
+    }
+
+    /**
+     * 对当前文档批量计算所有监视表达式
+     */
+    public void evaluateAll() {
+        List<WatchExpression> expressions = new ArrayList<>(tableModel.getItems());
+        if (expressions.isEmpty()) {
+            return;
+        }
+
+        int currentBatch = ++batch;
+        long stamp = document.getModificationStamp();
+        String docText = document.getText();
+
+        evaluator.evaluateAll(expressions, stamp, docText).whenComplete((watchResults, throwable) ->
+                ApplicationManager.getApplication().invokeLater(() -> {
+                    // 已有更新的批次
+                    if (currentBatch != batch) {
+                        return;
+                    }
+
+                    results.clear();
+                    for (WatchResult watchResult : throwable == null ? watchResults : toErrorResults(expressions, throwable)) {
+                        results.put(watchResult.getWatchExpression(), watchResult);
+                    }
+
+                    tableModel.fireTableDataChanged();
+                }));
+    }
+
+    /**
+     * 批量计算整体失败（如解析文档时出错）时，每个表达式都展示该错误
+     */
+    private static List<WatchResult> toErrorResults(List<WatchExpression> expressions, Throwable throwable) {
+        LOG.warn("Failed to evaluate watch list", throwable);
+        Throwable cause = ExceptionUtil.getRootCause(throwable);
+        EvaluateResult error = new IncorrectDocument(Objects.toString(cause.getMessage(), cause.getClass().getSimpleName()));
+
+        List<WatchResult> errorResults = new ArrayList<>(expressions.size());
+        for (WatchExpression expression : expressions) {
+            errorResults.add(new WatchResult(expression, error, 0));
+        }
+
+        return errorResults;
+    }
+
+    private void addExpression() {
+        String expression = Messages.showInputDialog(
+                project,
+                JsonAssistantBundle.messageOnSystem("json.query.watch.add.message", queryState.querySchema.name()),
+                JsonAssistantBundle.messageOnSystem("json.query.watch.add.title"),
+                null,
+                null,
+                null);
+
+        if (StrUtil.isBlank(expression)) {
+            return;
+        }
+
+        tableModel.addRow(new WatchExpression(expression.trim(), queryState.querySchema));
+        saveWatchList();
+        evaluateAll();
+    }
+
+    private void removeSelectedExpressions() {
+        List<WatchExpression> selectedObjects = table.getSelectedObjects();
+        List<WatchExpression> items = new ArrayList<>(tableModel.getItems());
+        items.removeAll(selectedObjects);
+        selectedObjects.forEach(results::remove);
+
+        tableModel.setItems(items);
+        saveWatchList();
+    }
+
+    private void saveWatchList() {
+        PropertiesComponent.getInstance(project).setValue(WATCH_LIST_KEY, JsonUtil.compressJson(tableModel.getItems()));
+    }
+
+    public static List<WatchExpression> getWatchList(Project project) {
+        String value = PropertiesComponent.getInstance(project).getValue(WATCH_LIST_KEY);
+        if (StrUtil.isBlank(value)) {
+            return Collections.emptyList();
+        }
+
+        try {
+            return JsonUtil.MAPPER.readValue(value, new TypeReference<List<WatchExpression>>() {
+            });
+        } catch (Exception e) {
+            return Collections.emptyList();
+        }
+    }
+
+
+    class EvaluateAllAction extends DumbAwareActionButton {
+
+        public EvaluateAllAction() {
+            super(JsonAssistantBundle.messageOnSystem("json.query.watch.evaluate.text"),
+                    JsonAssistantBundle.messageOnSystem("json.query.watch.evaluate.description"),
+                    AllIcons.Actions.Refresh);
+        }
+
+        @Override
+        public void actionPerformed(@NotNull AnActionEvent e) {
+            evaluateAll();
+        }
+
+        @Override
+        public void updateButton(@NotNull AnActionEvent e) {
+            e.getPresentation().setEnabled(tableModel.getRowCount() > 0);
+        }
+    }
+
+    static class ExpressionColumn extends ColumnInfo<WatchExpression, WatchExpression> {
+
+        private static final TableCellRenderer RENDERER = new ColoredTableCellRenderer() {
+            @Override
+            protected void customizeCellRenderer(@NotNull JTable table, @Nullable Object value, boolean selected, boolean hasFocus, int row, int column) {
+                if (value instanceof WatchExpression) {
+                    WatchExpression expression = (WatchExpression) value;
+                    append(expression.getExpression(), SimpleTextAttributes.REGULAR_ATTRIBUTES);
+                    append("  " + expression.getSchema().name(), SimpleTextAttributes.GRAYED_ATTRIBUTES);
+                }
+            }
+        };
+
+        public ExpressionColumn() {
+            super(JsonAssistantBundle.messageOnSystem("json.query.watch.column.expression"));
+        }
+
+        @Override
+        public @Nullable WatchExpression valueOf(WatchExpression item) {
+            return item;
+        }
+
+        @Override
+        public @Nullable TableCellRenderer getRenderer(WatchExpression item) {
+            return RENDERER;
+        }
+    }
+
+    class ResultColumn extends ColumnInfo<WatchExpression, WatchResult> {
+
+        private final TableCellRenderer renderer = new ColoredTableCellRenderer() {
+            @Override
+            protected void customizeCellRenderer(@NotNull JTable table, @Nullable Object value, boolean selected, boolean hasFocus, int row, int column) {
+                if (value instanceof WatchResult) {
+                    WatchResult watchResult = (WatchResult) value;
+                    String message = Objects.toString(watchResult.getResult().getMessage(), "");
+                    // 单行预览
+                    String preview = StrUtil.subPre(message, RESULT_PREVIEW_LENGTH).replace('\n', ' ');
+                    if (message.length() > RESULT_PREVIEW_LENGTH) {
+                        preview += "...";
+                    }
+
+                    append(preview, watchResult.isSuccess() ? SimpleTextAttributes.REGULAR_ATTRIBUTES : SimpleTextAttributes.ERROR_ATTRIBUTES);
+                }
+            }
+        };
+
+        public ResultColumn() {
+            super(JsonAssistantBundle.messageOnSystem("json.query.watch.column.result"));
+        }
+
+        @Override
+        public @Nullable WatchResult valueOf(WatchExpression item) {
+            return results.get(item);
+        }
+
+        @Override
+        public @Nullable TableCellRenderer getRenderer(WatchExpression item) {
+            return renderer;
+        }
+    }
+
+    class TimeColumn extends ColumnInfo<WatchExpression, WatchResult> {
+
+        private final SimpleTextAttributes slowAttributes = new SimpleTextAttributes(SimpleTextAttributes.STYLE_BOLD, JBColor.RED);
+
+        private final TableCellRenderer renderer = new ColoredTableCellRenderer() {
+            @Override
+            protected void customizeCellRenderer(@NotNull JTable table, @Nullable Object value, boolean selected, boolean hasFocus, int row, int column) {
+                if (value instanceof WatchResult) {
+                    double millis = ((WatchResult) value).getElapsedMillis();
+                    // 耗时超过阈值的表达式高亮显示
+                    boolean slow = millis >= queryState.watchSlowThresholdMs;
+                    append(String.format("%.2f ms", millis), slow ? slowAttributes : SimpleTextAttributes.GRAYED_ATTRIBUTES);
+                }
+            }
+        };
+
+        public TimeColumn() {
+            super(JsonAssistantBundle.messageOnSystem("json.query.watch.column.time"));
+        }
+
+        @Override
+        public @Nullable WatchResult valueOf(WatchExpression item) {
+            return results.get(item);
+        }
+
+        @Override
+        public @Nullable TableCellRenderer getRenderer(WatchExpression item) {
+            return renderer;
+        }
+
+        @Override
+        public int getWidth(JTable table) {
+            return JBUI.scale(80);
+        }
+    }
+}
@@ -330,6 +330,8 @@ public class JsonValueHandler {
                     Object newValue = resolveSpecialType(value, handleType);
                     if (Objects.nonNull(newValue)) {
                         entry.setValue(newValue);
+                        // 通过 Entry 修改不会经过 ObjectWrapper 的方法，需手动使指纹失效
+                        JsonFingerprint.invalidate();
                     }
                 }
             }
@@ -41,10 +41,8 @@ import javax.swing.tree.DefaultMutableTreeNode;
 import javax.swing.tree.TreeNode;
 import javax.swing.tree.TreePath;
 import java.awt.*;
-import java.util.Enumeration;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Objects;
+import java.util.*;
+import java.util.List;
 
 
 /**
@@ -110,12 +108,14 @@ public class UIManager implements Disposable {
     }
 
     public static void collapseAll(Tree tree, TreePath parent) {
-        TreeNode node = (TreeNode) parent.getLastPathComponent();
-        if (node.getChildCount() >= 0) {
-            for (Enumeration<?> e = node.children(); e.hasMoreElements(); ) {
-                TreeNode n = (TreeNode) e.nextElement();
-                TreePath path = parent.pathByAddingChild(n);
-                collapseAll(tree, path);
+        // 只处理展开过的节点，避免遍历（并生成）未展开的子树
+        Enumeration<TreePath> expanded = tree.getExpandedDescendants(parent);
+        if (expanded != null) {
+            List<TreePath> paths = Collections.list(expanded);
+            // 由深到浅折叠
+            paths.sort(Comparator.comparingInt(TreePath::getPathCount).reversed());
+            for (TreePath path : paths) {
+                tree.collapsePath(path);
             }
         }
 
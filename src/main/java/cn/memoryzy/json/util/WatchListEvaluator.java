@@ -0,0 +1,122 @@
+package cn.memoryzy.json.util;
+
+import cn.hutool.core.util.StrUtil;
+import cn.memoryzy.json.bundle.JsonAssistantBundle;
+import cn.memoryzy.json.enums.JsonQuerySchema;
+import cn.memoryzy.json.model.jsonpath.EvaluateResult;
+import cn.memoryzy.json.model.jsonpath.IncorrectDocument;
+import cn.memoryzy.json.model.jsonpath.IncorrectExpression;
+import cn.memoryzy.json.model.jsonpath.WatchExpression;
+import cn.memoryzy.json.model.jsonpath.WatchResult;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.intellij.util.concurrency.AppExecutorUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+
+/**
+ * 监视列表批量计算：文档只解析一次，所有表达式在有界线程池中并发计算
+ *
+ * @author Memory
+ * @since 2025/3/20
+ */
+public class WatchListEvaluator {
+
+    private static final ExecutorService EXECUTOR = AppExecutorUtil.createBoundedApplicationPoolExecutor(
+            "Json Assistant Watch List", Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors())));
+
+    /**
+     * 上次解析所对应的文档修改戳
+     */
+    private long cachedStamp = -1;
+
+    /**
+     * 上次解析的文档
+     */
+    private JsonNode cachedDocument;
+
+    /**
+     * 批量计算监视表达式
+     *
+     * @param expressions 监视表达式
+     * @param stamp       文档修改戳（未变化时复用上次的解析结果）
+     * @param docText     文档文本
+     * @return 与表达式顺序一致的计算结果
+     */
+    public CompletableFuture<List<WatchResult>> evaluateAll(List<WatchExpression> expressions, long stamp, String docText) {
+        List<WatchExpression> snapshot = new ArrayList<>(expressions);
+        return CompletableFuture.supplyAsync(() -> parse(stamp, docText), EXECUTOR)
+                .thenCompose(document -> {
+                    if (document == null) {
+                        String message = JsonAssistantBundle.messageOnSystem("json.query.invalid.document");
+                        return CompletableFuture.completedFuture(snapshot.stream()
+                                .map(expression -> new WatchResult(expression, new IncorrectDocument(message), 0))
+                                .collect(Collectors.toList()));
+                    }
+
+                    List<CompletableFuture<WatchResult>> futures = snapshot.stream()
+                            .map(expression -> CompletableFuture.supplyAsync(() -> evaluate(expression, document), EXECUTOR))
+                            .collect(Collectors.toList());
+
+                    return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                            .thenApply(v -> futures.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+                });
+    }
+
+    /**
+     * 计算单个表达式并记录耗时，计算异常时返回该表达式的错误结果（不影响其他表达式）
+     *
+     * @param watchExpression 监视表达式
+     * @param document        已解析的文档
+     * @return 计算结果
+     */
+    public static WatchResult evaluate(WatchExpression watchExpression, JsonNode document) {
+        long start = System.nanoTime();
+        String expression = watchExpression.getExpression();
+        EvaluateResult result;
+        try {
+            result = JsonQuerySchema.JMESPath == watchExpression.getSchema()
+                    ? JmesPathEvaluator.evaluate(expression, document)
+                    : JsonPathEvaluator.evaluate(expression, document);
+        } catch (Exception e) {
+            result = new IncorrectExpression(Objects.toString(e.getMessage(), e.getClass().getSimpleName()));
+        }
+
+        return new WatchResult(watchExpression, result, System.nanoTime() - start);
+    }
+
+    /**
+     * 解析文档（支持 Json5），修改戳未变化时直接返回缓存
+     *
+     * @param stamp   文档修改戳
+     * @param docText 文档文本
+     * @return 解析后的文档，非法文档返回 null
+     */
+    private synchronized JsonNode parse(long stamp, String docText) {
+        if (stamp == cachedStamp && cachedDocument != null) {
+            return cachedDocument;
+        }
+
+        JsonNode document = null;
+        if (StrUtil.isNotBlank(docText)) {
+            try {
+                document = JsonUtil.MAPPER.readTree(docText);
+            } catch (Exception ignored) {
+            }
+
+            if (document == null || !document.isContainerNode()) {
+                Object data = Json5Util.resolveJson5(docText);
+                document = data == null ? null : JsonUtil.MAPPER.valueToTree(data);
+            }
+        }
+
+        cachedStamp = stamp;
+        cachedDocument = document;
+        return document;
+    }
+
+}
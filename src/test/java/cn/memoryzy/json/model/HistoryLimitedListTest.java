@@ -0,0 +1,185 @@
+package cn.memoryzy.json.model;
+
+import cn.memoryzy.json.model.wrapper.ObjectWrapper;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * 未关联磁盘存储，原文保留在内存中
+ *
+ * @author Memory
+ * @since 2025/4/14
+ */
+public class HistoryLimitedListTest {
+
+    @Test
+    public void evictsOldestBeyondMaxEntries() {
+        HistoryLimitedList history = new HistoryLimitedList(3);
+        for (int i = 0; i < 5; i++) {
+            history.add(json(i));
+        }
+
+        assertEquals(Arrays.asList(4, 3, 2), ids(history));
+        assertEquals(5, history.nextId());
+        assertTotalBytes(history);
+    }
+
+    @Test
+    public void duplicateMovesToFrontWithoutGrowing() {
+        HistoryLimitedList history = new HistoryLimitedList(10);
+        history.add(json(0));
+        history.add(json(1));
+        history.add(json(2));
+        long totalBytes = history.getTotalBytes();
+
+        JsonEntry moved = history.add(json(0));
+
+        assertSame(moved, history.getFirst());
+        assertEquals(3, history.size());
+        assertEquals(totalBytes, history.getTotalBytes());
+        assertEquals(json(0), history.getFirst().getJsonWrapper());
+        assertNotNull(history.find(json(1)));
+        assertFalse(history.exists(json(3)));
+    }
+
+    @Test
+    public void evictsOldestBeyondTotalBytes() {
+        long entryBytes = new JsonEntry(null, json(0)).getSize();
+        HistoryLimitedList history = new HistoryLimitedList(10, entryBytes * 2 + entryBytes / 2, 0, 0);
+        for (int i = 0; i < 4; i++) {
+            history.add(json(i));
+        }
+
+        assertEquals(Arrays.asList(3, 2), ids(history));
+        assertEquals(entryBytes * 2, history.getTotalBytes());
+        assertTotalBytes(history);
+    }
+
+    @Test
+    public void keepsNewestEntryEvenOverTotalBytes() {
+        HistoryLimitedList history = new HistoryLimitedList(10, 1, 0, 0);
+        history.add(json(0));
+        history.add(json(1));
+
+        assertEquals(1, history.size());
+        assertEquals(json(1), history.getFirst().getJsonWrapper());
+        assertTotalBytes(history);
+    }
+
+    @Test
+    public void rejectsEntryOverMaxEntryBytes() {
+        long entryBytes = new JsonEntry(null, json(0)).getSize();
+        HistoryLimitedList history = new HistoryLimitedList(10, 0, entryBytes, 0);
+
+        assertNotNull(history.add(json(0)));
+        assertNull(history.add(large()));
+        assertEquals(1, history.size());
+        assertEquals(entryBytes, history.getTotalBytes());
+    }
+
+    @Test
+    public void evictsExpiredEntriesButKeepsNewest() {
+        HistoryLimitedList history = new HistoryLimitedList(10, 0, 0, TimeUnit.HOURS.toMillis(1));
+        history.add(json(0));
+
+        JsonEntry expired = new JsonEntry(7, json(1));
+        expired.setInsertTime(LocalDateTime.now().minusHours(2));
+        history.add(expired);
+
+        assertEquals(1, history.size());
+        assertEquals(json(0), history.getFirst().getJsonWrapper());
+        assertTotalBytes(history);
+
+        // 只剩一条时即使过期也保留
+        HistoryLimitedList single = new HistoryLimitedList(10, 0, 0, TimeUnit.HOURS.toMillis(1));
+        single.add(expired);
+        assertEquals(1, single.size());
+    }
+
+    @Test
+    public void setPolicyTrimsImmediately() {
+        HistoryLimitedList history = new HistoryLimitedList(10);
+        for (int i = 0; i < 5; i++) {
+            history.add(json(i));
+        }
+
+        history.setPolicy(2, 0, 0, 0);
+
+        assertEquals(Arrays.asList(4, 3), ids(history));
+        assertTotalBytes(history);
+    }
+
+    @Test
+    public void loadingKeepsOrderAndSkipsDuplicates() {
+        HistoryLimitedList history = new HistoryLimitedList(10);
+        assertTrue(history.add(new JsonEntry(5, json(0))));
+        assertTrue(history.add(new JsonEntry(3, json(1))));
+        // 已有更新的同内容记录
+        assertFalse(history.add(new JsonEntry(1, json(0))));
+
+        assertEquals(Arrays.asList(5, 3), ids(history));
+        assertEquals(6, history.nextId());
+        assertTotalBytes(history);
+    }
+
+    @Test
+    public void removalUpdatesTotalBytes() {
+        HistoryLimitedList history = new HistoryLimitedList(10);
+        for (int i = 0; i < 4; i++) {
+            history.add(json(i));
+        }
+
+        history.removeById(1, 42);
+        assertEquals(Arrays.asList(3, 2, 0), ids(history));
+        assertTotalBytes(history);
+
+        assertTrue(history.removeIf(entry -> entry.getId() == 2));
+        assertEquals(Arrays.asList(3, 0), ids(history));
+        assertTotalBytes(history);
+
+        history.clear();
+        assertTrue(history.isEmpty());
+        assertEquals(0, history.getTotalBytes());
+        // id 只增不减
+        assertEquals(4, history.nextId());
+    }
+
+    @Test
+    public void searchFollowsEviction() {
+        HistoryLimitedList history = new HistoryLimitedList(2);
+        for (int i = 0; i < 3; i++) {
+            history.add(json(i));
+        }
+
+        assertTrue(history.search("value:item0").isEmpty());
+        assertEquals(1, history.search("value:item2").size());
+    }
+
+    private static ObjectWrapper json(int index) {
+        ObjectWrapper json = new ObjectWrapper();
+        json.put("value", "item" + index);
+        return json;
+    }
+
+    private static ObjectWrapper large() {
+        ObjectWrapper json = new ObjectWrapper();
+        json.put("value", "item".repeat(100));
+        return json;
+    }
+
+    private static List<Integer> ids(HistoryLimitedList history) {
+        return history.snapshot().stream().map(JsonEntry::getId).collect(Collectors.toList());
+    }
+
+    private static void assertTotalBytes(HistoryLimitedList history) {
+        long expected = history.snapshot().stream().mapToLong(JsonEntry::getSize).sum();
+        assertEquals(expected, history.getTotalBytes());
+    }
+}
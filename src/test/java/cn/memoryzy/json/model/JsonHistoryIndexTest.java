@@ -0,0 +1,130 @@
+package cn.memoryzy.json.model;
+
+import cn.memoryzy.json.model.wrapper.ArrayWrapper;
+import cn.memoryzy.json.model.wrapper.ObjectWrapper;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.*;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Memory
+ * @since 2025/4/14
+ */
+public class JsonHistoryIndexTest {
+
+    private final JsonHistoryIndex index = new JsonHistoryIndex();
+
+    @Before
+    public void setUp() {
+        index.put(1, JsonHistoryIndex.extractTerms(object("user", object("name", "Alice Smith", "age", 30), "status", "active")));
+        index.put(2, JsonHistoryIndex.extractTerms(object("name", "Alice", "status", "inactive")));
+        index.put(3, JsonHistoryIndex.extractTerms(object("owner", object("name", "Bob"), "status", "active")));
+    }
+
+    @Test
+    public void extractsKeysPathsValuesWordsAndPairs() {
+        List<String> terms = Arrays.asList(JsonHistoryIndex.extractTerms(object("user", object("Name", "Alice Smith", "tags", array("a")), "id", 7)));
+
+        assertTrue(terms.containsAll(Arrays.asList("k:user", "p:user", "k:name", "p:user.name", "v:alice smith", "kv:name=alice smith",
+                "w:alice", "w:smith", "p:user.tags", "v:a", "kv:tags=a", "k:id", "v:7", "kv:id=7")));
+        // 单个单词的值不再重复记录为单词
+        assertFalse(terms.contains("w:a"));
+        // 数字不拆分单词
+        assertFalse(terms.contains("w:7"));
+    }
+
+    @Test
+    public void exactMatchesOutrankPrefixMatches() {
+        // 2 的值恰为 alice，1 只有单词 alice
+        assertEquals(Arrays.asList(2, 1), index.search("alice"));
+    }
+
+    @Test
+    public void pairsMatchKeyAndValue() {
+        // 得分相同时较新的记录在前
+        assertEquals(Arrays.asList(3, 1), index.search("status:active"));
+        assertEquals(Arrays.asList(3, 1), index.search("\"status\" = \"active\""));
+        assertEquals(Arrays.asList(3, 2, 1), index.search("NAME:"));
+    }
+
+    @Test
+    public void pairWithPathRequiresPath() {
+        assertEquals(Collections.singletonList(1), index.search("user.name:alice"));
+    }
+
+    @Test
+    public void allClausesMustMatch() {
+        assertEquals(Collections.singletonList(3), index.search("status:active bob"));
+        assertEquals(Collections.emptyList(), index.search("status:active carol"));
+        assertEquals(Collections.emptyList(), index.search("   "));
+    }
+
+    @Test
+    public void tokensMatchKeyAndPathPrefixes() {
+        assertEquals(Arrays.asList(3, 2, 1), index.search("stat"));
+    }
+
+    @Test
+    public void removedEntriesAreNoLongerFound() {
+        index.remove(2);
+        assertFalse(index.contains(2));
+        assertEquals(Collections.singletonList(1), index.search("alice"));
+
+        index.retainAll(Collections.singletonList(3));
+        assertEquals(Collections.singletonList(3), index.search("status:active"));
+
+        index.clear();
+        assertEquals(Collections.emptyList(), index.search("status"));
+    }
+
+    @Test
+    public void putReplacesPreviousTerms() {
+        index.put(3, JsonHistoryIndex.extractTerms(object("status", "closed")));
+
+        assertEquals(Collections.singletonList(1), index.search("status:active"));
+        assertEquals(Collections.emptyList(), index.search("bob"));
+    }
+
+    @Test
+    public void roundTripsThroughStream() throws IOException {
+        assertTrue(index.isDirty());
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        index.write(new DataOutputStream(bytes));
+        assertFalse(index.isDirty());
+
+        JsonHistoryIndex loaded = new JsonHistoryIndex();
+        assertTrue(loaded.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))));
+        assertFalse(loaded.isDirty());
+        assertEquals(index.search("alice"), loaded.search("alice"));
+        assertEquals(index.search("status:active"), loaded.search("status:active"));
+    }
+
+    @Test
+    public void ignoresOtherVersions() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new DataOutputStream(bytes).writeInt(-1);
+
+        JsonHistoryIndex loaded = new JsonHistoryIndex();
+        assertFalse(loaded.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))));
+        assertEquals(Collections.emptyList(), loaded.search("alice"));
+    }
+
+    private static ObjectWrapper object(Object... keyValues) {
+        ObjectWrapper object = new ObjectWrapper();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            object.put((String) keyValues[i], keyValues[i + 1]);
+        }
+
+        return object;
+    }
+
+    private static ArrayWrapper array(Object... elements) {
+        return new ArrayWrapper(Arrays.asList(elements));
+    }
+}
@@ -0,0 +1,157 @@
+package cn.memoryzy.json.service;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Memory
+ * @since 2025/4/14
+ */
+public class JsonBlobStoreTest {
+
+    private static final String FIRST = "{\"id\":1}";
+    private static final String SECOND = "{\"id\":2}";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path directory;
+    private JsonBlobStore store;
+
+    @Before
+    public void setUp() {
+        directory = folder.getRoot().toPath().resolve("blobs");
+        store = new JsonBlobStore(directory);
+    }
+
+    @Test
+    public void identicalTextIsStoredOnce() throws IOException {
+        String key = store.put("a", FIRST);
+
+        assertEquals(JsonBlobStore.keyOf(FIRST), key);
+        assertEquals(key, store.put("b", FIRST));
+        assertEquals(FIRST, store.get(key));
+        assertEquals(Collections.singletonList(key), blobKeys());
+
+        // 不经缓存，从文件读取
+        assertEquals(FIRST, new JsonBlobStore(directory).get(key));
+    }
+
+    @Test
+    public void blobIsDeletedWhenLastOwnerReleasesIt() throws IOException {
+        String key = store.put("a", FIRST);
+        store.put("b", FIRST);
+
+        store.retain("a", Collections.emptyList());
+        assertEquals(FIRST, store.get(key));
+
+        store.retain("b", Collections.emptyList());
+        assertNull(store.get(key));
+        assertTrue(blobKeys().isEmpty());
+    }
+
+    @Test
+    public void retainReplacesOwnerReferences() throws IOException {
+        String first = store.put("a", FIRST);
+        String second = store.put("a", SECOND);
+
+        store.retain("a", Collections.singletonList(first));
+
+        assertEquals(Collections.singletonList(first), blobKeys());
+        assertNull(store.get(second));
+
+        // 重新登记已删除的原文时补写
+        assertEquals(second, store.put("a", SECOND));
+        assertEquals(SECOND, store.get(second));
+    }
+
+    @Test
+    public void loadingSweepsUnreferencedBlobs() throws IOException {
+        String first = store.put("a", FIRST);
+        store.retain("a", Collections.singletonList(first));
+        // 写入后未登记（如异常退出）
+        String second = store.put("a", SECOND);
+        Path stray = directory.resolve("zz").resolve("stray.bin");
+        Files.createDirectories(stray.getParent());
+        Files.write(stray, new byte[]{1});
+
+        JsonBlobStore reloaded = new JsonBlobStore(directory);
+        // 首次使用时读取引用记录
+        reloaded.retain("a", Collections.singletonList(first));
+
+        assertEquals(Collections.singletonList(first), blobKeys());
+        assertNull(reloaded.get(second));
+        assertEquals(FIRST, reloaded.get(first));
+        assertTrue(Files.exists(directory.resolve("refs.bin")));
+    }
+
+    @Test
+    public void readsReferencesWithLastSeenTimes() throws IOException {
+        String first = store.put("old", FIRST);
+        String second = store.put("fresh", SECOND);
+
+        // 版本 2 的引用记录带有各项目的最近登记时间，长期未登记的项目不再被释放
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(directory.resolve("refs.bin")))) {
+            out.writeInt(2);
+            out.writeInt(2);
+            writeOwner(out, "old", 0, first);
+            writeOwner(out, "fresh", System.currentTimeMillis(), second);
+        }
+
+        JsonBlobStore reloaded = new JsonBlobStore(directory);
+        reloaded.retain("fresh", Collections.singletonList(second));
+
+        assertEquals(2, blobKeys().size());
+        assertEquals(FIRST, reloaded.get(first));
+        assertEquals(SECOND, reloaded.get(second));
+    }
+
+    @Test
+    public void referencesSurviveReload() throws IOException {
+        String first = store.put("a", FIRST);
+        String second = store.put("b", SECOND);
+        store.retain("a", Collections.singletonList(first));
+        store.retain("b", Arrays.asList(first, second));
+
+        JsonBlobStore reloaded = new JsonBlobStore(directory);
+        reloaded.retain("b", Collections.emptyList());
+
+        // a 仍引用 first
+        assertEquals(Collections.singletonList(first), blobKeys());
+    }
+
+    private static void writeOwner(DataOutputStream out, String owner, long lastSeen, String key) throws IOException {
+        out.writeUTF(owner);
+        out.writeLong(lastSeen);
+        out.writeInt(1);
+        out.writeUTF(key);
+    }
+
+    private List<String> blobKeys() throws IOException {
+        if (!Files.exists(directory)) {
+            return Collections.emptyList();
+        }
+
+        try (Stream<Path> files = Files.walk(directory, 2)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.endsWith(".bin") && !name.equals("refs.bin"))
+                    .map(name -> name.substring(0, name.length() - ".bin".length()))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package cn.memoryzy.json.ui.node;
+
+import cn.memoryzy.json.model.wrapper.ArrayWrapper;
+import cn.memoryzy.json.model.wrapper.ObjectWrapper;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+
+import javax.swing.event.TreeModelEvent;
+import javax.swing.event.TreeModelListener;
+import javax.swing.tree.DefaultTreeModel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 节点生成依赖插件配置（数组分组大小），因此在平台测试环境中运行
+ *
+ * @author Memory
+ * @since 2025/4/14
+ */
+public class JsonTreePatcherTest extends BasePlatformTestCase {
+
+    public void testAlignKeepsElementsAroundInsertion() {
+        assertAligned(new int[]{0, 2, 3}, Arrays.asList("a", "b", "c"), Arrays.asList("a", "x", "b", "c"));
+    }
+
+    public void testAlignPairsGapElementsByPosition() {
+        assertAligned(new int[]{0, 1, 2, 3}, Arrays.asList("a", "b", "c", "d"), Arrays.asList("a", "x", "y", "d"));
+        assertAligned(new int[]{0, 1, -1, 2}, Arrays.asList("a", "b", "c", "d"), Arrays.asList("a", "x", "d"));
+    }
+
+    public void testAlignRemovesSurplusElements() {
+        assertAligned(new int[]{0, -1, -1, 1}, Arrays.asList("a", "b", "c", "d"), Arrays.asList("a", "d"));
+        assertAligned(new int[]{-1, -1}, Arrays.asList("a", "b"), List.of());
+    }
+
+    public void testAlignMovedElementIsRemovedAndReinserted() {
+        // b c d 保持不动，a 从首位移到末尾
+        assertAligned(new int[]{-1, 0, 1, 2}, Arrays.asList("a", "b", "c", "d"), Arrays.asList("b", "c", "d", "a"));
+    }
+
+    public void testAlignDuplicatesInOrder() {
+        assertAligned(new int[]{0, -1, 1}, Arrays.asList("a", "a", "b"), Arrays.asList("a", "b", "a"));
+    }
+
+    public void testPatchKeepsUnchangedNodes() {
+        ObjectWrapper oldJson = object("a", 1, "list", array(1, 2, 3), "obj", object("x", 1));
+        JsonTreeNode root = JsonTreeNode.createRoot(oldJson);
+        DefaultTreeModel model = new DefaultTreeModel(root);
+
+        JsonTreeNode a = (JsonTreeNode) root.getChildAt(0);
+        JsonTreeNode list = (JsonTreeNode) root.getChildAt(1);
+        JsonTreeNode obj = (JsonTreeNode) root.getChildAt(2);
+        List<JsonTreeNode> elements = children(list);
+        List<int[]> inserted = recordInsertions(model, list);
+
+        assertTrue(JsonTreePatcher.patch(model, object("a", 2, "list", array(0, 1, 2, 3), "obj", object("x", 1))));
+
+        assertSame(a, root.getChildAt(0));
+        assertEquals(2, a.getValue());
+        assertSame(list, root.getChildAt(1));
+        assertSame(obj, root.getChildAt(2));
+        // 未展开过的节点不生成子节点
+        assertFalse(obj.isChildrenLoaded());
+
+        assertEquals(4, list.getChildCount());
+        assertEquals(0, ((JsonTreeNode) list.getChildAt(0)).getValue());
+        assertEquals(elements, children(list).subList(1, 4));
+        assertEquals(1, inserted.size());
+        assertEquals("[0]", Arrays.toString(inserted.get(0)));
+    }
+
+    public void testPatchRenamesShiftedContainerElements() {
+        JsonTreeNode root = JsonTreeNode.createRoot(array(object("id", 1), object("id", 2)));
+        DefaultTreeModel model = new DefaultTreeModel(root);
+        JsonTreeNode second = (JsonTreeNode) root.getChildAt(1);
+
+        assertTrue(JsonTreePatcher.patch(model, array(object("id", 0), object("id", 1), object("id", 2))));
+
+        assertEquals(3, root.getChildCount());
+        assertSame(second, root.getChildAt(2));
+        assertEquals("item2", second.getUserObject());
+        assertEquals("item0", ((JsonTreeNode) root.getChildAt(0)).getUserObject());
+    }
+
+    public void testPatchReloadsWhenKeyOrderChanges() {
+        JsonTreeNode root = JsonTreeNode.createRoot(object("a", 1, "b", 2));
+        DefaultTreeModel model = new DefaultTreeModel(root);
+        JsonTreeNode first = (JsonTreeNode) root.getChildAt(0);
+
+        assertTrue(JsonTreePatcher.patch(model, object("b", 2, "a", 1)));
+
+        assertFalse(root.isChildrenLoaded());
+        assertEquals("b", ((JsonTreeNode) root.getChildAt(0)).getUserObject());
+        assertNotSame(first, root.getChildAt(1));
+    }
+
+    public void testPatchRejectsDifferentRootType() {
+        JsonTreeNode root = JsonTreeNode.createRoot(object("a", 1));
+        assertFalse(JsonTreePatcher.patch(new DefaultTreeModel(root), array(1)));
+    }
+
+    private static void assertAligned(int[] expected, List<?> oldValues, List<?> newValues) {
+        assertEquals(Arrays.toString(expected), Arrays.toString(JsonTreePatcher.alignElements(oldValues, newValues)));
+    }
+
+    private static List<JsonTreeNode> children(JsonTreeNode node) {
+        List<JsonTreeNode> children = new ArrayList<>();
+        for (int i = 0; i < node.getChildCount(); i++) {
+            children.add((JsonTreeNode) node.getChildAt(i));
+        }
+
+        return children;
+    }
+
+    private static List<int[]> recordInsertions(DefaultTreeModel model, JsonTreeNode parent) {
+        List<int[]> inserted = new ArrayList<>();
+        model.addTreeModelListener(new TreeModelListener() {
+            @Override
+            public void treeNodesInserted(TreeModelEvent e) {
+                if (e.getTreePath().getLastPathComponent() == parent) {
+                    inserted.add(e.getChildIndices());
+                }
+            }
+
+            @Override
+            public void treeNodesChanged(TreeModelEvent e) {
+            }
+
+            @Override
+            public void treeNodesRemoved(TreeModelEvent e) {
+            }
+
+            @Override
+            public void treeStructureChanged(TreeModelEvent e) {
+            }
+        });
+
+        return inserted;
+    }
+
+    private static ObjectWrapper object(Object... keyValues) {
+        ObjectWrapper object = new ObjectWrapper();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            object.put((String) keyValues[i], keyValues[i + 1]);
+        }
+
+        return object;
+    }
+
+    private static ArrayWrapper array(Object... elements) {
+        return new ArrayWrapper(Arrays.asList(elements));
+    }
+}